@@ -0,0 +1,62 @@
+// Catalog read load test (k6): platform threads vs. virtual threads.
+//
+// 1. Start the app twice, once per mode, with everything else identical:
+//      SPRING_PROFILES_ACTIVE=dev          java -jar app.jar
+//      SPRING_PROFILES_ACTIVE=dev,virtual  java -Djdk.tracePinnedThreads=short -jar app.jar
+//    (-Djdk.tracePinnedThreads prints a stack whenever a virtual thread pins its carrier;
+//    the run should log none.)
+// 2. Run against each:
+//      k6 run -e BASE_URL=http://localhost:8080/v1.0 -e USERNAME=superadmin -e PASSWORD=admin123 \
+//             -e VUS=2000 load-test/catalog-read.js
+// 3. Compare http_reqs (throughput), http_req_duration p95/p99 and http_req_failed.
+//
+// Each VU sends If-None-Match with the ETag it last saw, the way the mobile clients poll,
+// unless CONDITIONAL=false is passed to measure full responses only.
+import http from 'k6/http';
+import {check} from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/v1.0';
+const VUS = parseInt(__ENV.VUS || '2000');
+const CONDITIONAL = (__ENV.CONDITIONAL || 'true') === 'true';
+
+export const options = {
+    scenarios: {
+        catalog: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: __ENV.DURATION || '2m',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    const res = http.post(`${BASE_URL}/auth/login`, JSON.stringify({
+        username: __ENV.USERNAME || 'superadmin',
+        password: __ENV.PASSWORD || 'admin123',
+    }), {headers: {'Content-Type': 'application/json'}});
+    check(res, {'logged in': (r) => r.status === 200});
+    return {token: res.json('data.accessToken')};
+}
+
+const PATHS = [
+    '/dish/?page=0&size=10&sortBy=name',
+    '/ingredients/?page=0&size=10&sortBy=name',
+    '/category/?page=0&size=10&sortBy=name',
+];
+const etags = {};
+
+export default function (data) {
+    const path = PATHS[Math.floor(Math.random() * PATHS.length)];
+    const headers = {Authorization: `Bearer ${data.token}`};
+    if (CONDITIONAL && etags[path]) {
+        headers['If-None-Match'] = etags[path];
+    }
+    const res = http.get(`${BASE_URL}${path}`, {headers, tags: {endpoint: path.split('/')[1]}});
+    check(res, {'200 or 304': (r) => r.status === 200 || r.status === 304});
+    if (res.headers.Etag) {
+        etags[path] = res.headers.Etag;
+    }
+}
@@ -0,0 +1,39 @@
+package com.conal.dishbuilder.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Cache-aside lookup that runs the loader outside Caffeine's compute. Loading inside
+ * {@code Cache.get(key, fn)} holds a {@code ConcurrentHashMap} bin lock ({@code synchronized})
+ * across the database or Redis call, which pins the carrier thread of a virtual thread on Java 21.
+ * The price is that concurrent misses on one key may each load it; all our loaders are idempotent reads.
+ * <p>
+ * Because the load is not ordered against invalidations, each cache keeps a generation counter that
+ * it increments before every invalidation. A loaded value is only stored if no invalidation started
+ * while it was being loaded, so a stale read can never overwrite an invalidation.
+ */
+final class Caches {
+
+    private Caches() {
+    }
+
+    /**
+     * @return the cached value, or the loaded one (cached unless {@code null} or invalidated meanwhile)
+     */
+    static <K, V> V getOrLoad(Cache<K, V> cache, AtomicLong generation, K key, Function<? super K, ? extends V> loader) {
+        V value = cache.getIfPresent(key);
+        if (value == null) {
+            long loadedAt = generation.get();
+            value = loader.apply(key);
+            if (value != null) {
+                V loaded = value;
+                // The check and the store are atomic against invalidate(key); no I/O runs under the lock
+                cache.asMap().compute(key, (k, existing) -> generation.get() == loadedAt ? loaded : existing);
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,185 @@
+package com.conal.dishbuilder.cache;
+
+import com.conal.dishbuilder.dto.request.FilterBaseRequest;
+import com.conal.dishbuilder.dto.response.PageResponse;
+import com.conal.dishbuilder.util.RedisUtils;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier cache of catalog listing pages (local Caffeine in front of Redis), keyed by endpoint,
+ * tenant, {@link CatalogVersion} and the normalized filter. A catalog write bumps the tenant's
+ * version, so stale pages are never invalidated individually; they are just no longer asked for.
+ * <p>
+ * Cached pages are shared between requests and must be treated as read-only.
+ * Per endpoint, {@code catalog.cache.requests} counts local, redis, miss and bypass outcomes and
+ * {@code catalog.cache.hit.ratio} reports the share served from either tier.
+ */
+@Slf4j
+@Component
+public class CatalogCache {
+    public static final String DISH = "dish";
+    public static final String INGREDIENTS = "ingredients";
+    private static final String KEY_PREFIX = "catalog:";
+
+    private final CatalogVersion catalogVersion;
+    private final RedisUtils redisUtils;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, PageResponse<?>> cache;
+    private final long redisTtlSeconds;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    public CatalogCache(CatalogVersion catalogVersion,
+                        RedisUtils redisUtils,
+                        ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry,
+                        @Value("${dish-builder.cache.catalog.max-size:5000}") long maxSize,
+                        @Value("${dish-builder.cache.catalog.ttl:PT5M}") Duration ttl,
+                        @Value("${dish-builder.cache.catalog.redis-ttl:PT10M}") Duration redisTtl) {
+        this.catalogVersion = catalogVersion;
+        this.redisUtils = redisUtils;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.redisTtlSeconds = redisTtl.toSeconds();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "catalogCache");
+    }
+
+    /**
+     * Serves the page for {@code filter} from the local tier, then Redis, then {@code loader}.
+     * The filter's tenant must already be set. Unpaged listings and listings made while the
+     * version is unknown go straight to the loader.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> PageResponse<T> get(String endpoint, FilterBaseRequest filter,
+                                   TypeReference<PageResponse<T>> type, Supplier<PageResponse<T>> loader) {
+        EndpointStats endpointStats = stats.computeIfAbsent(endpoint, EndpointStats::new);
+        UUID tenantId = filter.getTenantId();
+        long version = tenantId != null ? catalogVersion.current(tenantId) : CatalogVersion.UNKNOWN;
+        if (version == CatalogVersion.UNKNOWN || filter.isIgnorePaging()) {
+            endpointStats.bypass.increment();
+            return loader.get();
+        }
+
+        String key = KEY_PREFIX + endpoint + ":" + tenantId + ":v" + version + ":" + fingerprint(filter);
+        PageResponse<T> page = (PageResponse<T>) cache.getIfPresent(key);
+        if (page != null) {
+            endpointStats.local.increment();
+            return page;
+        }
+
+        page = readRedis(key, type);
+        if (page != null) {
+            cache.put(key, page);
+            endpointStats.redis.increment();
+            return page;
+        }
+
+        page = loader.get();
+        cache.put(key, page);
+        writeRedis(key, page);
+        endpointStats.miss.increment();
+        return page;
+    }
+
+    private <T> PageResponse<T> readRedis(String key, TypeReference<PageResponse<T>> type) {
+        try {
+            String json = redisUtils.get(key);
+            return json != null ? objectMapper.readValue(json, type) : null;
+        } catch (Exception e) {
+            log.warn("Failed to read catalog page {} from Redis: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, PageResponse<?> page) {
+        try {
+            redisUtils.set(key, objectMapper.writeValueAsString(page), redisTtlSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            // The local tier still has it; peers load their own copy
+            log.warn("Failed to write catalog page {} to Redis: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Filters that differ only in field order, blank values, surrounding whitespace or the case
+     * of the sort direction share a fingerprint.
+     */
+    String fingerprint(FilterBaseRequest filter) {
+        Map<String, String> normalized = new TreeMap<>();
+        JsonNode tree = objectMapper.valueToTree(filter);
+        for (Map.Entry<String, JsonNode> field : tree.properties()) {
+            JsonNode value = field.getValue();
+            if (value.isNull() || (value.isTextual() && value.asText().isBlank())) {
+                continue;
+            }
+            String text = value.isTextual() ? value.asText().trim() : value.toString();
+            normalized.put(field.getKey(), "sortDirection".equals(field.getKey()) ? text.toUpperCase(Locale.ROOT) : text);
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(normalized.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private class EndpointStats {
+        private final Counter local;
+        private final Counter redis;
+        private final Counter miss;
+        private final Counter bypass;
+
+        private EndpointStats(String endpoint) {
+            this.local = counter(endpoint, "local");
+            this.redis = counter(endpoint, "redis");
+            this.miss = counter(endpoint, "miss");
+            this.bypass = counter(endpoint, "bypass");
+            Gauge.builder("catalog.cache.hit.ratio", this, EndpointStats::hitRatio)
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry);
+        }
+
+        private Counter counter(String endpoint, String result) {
+            return Counter.builder("catalog.cache.requests")
+                    .tag("endpoint", endpoint)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+
+        private double hitRatio() {
+            double hits = local.count() + redis.count();
+            double total = hits + miss.count() + bypass.count();
+            return total == 0 ? 0.0 : hits / total;
+        }
+    }
+}
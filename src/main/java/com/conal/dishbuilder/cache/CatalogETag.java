@@ -0,0 +1,38 @@
+package com.conal.dishbuilder.cache;
+
+import com.conal.dishbuilder.context.TenantContextHolder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.UUID;
+
+/**
+ * Strong ETags for catalog reads, derived from the tenant's {@link CatalogVersion} rather than
+ * from the response body. Any dish, ingredient or category write changes the tag, so a matching
+ * {@code If-None-Match} can be answered with 304 before the service or the database is involved.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogETag {
+    private final CatalogVersion catalogVersion;
+
+    /**
+     * Sets the ETag on the response and checks it against {@code If-None-Match}.
+     *
+     * @return {@code true} if the client's copy is current; the 304 status is already set and the
+     * handler should return {@code null}
+     */
+    public boolean checkNotModified(WebRequest request) {
+        UUID tenantId = TenantContextHolder.getTenantContext();
+        if (tenantId == null) {
+            return false;
+        }
+        long version = catalogVersion.current(tenantId);
+        if (version == CatalogVersion.UNKNOWN) {
+            // No trustworthy version; always send the full body
+            return false;
+        }
+        return request.checkNotModified("\"" + tenantId + "-" + version + "\"");
+    }
+}
@@ -0,0 +1,86 @@
+package com.conal.dishbuilder.cache;
+
+import com.conal.dishbuilder.util.RedisUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-tenant catalog version counter in Redis. Every dish, ingredient, category or user profile
+ * write bumps it after commit, which retires all cached listings of that tenant at once:
+ * {@link CatalogCache} keys entries by version, so nothing has to be deleted and old entries simply age out.
+ * <p>
+ * Reads are memoized locally for a short TTL, so another node observes a bump within that window.
+ */
+@Slf4j
+@Component
+public class CatalogVersion {
+    private static final String KEY_PREFIX = "catalog:version:";
+    // Returned when Redis cannot be read; callers must not cache against it
+    public static final long UNKNOWN = -1L;
+
+    private final RedisUtils redisUtils;
+    private final Cache<UUID, Long> versions;
+    private final AtomicLong generation = new AtomicLong();
+
+    public CatalogVersion(RedisUtils redisUtils,
+                          @Value("${dish-builder.cache.catalog.version-ttl:PT1S}") Duration ttl) {
+        this.redisUtils = redisUtils;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public long current(UUID tenantId) {
+        return Caches.getOrLoad(versions, generation, tenantId, this::read);
+    }
+
+    /**
+     * Bumps the tenant's version once the surrounding transaction commits (immediately when no
+     * transaction is active), so a listing reloaded under the new version sees the write.
+     */
+    public void bumpAfterCommit(UUID tenantId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(tenantId);
+                }
+            });
+        } else {
+            bump(tenantId);
+        }
+    }
+
+    private void bump(UUID tenantId) {
+        // A read still in flight must not overwrite the bumped version with the old one
+        generation.incrementAndGet();
+        try {
+            Long version = redisUtils.increment(KEY_PREFIX + tenantId);
+            versions.put(tenantId, version != null ? version : UNKNOWN);
+        } catch (Exception e) {
+            // Stale listings stay bounded by the cache TTLs
+            log.warn("Failed to bump catalog version for tenant {}: {}", tenantId, e.getMessage());
+            versions.invalidate(tenantId);
+        }
+    }
+
+    private long read(UUID tenantId) {
+        try {
+            String version = redisUtils.get(KEY_PREFIX + tenantId);
+            return version != null ? Long.parseLong(version) : 0L;
+        } catch (Exception e) {
+            log.warn("Failed to read catalog version for tenant {}: {}", tenantId, e.getMessage());
+            return UNKNOWN;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.conal.dishbuilder.cache;
+
+import com.conal.dishbuilder.constant.CountMode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.querydsl.core.types.Predicate;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Listing totals for {@link CountMode#ESTIMATED}, keyed by entity, tenant and filter predicate.
+ * Services evict an entity's counts for a tenant after every write on this node commits; other nodes
+ * converge within the TTL, which is the staleness an estimated total accepts.
+ */
+@Component
+public class CountCache {
+    public static final String DISH = "dish";
+    public static final String INGREDIENTS = "ingredients";
+    public static final String CATEGORY = "category";
+    public static final String USER = "user";
+    public static final String TENANT = "tenant";
+
+    private record CountKey(String entity, UUID tenantId, String predicate) {
+    }
+
+    private final Cache<CountKey, Long> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public CountCache(MeterRegistry meterRegistry,
+                      @Value("${dish-builder.cache.count.max-size:10000}") long maxSize,
+                      @Value("${dish-builder.cache.count.ttl:PT1M}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "countCache");
+    }
+
+    /**
+     * Runs the count query for {@link CountMode#EXACT}, or serves it from cache for {@link CountMode#ESTIMATED}.
+     */
+    public long count(String entity, UUID tenantId, Predicate where, CountMode mode, Supplier<Long> query) {
+        if (mode != CountMode.ESTIMATED) {
+            return orZero(query.get());
+        }
+        return Caches.getOrLoad(cache, generation, new CountKey(entity, tenantId, String.valueOf(where)), k -> orZero(query.get()));
+    }
+
+    /**
+     * Evicts once the surrounding transaction commits (immediately when no transaction is active).
+     * Evicting earlier would let a concurrent read cache the pre-commit count for the whole TTL.
+     */
+    public void evictAfterCommit(String entity, UUID tenantId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(entity, tenantId);
+                }
+            });
+        } else {
+            evict(entity, tenantId);
+        }
+    }
+
+    /**
+     * Drops the entity's counts for the tenant, plus cross-tenant counts; a null tenant drops them all.
+     */
+    public void evict(String entity, UUID tenantId) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.entity().equals(entity)
+                && (tenantId == null || key.tenantId() == null || Objects.equals(key.tenantId(), tenantId)));
+    }
+
+    private static long orZero(Long count) {
+        return count != null ? count : 0L;
+    }
+}
@@ -0,0 +1,99 @@
+package com.conal.dishbuilder.cache;
+
+import com.conal.dishbuilder.constant.Constants;
+import com.conal.dishbuilder.domain.CategoryEntity;
+import com.conal.dishbuilder.domain.RoleEntity;
+import com.conal.dishbuilder.domain.TenantEntity;
+import com.conal.dishbuilder.util.RedisUtils;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps the Hibernate second-level cache of reference data coherent across nodes. Each node's cache
+ * is local (Caffeine), so a committed role, category or tenant write is broadcast on {@link #CHANNEL}
+ * as {@code <entity>:<id>} and every node evicts that entity and the related query results.
+ */
+@Slf4j
+@Component
+public class SecondLevelCacheSync implements MessageListener {
+    public static final String CHANNEL = "l2-cache:evict";
+
+    private static final Map<String, Class<?>> CACHED_ENTITIES = Map.of(
+            RoleEntity.class.getSimpleName(), RoleEntity.class,
+            CategoryEntity.class.getSimpleName(), CategoryEntity.class,
+            TenantEntity.class.getSimpleName(), TenantEntity.class);
+    private static final Map<Class<?>, String> QUERY_REGIONS = Map.of(
+            RoleEntity.class, Constants.CacheRegion.ROLE_QUERY);
+
+    private final RedisUtils redisUtils;
+    // Resolved lazily: Hibernate creates this listener while the EntityManagerFactory is being built
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    public SecondLevelCacheSync(RedisUtils redisUtils, ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.redisUtils = redisUtils;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void entityChanged(Object entity) {
+        Object id = entityManagerFactory.getObject().getPersistenceUnitUtil().getIdentifier(entity);
+        String message = entity.getClass().getSimpleName() + ":" + id;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcast(message);
+                }
+            });
+        } else {
+            broadcast(message);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        Class<?> entityClass = separator > 0 ? CACHED_ENTITIES.get(body.substring(0, separator)) : null;
+        if (entityClass == null) {
+            log.warn("Ignoring malformed second-level cache eviction: {}", body);
+            return;
+        }
+        EntityManagerFactory factory = entityManagerFactory.getObject();
+        try {
+            factory.getCache().evict(entityClass, UUID.fromString(body.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed second-level cache eviction: {}", body);
+            return;
+        }
+        String queryRegion = QUERY_REGIONS.get(entityClass);
+        if (queryRegion != null) {
+            factory.unwrap(SessionFactory.class).getCache().evictQueryRegion(queryRegion);
+        }
+    }
+
+    private void broadcast(String message) {
+        try {
+            redisUtils.publish(CHANNEL, message);
+        } catch (Exception e) {
+            // Peers still converge through the region TTL
+            log.warn("Failed to broadcast second-level cache eviction {}: {}", message, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.conal.dishbuilder.cache;
+
+import com.conal.dishbuilder.constant.CommonStatus;
+import com.conal.dishbuilder.domain.TenantEntity;
+import com.conal.dishbuilder.util.RedisUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Resolved-tenant cache keyed by subdomain and status.
+ * Entries are bounded and expire after a TTL; every node drops its copy when a
+ * tenant write commits anywhere in the cluster (Redis pub/sub on {@link #CHANNEL}).
+ */
+@Slf4j
+@Component
+public class TenantCache implements MessageListener {
+    public static final String CHANNEL = "tenant-cache:invalidate";
+    private static final String ALL = "*";
+
+    private final Cache<String, TenantEntity> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final RedisUtils redisUtils;
+
+    public TenantCache(RedisUtils redisUtils,
+                       MeterRegistry meterRegistry,
+                       @Value("${dish-builder.cache.tenant.max-size:1000}") long maxSize,
+                       @Value("${dish-builder.cache.tenant.ttl:PT10M}") Duration ttl) {
+        this.redisUtils = redisUtils;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tenantCache");
+    }
+
+    public TenantEntity get(String subDomain, CommonStatus status, Supplier<TenantEntity> loader) {
+        return Caches.getOrLoad(cache, generation, key(subDomain, status), k -> loader.get());
+    }
+
+    /**
+     * Invalidates every cached tenant once the surrounding transaction commits
+     * (immediately when no transaction is active) and tells the other nodes to do the same.
+     */
+    public void invalidateAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateAndBroadcast();
+                }
+            });
+        } else {
+            invalidateAndBroadcast();
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        log.debug("Tenant cache invalidation received: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+        invalidateAll();
+    }
+
+    private void invalidateAndBroadcast() {
+        invalidateAll();
+        try {
+            redisUtils.publish(CHANNEL, ALL);
+        } catch (Exception e) {
+            // Peers still converge through the TTL
+            log.warn("Failed to broadcast tenant cache invalidation: {}", e.getMessage());
+        }
+    }
+
+    private void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private static String key(String subDomain, CommonStatus status) {
+        return subDomain + ":" + status.name();
+    }
+}
@@ -0,0 +1,168 @@
+package com.conal.dishbuilder.cache;
+
+import com.conal.dishbuilder.util.RedisUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Local Bloom filter of blacklisted token fingerprints placed in front of the Redis blacklist.
+ * <p>
+ * A negative answer is authoritative, so nearly every request skips the Redis round trip; only
+ * possible hits are confirmed against Redis. The filter is fed by the blacklisting node directly,
+ * by peers over {@link #CHANNEL}, and rebuilt from a Redis SCAN on a fixed delay so a missed
+ * message is bounded by the resync interval. A rebuild that runs past {@code resync-timeout} is
+ * abandoned and the current filter kept, so it cannot hold the shared scheduler thread. Until the
+ * first rebuild completes every check falls through to Redis.
+ */
+@Slf4j
+@Component
+public class TokenBlacklistFilter implements MessageListener {
+    public static final String CHANNEL = "token-blacklist:added";
+    // Shared by per-token entries and per-user revoke watermarks so one SCAN rebuilds both
+    public static final String KEY_MARKER = "blacklisted::";
+
+    private final RedisUtils redisUtils;
+    private final long expectedInsertions;
+    private final double fpp;
+    private final Duration resyncTimeout;
+    private final Counter negatives;
+    private final Counter confirmedPositives;
+    private final Counter falsePositives;
+    private final Timer propagationLag;
+    // Orders add() against the swap in resync(), so an entry added mid-rebuild reaches the new filter
+    private final ReentrantLock swapLock = new ReentrantLock();
+
+    private volatile BloomFilter current;
+    private BloomFilter rebuilding;
+    private volatile boolean ready;
+    private volatile long lastSyncMillis;
+
+    public TokenBlacklistFilter(RedisUtils redisUtils,
+                                MeterRegistry meterRegistry,
+                                @Value("${dish-builder.blacklist.bloom.expected-insertions:1000000}") long expectedInsertions,
+                                @Value("${dish-builder.blacklist.bloom.fpp:0.001}") double fpp,
+                                @Value("${dish-builder.blacklist.bloom.resync-timeout:PT30S}") Duration resyncTimeout) {
+        this.redisUtils = redisUtils;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.resyncTimeout = resyncTimeout;
+        this.current = new BloomFilter(expectedInsertions, fpp);
+        this.negatives = meterRegistry.counter("token.blacklist.bloom.checks", "result", "negative");
+        this.confirmedPositives = meterRegistry.counter("token.blacklist.bloom.checks", "result", "confirmed");
+        this.falsePositives = meterRegistry.counter("token.blacklist.bloom.checks", "result", "false_positive");
+        this.propagationLag = meterRegistry.timer("token.blacklist.bloom.propagation.lag");
+        Gauge.builder("token.blacklist.bloom.expected.fpp", this, f -> f.current.expectedFpp())
+                .register(meterRegistry);
+        Gauge.builder("token.blacklist.bloom.sync.age", this,
+                        f -> f.lastSyncMillis == 0 ? Double.NaN : (System.currentTimeMillis() - f.lastSyncMillis) / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public boolean mightContain(String fingerprint) {
+        if (!ready) {
+            return true;
+        }
+        boolean maybe = current.mightContain(fingerprint);
+        if (!maybe) {
+            negatives.increment();
+        }
+        return maybe;
+    }
+
+    /**
+     * Records the Redis answer for a Bloom positive so the observed false-positive rate is measurable.
+     */
+    public void recordConfirmation(boolean blacklisted) {
+        (blacklisted ? confirmedPositives : falsePositives).increment();
+    }
+
+    /**
+     * Adds a fingerprint locally and tells the other nodes about it.
+     */
+    public void addAndBroadcast(String fingerprint) {
+        add(fingerprint);
+        try {
+            redisUtils.publish(CHANNEL, System.currentTimeMillis() + "|" + fingerprint);
+        } catch (Exception e) {
+            // Peers pick the entry up on their next resync
+            log.warn("Failed to broadcast blacklisted token: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        if (separator < 0) {
+            return;
+        }
+        long publishedAt = Long.parseLong(body.substring(0, separator));
+        add(body.substring(separator + 1));
+        propagationLag.record(Math.max(0, System.currentTimeMillis() - publishedAt), TimeUnit.MILLISECONDS);
+    }
+
+    @Scheduled(fixedDelayString = "${dish-builder.blacklist.bloom.resync-interval:PT5M}")
+    public void resync() {
+        BloomFilter fresh = new BloomFilter(expectedInsertions, fpp);
+        setRebuilding(fresh);
+        long deadline = System.nanoTime() + resyncTimeout.toNanos();
+        try {
+            // Checked between keys; a single SCAN page is bounded by the Redis command timeout
+            redisUtils.scan("*" + KEY_MARKER + "*", key -> {
+                if (System.nanoTime() - deadline >= 0) {
+                    throw new IllegalStateException("timed out after " + resyncTimeout + " at " + fresh.insertions() + " entries");
+                }
+                fresh.put(key.substring(key.indexOf(KEY_MARKER) + KEY_MARKER.length()));
+            });
+            swapLock.lock();
+            try {
+                current = fresh;
+                rebuilding = null;
+            } finally {
+                swapLock.unlock();
+            }
+            lastSyncMillis = System.currentTimeMillis();
+            ready = true;
+            log.debug("Token blacklist filter rebuilt with {} entries", fresh.insertions());
+        } catch (Exception e) {
+            log.error("Token blacklist filter resync failed: {}", e.getMessage());
+            setRebuilding(null);
+        }
+    }
+
+    private void setRebuilding(BloomFilter filter) {
+        swapLock.lock();
+        try {
+            rebuilding = filter;
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    private void add(String fingerprint) {
+        // The SCAN may already be past this key, so it has to reach the filter being rebuilt as well
+        swapLock.lock();
+        try {
+            current.put(fingerprint);
+            if (rebuilding != null) {
+                rebuilding.put(fingerprint);
+            }
+        } finally {
+            swapLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.conal.dishbuilder.cache;
+
+import com.conal.dishbuilder.constant.CommonStatus;
+import com.conal.dishbuilder.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Short-lived cache of user account status used by the stateless JWT path.
+ * A disabled or deleted account stops authenticating within one TTL.
+ */
+@Component
+public class UserStatusCache {
+    private final UserRepository userRepository;
+    private final Cache<UUID, CommonStatus> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public UserStatusCache(UserRepository userRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${dish-builder.cache.user-status.max-size:10000}") long maxSize,
+                           @Value("${dish-builder.cache.user-status.ttl:PT30S}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userStatusCache");
+    }
+
+    public boolean isActive(UUID userId) {
+        return Caches.getOrLoad(cache, generation, userId,
+                id -> userRepository.findStatusById(id).orElse(CommonStatus.INACTIVE)) == CommonStatus.ACTIVE;
+    }
+
+    public void invalidate(UUID userId) {
+        generation.incrementAndGet();
+        cache.invalidate(userId);
+    }
+}
@@ -1,9 +1,14 @@
 package com.conal.dishbuilder.config;
 
+import com.conal.dishbuilder.cache.SecondLevelCacheSync;
+import com.conal.dishbuilder.cache.TenantCache;
+import com.conal.dishbuilder.cache.TokenBlacklistFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.mail.javamail.JavaMailSender;
@@ -31,6 +36,19 @@ public class CentralConfiguration {
         return template;
     }
 
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       TenantCache tenantCache,
+                                                                       TokenBlacklistFilter tokenBlacklistFilter,
+                                                                       SecondLevelCacheSync secondLevelCacheSync) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tenantCache, new ChannelTopic(TenantCache.CHANNEL));
+        container.addMessageListener(tokenBlacklistFilter, new ChannelTopic(TokenBlacklistFilter.CHANNEL));
+        container.addMessageListener(secondLevelCacheSync, new ChannelTopic(SecondLevelCacheSync.CHANNEL));
+        return container;
+    }
+
     @Bean
     public JavaMailSender javaMailSender() {
         return new JavaMailSenderImpl();
@@ -1,21 +1,27 @@
 package com.conal.dishbuilder.config;
 
+import com.conal.dishbuilder.cache.UserStatusCache;
+import com.conal.dishbuilder.config.security.RoleAuthorities;
 import com.conal.dishbuilder.constant.CommonStatus;
 import com.conal.dishbuilder.constant.TokenType;
 import com.conal.dishbuilder.context.TenantContextHolder;
+import com.conal.dishbuilder.context.TokenContextHolder;
 import com.conal.dishbuilder.context.UserContextHolder;
-import com.conal.dishbuilder.domain.TenantEntity;
 import com.conal.dishbuilder.exception.NotFoundException;
 import com.conal.dishbuilder.service.TenantService;
 import com.conal.dishbuilder.util.JwtUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.annotation.Nonnull;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
@@ -31,25 +37,41 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     private final JwtUtils jwtUtils;
     private final UserDetailsService userDetailsService;
     private final TenantService tenantService;
+    private final UserStatusCache userStatusCache;
+
+    /**
+     * When enabled, tokens carrying a user id claim are authenticated from their claims
+     * instead of reloading the user from the database on every request.
+     */
+    @Value("${dish-builder.security.stateless-auth:false}")
+    private boolean statelessAuth;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, @Nonnull HttpServletResponse response, @Nonnull FilterChain filterChain) {
         String header = request.getHeader("Authorization");
         String token = null;
         String username = null;
+        UUID defaultTenantId = null;
         if (header != null && header.startsWith("Bearer ")) {
             token = header.substring(7);
-            username = jwtUtils.getUsername(token);
+            try {
+                // Parse once; later lookups on this token reuse the claims from the context
+                Claims claims = jwtUtils.parse(token);
+                TokenContextHolder.setTokenContext(token, claims);
+                username = claims.getSubject();
+            } catch (JwtException | IllegalArgumentException e) {
+                log.warn("Rejected bearer token: {}", e.getMessage());
+            }
         }
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             try {
                 // Set default tenant context for authentication
-                TenantEntity defaultTenant = tenantService.findDefaultTenant();
-                TenantContextHolder.setTenantContext(defaultTenant.getId());
+                defaultTenantId = tenantService.findDefaultTenant().getId();
+                TenantContextHolder.setTenantContext(defaultTenantId);
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                if (jwtUtils.validateToken(token) && !jwtUtils.existsTokenInBlacklist(token, TokenType.ACCESS)) {
+                UserDetails userDetails = resolveUserDetails(token, username);
+                if (userDetails != null && jwtUtils.validateToken(token) && !jwtUtils.existsTokenInBlacklist(token, TokenType.ACCESS)) {
                     var auth = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                     auth.setDetails(userDetails);
                     SecurityContextHolder.getContext().setAuthentication(auth);
@@ -60,9 +82,11 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         }
 
         try {
-            // Always set default tenant context for the request
-            TenantEntity tenant = tenantService.findDefaultTenant();
-            TenantContextHolder.setTenantContext(tenant.getId());
+            // Always set default tenant context for the request, resolving it at most once
+            if (defaultTenantId == null) {
+                defaultTenantId = tenantService.findDefaultTenant().getId();
+            }
+            TenantContextHolder.setTenantContext(defaultTenantId);
             UserContextHolder.setUserContext(username);
             filterChain.doFilter(request, response);
         } catch (Exception e) {
@@ -77,6 +101,22 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         } finally {
             TenantContextHolder.clearTenantContext();
             UserContextHolder.clearUserContext();
+            TokenContextHolder.clearTokenContext();
+        }
+    }
+
+    private UserDetails resolveUserDetails(String token, String username) {
+        UUID userId = statelessAuth ? jwtUtils.getUserId(token) : null;
+        if (userId == null) {
+            return userDetailsService.loadUserByUsername(username);
+        }
+        if (!userStatusCache.isActive(userId)) {
+            log.warn("Rejecting token of inactive user: {}", username);
+            return null;
         }
+        return User.withUsername(username)
+                .password("")
+                .authorities(RoleAuthorities.of(jwtUtils.getRoles(token)))
+                .build();
     }
 }
@@ -0,0 +1,27 @@
+package com.conal.dishbuilder.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the PostgreSQL full-text search functions used by the QueryDSL repositories, so HQL can
+ * reference them through {@code Expressions} templates. Loaded by Hibernate via
+ * {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}.
+ * <ul>
+ *     <li>{@code fts_match(vector, query)} - {@code vector @@ to_tsquery('simple', query)}</li>
+ *     <li>{@code fts_rank(vector, query)} - {@code ts_rank(vector, to_tsquery('simple', query))}</li>
+ * </ul>
+ */
+public class SearchFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        functionContributions.getFunctionRegistry().registerPattern("fts_match",
+                "(?1 @@ to_tsquery('simple', ?2))", types.resolve(StandardBasicTypes.BOOLEAN));
+        functionContributions.getFunctionRegistry().registerPattern("fts_rank",
+                "ts_rank(?1, to_tsquery('simple', ?2))", types.resolve(StandardBasicTypes.DOUBLE));
+    }
+}
@@ -0,0 +1,73 @@
+package com.conal.dishbuilder.config;
+
+import com.conal.dishbuilder.constant.Constants;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level and query cache for near-static reference data (roles, categories,
+ * tenants), backed by bounded Caffeine caches through JCache. Cross-node invalidation is done by
+ * {@link com.conal.dishbuilder.cache.SecondLevelCacheSync}; hit/miss counts are published as
+ * {@code hibernate.second.level.cache.requests} through Actuator.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+    private static final String JCACHE_CACHE_MANAGER = "hibernate.javax.cache.cache_manager";
+    private static final String JCACHE_MISSING_CACHE_STRATEGY = "hibernate.javax.cache.missing_cache_strategy";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(@Value("${dish-builder.cache.l2.max-size:10000}") long maxSize,
+                                                @Value("${dish-builder.cache.l2.ttl:PT1H}") Duration ttl) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        List<String> regions = List.of(Constants.CacheRegion.ROLE, Constants.CacheRegion.CATEGORY,
+                Constants.CacheRegion.TENANT, Constants.CacheRegion.ROLE_QUERY,
+                RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+        for (String region : regions) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            configuration.setStatisticsEnabled(true);
+            createIfMissing(cacheManager, region, configuration);
+        }
+        // Update timestamps must outlive every cached query result, so this region is never evicted
+        CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setStatisticsEnabled(true);
+        createIfMissing(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestamps);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager,
+                                                                    @Value("${dish-builder.cache.l2.statistics:true}") boolean statistics) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.putIfAbsent(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.putIfAbsent(JCACHE_CACHE_MANAGER, secondLevelCacheManager);
+            properties.putIfAbsent(JCACHE_MISSING_CACHE_STRATEGY, "fail");
+            properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, statistics);
+        };
+    }
+
+    private static void createIfMissing(CacheManager cacheManager, String region, CaffeineConfiguration<Object, Object> configuration) {
+        // The provider shares managers per URI, e.g. between test contexts
+        if (cacheManager.getCache(region) == null) {
+            cacheManager.createCache(region, configuration);
+        }
+    }
+}
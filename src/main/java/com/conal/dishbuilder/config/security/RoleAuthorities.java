@@ -0,0 +1,28 @@
+package com.conal.dishbuilder.config.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Maps role names to the {@code ROLE_} authorities checked by {@link RequireSuperAdmin} and
+ * {@link RequireAdminOrSuperAdmin}. Both the database and the stateless JWT path build their
+ * authorities here, so a request is authorized the same way whichever path authenticates it.
+ */
+public final class RoleAuthorities {
+    private static final String PREFIX = "ROLE_";
+
+    private RoleAuthorities() {
+    }
+
+    public static List<GrantedAuthority> of(Collection<String> roleNames) {
+        if (roleNames == null) {
+            return List.of();
+        }
+        return roleNames.stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority(PREFIX + role))
+                .toList();
+    }
+}
@@ -27,11 +27,21 @@ public class Constants {
         public final static String TOO_FAST = "TOO_FAST";
     }
 
+    /**
+     * Hibernate second-level cache regions; entity ids are globally unique, tenant-owned lookups
+     * still check the tenant of the cached row.
+     */
+    public static class CacheRegion {
+        public static final String ROLE = "dish-builder.role";
+        public static final String CATEGORY = "dish-builder.category";
+        public static final String TENANT = "dish-builder.tenant";
+        public static final String ROLE_QUERY = "dish-builder.role.query";
+    }
+
     public static final int MAX_RETRIES = 5;
     public static final int START = 0;
     public static final int END = -1;
     public static int EXPIRY_TIME = 5; //mins
     public static int OTP_LENGTH = 6; //mins
-    public static String FORGOT_PASSWORD_OTP_TEMPLATE_FILE_PATH = "templates/otp-mail.html";
     public static String SUBJECT = "[Dish-Builder] Xác thực tài khoản - OTP của bạn";
 }
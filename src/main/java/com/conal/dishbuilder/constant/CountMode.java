@@ -0,0 +1,13 @@
+package com.conal.dishbuilder.constant;
+
+/**
+ * How a paged listing computes its total.
+ */
+public enum CountMode {
+    // Separate count query on every request
+    EXACT,
+    // Per-tenant count cached for a short TTL and dropped on writes
+    ESTIMATED,
+    // No count; one extra row is fetched to tell whether a next page exists
+    NONE
+}
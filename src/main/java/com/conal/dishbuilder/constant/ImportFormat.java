@@ -0,0 +1,13 @@
+package com.conal.dishbuilder.constant;
+
+public enum ImportFormat {
+    CSV,
+    NDJSON;
+
+    public static final String CSV_MEDIA_TYPE = "text/csv";
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+    public static ImportFormat fromContentType(String contentType) {
+        return contentType != null && contentType.toLowerCase().contains("ndjson") ? NDJSON : CSV;
+    }
+}
@@ -0,0 +1,8 @@
+package com.conal.dishbuilder.constant;
+
+public enum MailStatus {
+    PENDING,  // waiting for its next attempt
+    SENDING,  // claimed by a worker until locked_until
+    SENT,
+    DEAD      // gave up after the maximum number of attempts
+}
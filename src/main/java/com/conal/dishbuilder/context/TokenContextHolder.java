@@ -0,0 +1,27 @@
+package com.conal.dishbuilder.context;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Holds the bearer token of the current request together with its verified claims,
+ * so the token is parsed once per request no matter how many callers inspect it.
+ */
+public class TokenContextHolder {
+    private static final ThreadLocal<ParsedToken> tokenContext = new ThreadLocal<>();
+
+    public static void setTokenContext(String token, Claims claims) {
+        tokenContext.set(new ParsedToken(token, claims));
+    }
+
+    public static Claims getClaims(String token) {
+        ParsedToken parsed = tokenContext.get();
+        return parsed != null && parsed.token().equals(token) ? parsed.claims() : null;
+    }
+
+    public static void clearTokenContext() {
+        tokenContext.remove();
+    }
+
+    private record ParsedToken(String token, Claims claims) {
+    }
+}
@@ -3,6 +3,7 @@ package com.conal.dishbuilder.controller;
 import com.conal.dishbuilder.constant.Constants;
 import com.conal.dishbuilder.dto.request.*;
 import com.conal.dishbuilder.dto.response.BaseResponse;
+import com.conal.dishbuilder.ratelimit.RateLimited;
 import com.conal.dishbuilder.service.AuthService;
 import com.conal.dishbuilder.service.UserService;
 import jakarta.validation.Valid;
@@ -37,6 +38,7 @@ public class AuthController {
     }
 
     @PostMapping("/login")
+    @RateLimited(action = "LOGIN", limit = 10, key = RateLimited.Key.IP)
     public ResponseEntity<BaseResponse<LoginResponse>> login(@RequestBody LoginRequest request) {
         LoginResponse login = authService.login(request);
 
@@ -74,6 +76,7 @@ public class AuthController {
     }
 
     @PostMapping("/validate-otp")
+    @RateLimited(action = "VALIDATE_OTP", limit = 10, window = "PT5M")
     public ResponseEntity<BaseResponse<Boolean>> validateOtp(@Valid @RequestBody ValidateOtpRequest request) {
         log.info("Validate OTP for sessionId: {}", request.getSessionId());
         boolean validateOtp = authService.validateOtp(request.getSessionId(), request.getOtp());
@@ -108,5 +111,24 @@ public class AuthController {
                 .body("Logged out");
     }
 
+    @PostMapping("/logout-all")
+    public ResponseEntity<?> logoutAll(@RequestHeader("Authorization") String authHeader) {
+        String accessToken = authHeader.replace("Bearer ", "");
+
+        authService.logoutAll(accessToken);
+
+        ResponseCookie deleteCookie = ResponseCookie.from("refreshToken", "")
+                .httpOnly(true)
+                .secure(true)
+                .path("/")
+                .maxAge(0)
+                .sameSite("Strict")
+                .build();
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, deleteCookie.toString())
+                .body("Logged out from all sessions");
+    }
+
 
 }
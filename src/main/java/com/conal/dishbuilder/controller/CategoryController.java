@@ -1,21 +1,29 @@
 package com.conal.dishbuilder.controller;
 
+import com.conal.dishbuilder.cache.CatalogETag;
 import com.conal.dishbuilder.constant.Constants;
+import com.conal.dishbuilder.constant.ImportFormat;
 import com.conal.dishbuilder.dto.CreateCategoryRequest;
 import com.conal.dishbuilder.dto.UpdateCategoryRequest;
 import com.conal.dishbuilder.dto.request.filter.CategoryFilterRequest;
 import com.conal.dishbuilder.dto.response.BaseResponse;
+import com.conal.dishbuilder.dto.response.ImportResponse;
 import com.conal.dishbuilder.dto.response.CategoryResponse;
 import com.conal.dishbuilder.dto.response.PageResponse;
+import com.conal.dishbuilder.service.CatalogImportService;
 import com.conal.dishbuilder.service.CategoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.util.UUID;
 
 @RestController
@@ -24,6 +32,8 @@ import java.util.UUID;
 @Tag(name = "Category Management", description = "APIs for managing categories")
 public class CategoryController {
     private final CategoryService categoryService;
+    private final CatalogETag catalogETag;
+    private final CatalogImportService catalogImportService;
 
     @PostMapping("/")
     @Operation(summary = "Create a new category", description = "Create a new category for the current tenant")
@@ -31,18 +41,34 @@ public class CategoryController {
         return ResponseEntity.ok(BaseResponse.ok(categoryService.addCategory(category)));
     }
 
+    @PostMapping(value = "/import", consumes = {ImportFormat.CSV_MEDIA_TYPE, ImportFormat.NDJSON_MEDIA_TYPE})
+    @Operation(summary = "Import categories", description = "Bulk import categories from a CSV (with header row) or NDJSON body; invalid rows are skipped and reported")
+    public ResponseEntity<BaseResponse<ImportResponse>> importCategories(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        return ResponseEntity.ok(BaseResponse.ok(catalogImportService.importCategories(body, ImportFormat.fromContentType(contentType))));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get category by ID", description = "Retrieve a specific category by its ID")
     public ResponseEntity<BaseResponse<CategoryResponse>> getCategoryById(
-            @Parameter(description = "Category ID") @PathVariable UUID id) {
-        return ResponseEntity.ok(BaseResponse.ok(categoryService.getCategoryById(id)));
+            @Parameter(description = "Category ID") @PathVariable UUID id,
+            WebRequest webRequest) {
+        if (catalogETag.checkNotModified(webRequest)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(BaseResponse.ok(categoryService.getCategoryById(id)));
     }
 
     @GetMapping("/")
     @Operation(summary = "Get categories with filtering and pagination", description = "Retrieve categories with optional filtering and pagination")
     public ResponseEntity<BaseResponse<PageResponse<CategoryResponse>>> getCategories(
-            @Parameter(description = "Filter and pagination parameters") CategoryFilterRequest filterRequest) {
-        return ResponseEntity.ok(BaseResponse.ok(categoryService.getCategories(filterRequest)));
+            @Parameter(description = "Filter and pagination parameters") CategoryFilterRequest filterRequest,
+            WebRequest webRequest) {
+        if (catalogETag.checkNotModified(webRequest)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(BaseResponse.ok(categoryService.getCategories(filterRequest)));
     }
 
     @PutMapping("/{id}")
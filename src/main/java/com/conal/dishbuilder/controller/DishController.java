@@ -1,10 +1,15 @@
 package com.conal.dishbuilder.controller;
 
+import com.conal.dishbuilder.cache.CatalogETag;
 import com.conal.dishbuilder.constant.Constants;
+import com.conal.dishbuilder.dto.BulkUpdateDishRequest;
 import com.conal.dishbuilder.dto.CreateDishRequest;
+import com.conal.dishbuilder.dto.DishQuoteRequest;
 import com.conal.dishbuilder.dto.UpdateDishRequest;
 import com.conal.dishbuilder.dto.request.filter.DishFilterRequest;
 import com.conal.dishbuilder.dto.response.BaseResponse;
+import com.conal.dishbuilder.dto.response.BulkItemResponse;
+import com.conal.dishbuilder.dto.response.DishQuoteResponse;
 import com.conal.dishbuilder.dto.response.DishResponse;
 import com.conal.dishbuilder.dto.response.PageResponse;
 import com.conal.dishbuilder.service.DishService;
@@ -13,9 +18,12 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -24,6 +32,7 @@ import java.util.UUID;
 @Tag(name = "Dish Management", description = "APIs for managing dishes with ingredients")
 public class DishController {
     private final DishService dishService;
+    private final CatalogETag catalogETag;
 
     @PostMapping("/")
     @Operation(summary = "Create a new dish", description = "Create a new dish with ingredients for the current tenant")
@@ -31,18 +40,44 @@ public class DishController {
         return ResponseEntity.ok(BaseResponse.ok(dishService.addDish(dish)));
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Create dishes in bulk", description = "Create up to 500 dishes at once; each item is validated and reported separately")
+    public ResponseEntity<BaseResponse<List<BulkItemResponse<DishResponse>>>> addDishes(@RequestBody List<CreateDishRequest> dishes) {
+        return ResponseEntity.ok(BaseResponse.ok(dishService.addDishes(dishes)));
+    }
+
+    @PutMapping("/bulk")
+    @Operation(summary = "Update dishes in bulk", description = "Update up to 500 dishes at once; each item is validated and reported separately")
+    public ResponseEntity<BaseResponse<List<BulkItemResponse<DishResponse>>>> updateDishes(@RequestBody List<BulkUpdateDishRequest> dishes) {
+        return ResponseEntity.ok(BaseResponse.ok(dishService.updateDishes(dishes)));
+    }
+
+    @PostMapping("/quote")
+    @Operation(summary = "Quote a dish price", description = "Price an ingredient set with the current ingredient prices without saving anything")
+    public ResponseEntity<BaseResponse<DishQuoteResponse>> quote(@Valid @RequestBody DishQuoteRequest request) {
+        return ResponseEntity.ok(BaseResponse.ok(dishService.quote(request)));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get dish by ID", description = "Retrieve a specific dish by its ID")
     public ResponseEntity<BaseResponse<DishResponse>> getDishById(
-            @Parameter(description = "Dish ID") @PathVariable UUID id) {
-        return ResponseEntity.ok(BaseResponse.ok(dishService.getDishById(id)));
+            @Parameter(description = "Dish ID") @PathVariable UUID id,
+            WebRequest webRequest) {
+        if (catalogETag.checkNotModified(webRequest)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(BaseResponse.ok(dishService.getDishById(id)));
     }
 
     @GetMapping("/")
     @Operation(summary = "Get dishes with filtering and pagination", description = "Retrieve dishes with optional filtering and pagination")
     public ResponseEntity<BaseResponse<PageResponse<DishResponse>>> getDishes(
-            @Parameter(description = "Filter and pagination parameters") DishFilterRequest filterRequest) {
-        return ResponseEntity.ok(BaseResponse.ok(dishService.getDishes(filterRequest)));
+            @Parameter(description = "Filter and pagination parameters") DishFilterRequest filterRequest,
+            WebRequest webRequest) {
+        if (catalogETag.checkNotModified(webRequest)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(BaseResponse.ok(dishService.getDishes(filterRequest)));
     }
 
     @PutMapping("/{id}")
@@ -1,21 +1,29 @@
 package com.conal.dishbuilder.controller;
 
+import com.conal.dishbuilder.cache.CatalogETag;
 import com.conal.dishbuilder.constant.Constants;
+import com.conal.dishbuilder.constant.ImportFormat;
 import com.conal.dishbuilder.dto.CreateIngredientsRequest;
 import com.conal.dishbuilder.dto.UpdateIngredientsRequest;
 import com.conal.dishbuilder.dto.request.filter.IngredientsFilterRequest;
 import com.conal.dishbuilder.dto.response.BaseResponse;
+import com.conal.dishbuilder.dto.response.ImportResponse;
 import com.conal.dishbuilder.dto.response.IngredientsResponse;
 import com.conal.dishbuilder.dto.response.PageResponse;
+import com.conal.dishbuilder.service.CatalogImportService;
 import com.conal.dishbuilder.service.IngredientsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.util.UUID;
 
 @RestController
@@ -24,6 +32,8 @@ import java.util.UUID;
 @Tag(name = "Ingredients Management", description = "APIs for managing ingredients")
 public class IngredientsController {
     private final IngredientsService ingredientsService;
+    private final CatalogETag catalogETag;
+    private final CatalogImportService catalogImportService;
 
     @PostMapping("/")
     @Operation(summary = "Create a new ingredient", description = "Create a new ingredient for the current tenant")
@@ -31,18 +41,34 @@ public class IngredientsController {
         return ResponseEntity.ok(BaseResponse.ok(ingredientsService.addIngredients(ingredients)));
     }
 
+    @PostMapping(value = "/import", consumes = {ImportFormat.CSV_MEDIA_TYPE, ImportFormat.NDJSON_MEDIA_TYPE})
+    @Operation(summary = "Import ingredients", description = "Bulk import ingredients from a CSV (with header row) or NDJSON body; invalid rows are skipped and reported")
+    public ResponseEntity<BaseResponse<ImportResponse>> importIngredients(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        return ResponseEntity.ok(BaseResponse.ok(catalogImportService.importIngredients(body, ImportFormat.fromContentType(contentType))));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get ingredient by ID", description = "Retrieve a specific ingredient by its ID")
     public ResponseEntity<BaseResponse<IngredientsResponse>> getIngredientsById(
-            @Parameter(description = "Ingredient ID") @PathVariable UUID id) {
-        return ResponseEntity.ok(BaseResponse.ok(ingredientsService.getIngredientsById(id)));
+            @Parameter(description = "Ingredient ID") @PathVariable UUID id,
+            WebRequest webRequest) {
+        if (catalogETag.checkNotModified(webRequest)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(BaseResponse.ok(ingredientsService.getIngredientsById(id)));
     }
 
     @GetMapping("/")
     @Operation(summary = "Get ingredients with filtering and pagination", description = "Retrieve ingredients with optional filtering and pagination")
     public ResponseEntity<BaseResponse<PageResponse<IngredientsResponse>>> getIngredients(
-            @Parameter(description = "Filter and pagination parameters") IngredientsFilterRequest filterRequest) {
-        return ResponseEntity.ok(BaseResponse.ok(ingredientsService.getIngredients(filterRequest)));
+            @Parameter(description = "Filter and pagination parameters") IngredientsFilterRequest filterRequest,
+            WebRequest webRequest) {
+        if (catalogETag.checkNotModified(webRequest)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(BaseResponse.ok(ingredientsService.getIngredients(filterRequest)));
     }
 
     @PutMapping("/{id}")
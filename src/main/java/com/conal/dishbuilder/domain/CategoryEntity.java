@@ -1,7 +1,11 @@
 package com.conal.dishbuilder.domain;
 
+import com.conal.dishbuilder.cache.SecondLevelCacheSync;
+import com.conal.dishbuilder.constant.Constants;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -10,6 +14,9 @@ import java.util.UUID;
 
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.CacheRegion.CATEGORY)
+@EntityListeners(SecondLevelCacheSync.class)
 @Table(name = "category", schema = "dish_builder_schema")
 @NoArgsConstructor
 @AllArgsConstructor
@@ -24,6 +31,13 @@ public class CategoryEntity extends Auditable<UUID> implements Serializable {
     private String name;
     private String description;
     private UUID tenantId;
+    /**
+     * Weighted tsvector over name and description, maintained by a database trigger (V6).
+     * Read-only here; only referenced from search predicates.
+     */
+    @Column(name = "search_vector", columnDefinition = "tsvector", insertable = false, updatable = false)
+    @ToString.Exclude
+    private String searchVector;
     @OneToMany(mappedBy = "category", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<IngredientsEntity> ingredients = new ArrayList<>();
@@ -34,6 +34,14 @@ public class DishEntity extends Auditable<UUID> implements Serializable {
 
     private BigDecimal vat;
 
+    /**
+     * Weighted tsvector over name and description, maintained by a database trigger (V6).
+     * Read-only here; only referenced from search predicates.
+     */
+    @Column(name = "search_vector", columnDefinition = "tsvector", insertable = false, updatable = false)
+    @ToString.Exclude
+    private String searchVector;
+
     /**
      * Each dish belongs to one user (customer).
      * The foreign key is "user_id" in the dishes table.
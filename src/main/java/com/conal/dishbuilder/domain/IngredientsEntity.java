@@ -27,8 +27,20 @@ public class IngredientsEntity extends Auditable<UUID> implements Serializable {
 
     private UUID tenantId;
 
+    /**
+     * Whole cents (V8), so quotes and persisted totals add up the same exact amounts.
+     */
+    @Column(precision = 12, scale = 2)
     private BigDecimal price;
 
+    /**
+     * Weighted tsvector over name and description, maintained by a database trigger (V6).
+     * Read-only here; only referenced from search predicates.
+     */
+    @Column(name = "search_vector", columnDefinition = "tsvector", insertable = false, updatable = false)
+    @ToString.Exclude
+    private String searchVector;
+
     /**
      * Many ingredients belong to one category.
      * Using LAZY fetch to avoid unnecessary joins.
@@ -0,0 +1,35 @@
+package com.conal.dishbuilder.domain;
+
+import com.conal.dishbuilder.constant.MailStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "mail_outbox", schema = "dish_builder_schema")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@ToString(exclude = "body")
+public class MailOutboxEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+    private UUID tenantId;
+    private String recipient;
+    private String subject;
+    private String body;
+    private boolean html;
+    @Enumerated(EnumType.STRING)
+    private MailStatus status;
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime lockedUntil;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime sentAt;
+}
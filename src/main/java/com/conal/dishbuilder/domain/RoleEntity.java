@@ -1,7 +1,11 @@
 package com.conal.dishbuilder.domain;
 
+import com.conal.dishbuilder.cache.SecondLevelCacheSync;
+import com.conal.dishbuilder.constant.Constants;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.apache.catalina.User;
 
 import java.io.Serializable;
@@ -10,6 +14,9 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.CacheRegion.ROLE)
+@EntityListeners(SecondLevelCacheSync.class)
 @Table(name = "role", schema = "dish_builder_schema")
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,8 +1,12 @@
 package com.conal.dishbuilder.domain;
 
+import com.conal.dishbuilder.cache.SecondLevelCacheSync;
 import com.conal.dishbuilder.constant.CommonStatus;
+import com.conal.dishbuilder.constant.Constants;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
@@ -10,6 +14,9 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.CacheRegion.TENANT)
+@EntityListeners(SecondLevelCacheSync.class)
 @Table(name = "tenant", schema = "dish_builder_schema")
 @NoArgsConstructor
 @AllArgsConstructor
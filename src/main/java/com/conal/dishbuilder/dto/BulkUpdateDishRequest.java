@@ -0,0 +1,16 @@
+package com.conal.dishbuilder.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.UUID;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class BulkUpdateDishRequest extends UpdateDishRequest {
+    @NotNull(message = "Dish ID is required")
+    private UUID id;
+}
@@ -1,6 +1,7 @@
 package com.conal.dishbuilder.dto;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
@@ -20,6 +21,7 @@ public class CreateIngredientsRequest {
     
     @NotNull
     @DecimalMin(value = "0.0", inclusive = false, message = "Price must be greater than 0")
+    @Digits(integer = 10, fraction = 2, message = "Price must have at most 10 digits and 2 decimals")
     private BigDecimal price;
     
     @NotNull(message = "Category ID is required")
@@ -0,0 +1,24 @@
+package com.conal.dishbuilder.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class DishQuoteRequest {
+    @NotEmpty(message = "At least one ingredient is required")
+    @Size(max = 200, message = "At most 200 ingredients can be quoted")
+    private List<@NotNull UUID> ingredientIds;
+
+    @DecimalMin(value = "0.0", inclusive = true, message = "Discount must be greater than or equal to 0")
+    private BigDecimal discount;
+
+    @DecimalMin(value = "0.0", inclusive = true, message = "VAT must be greater than or equal to 0")
+    private BigDecimal vat;
+}
@@ -1,5 +1,6 @@
 package com.conal.dishbuilder.dto.request;
 
+import com.conal.dishbuilder.constant.CountMode;
 import lombok.*;
 
 import java.util.UUID;
@@ -11,4 +12,16 @@ import java.util.UUID;
 public class FilterBaseRequest {
     private boolean ignorePaging;
     private UUID tenantId;
+    // Keyset mode: set cursorPaging for the first page, then pass back the returned nextCursor
+    private boolean cursorPaging;
+    private String cursor;
+    private CountMode countMode = CountMode.EXACT;
+
+    public CountMode getCountMode() {
+        return countMode != null ? countMode : CountMode.EXACT;
+    }
+
+    public boolean useCursorPaging() {
+        return cursorPaging || cursor != null;
+    }
 }
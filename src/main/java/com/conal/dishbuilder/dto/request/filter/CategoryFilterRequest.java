@@ -7,6 +7,8 @@ import lombok.EqualsAndHashCode;
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class CategoryFilterRequest extends FilterBaseRequest {
+    // Ranked full-text search over name and description, matching word prefixes
+    private String search;
     private String name;
     private String description;
     private String sortBy = "name";
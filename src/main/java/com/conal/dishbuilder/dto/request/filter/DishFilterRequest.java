@@ -10,6 +10,8 @@ import java.util.UUID;
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class DishFilterRequest extends FilterBaseRequest {
+    // Ranked full-text search over name and description, matching word prefixes
+    private String search;
     private String name;
     private String description;
     private BigDecimal minTotalPrice;
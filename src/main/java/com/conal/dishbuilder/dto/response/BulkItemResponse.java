@@ -0,0 +1,34 @@
+package com.conal.dishbuilder.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Outcome of one item of a bulk request; {@code index} is its position in the request list.
+ */
+@Data
+@Builder(setterPrefix = "set")
+public class BulkItemResponse<T> {
+    private int index;
+    private boolean success;
+    private T data;
+    private List<FieldErrorResponse> errors;
+
+    public static <T> BulkItemResponse<T> ok(int index, T data) {
+        return BulkItemResponse.<T>builder()
+                .setIndex(index)
+                .setSuccess(true)
+                .setData(data)
+                .build();
+    }
+
+    public static <T> BulkItemResponse<T> failed(int index, List<FieldErrorResponse> errors) {
+        return BulkItemResponse.<T>builder()
+                .setIndex(index)
+                .setSuccess(false)
+                .setErrors(errors)
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.conal.dishbuilder.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder(setterPrefix = "set")
+public class DishQuoteResponse {
+    // Sum of the distinct ingredients' current prices
+    private BigDecimal subtotal;
+    private BigDecimal discount;
+    private BigDecimal vat;
+    private BigDecimal totalPrice;
+}
@@ -0,0 +1,17 @@
+package com.conal.dishbuilder.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder(setterPrefix = "set")
+public class ImportResponse {
+    private long totalRows;
+    private long imported;
+    private long failed;
+    private List<ImportRowErrorResponse> errors;
+    // Only the first errors are listed; failed still counts every rejected row
+    private boolean errorsTruncated;
+}
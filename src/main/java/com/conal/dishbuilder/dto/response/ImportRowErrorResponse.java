@@ -0,0 +1,13 @@
+package com.conal.dishbuilder.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder(setterPrefix = "set")
+public class ImportRowErrorResponse {
+    private long row;
+    private String field;
+    private String rejectedValue;
+    private String message;
+}
@@ -1,14 +1,20 @@
 package com.conal.dishbuilder.dto.response;
 
+import com.conal.dishbuilder.constant.CountMode;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.function.Function;
 
 @Builder
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class PageResponse<T> {
     private List<T> data;
     private int size;
@@ -16,8 +22,15 @@ public class PageResponse<T> {
     private long totalElements;
     private int totalPages;
     private boolean isIgnorePaging;
+    private String nextCursor;
+    private boolean hasNext;
+    private CountMode countMode;
 
     public static <T> PageResponse<T> fromPage(Page<T> pageable) {
+        return fromPage(pageable, CountMode.EXACT);
+    }
+
+    public static <T> PageResponse<T> fromPage(Page<T> pageable, CountMode countMode) {
         return PageResponse.<T>builder()
                 .size(pageable.getSize())
                 .page(pageable.getPageable().isPaged() ? pageable.getPageable().getPageNumber() : 0)
@@ -25,6 +38,42 @@ public class PageResponse<T> {
                 .totalPages(pageable.getPageable().isPaged() ? pageable.getTotalPages() : 1)
                 .data(pageable.getContent())
                 .isIgnorePaging(pageable.getPageable().isUnpaged())
+                .hasNext(pageable.hasNext())
+                .countMode(countMode)
+                .build();
+    }
+
+    /**
+     * Builds an offset page for {@link CountMode#NONE} from rows fetched with {@code limit(size + 1)}.
+     * Totals are reported as -1 (unknown).
+     */
+    public static <T> PageResponse<T> fromProbe(List<T> rows, Pageable pageable) {
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return PageResponse.<T>builder()
+                .size(pageable.getPageSize())
+                .page(pageable.getPageNumber())
+                .totalElements(-1)
+                .totalPages(-1)
+                .data(hasNext ? rows.subList(0, pageable.getPageSize()) : rows)
+                .hasNext(hasNext)
+                .countMode(CountMode.NONE)
+                .build();
+    }
+
+    /**
+     * Builds a keyset page from rows fetched with {@code limit(size + 1)}; the extra row only signals
+     * that another page exists. Totals are not computed in this mode.
+     */
+    public static <E, T> PageResponse<T> fromCursorPage(List<E> rows, int size,
+                                                        Function<E, String> cursorOf, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        return PageResponse.<T>builder()
+                .size(size)
+                .data(page.stream().map(mapper).toList())
+                .hasNext(hasNext)
+                .countMode(CountMode.NONE)
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null)
                 .build();
     }
 }
@@ -14,6 +14,7 @@ public interface CategoryMapper {
     
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "tenantId", ignore = true)
+    @Mapping(target = "searchVector", ignore = true)
     @Mapping(target = "ingredients", ignore = true)
     CategoryEntity toEntity(CreateCategoryRequest request);
     
@@ -21,6 +22,7 @@ public interface CategoryMapper {
     
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "tenantId", ignore = true)
+    @Mapping(target = "searchVector", ignore = true)
     @Mapping(target = "ingredients", ignore = true)
     void updateEntity(UpdateCategoryRequest request, @MappingTarget CategoryEntity entity);
 }
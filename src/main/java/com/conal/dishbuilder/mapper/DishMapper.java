@@ -17,6 +17,7 @@ public interface DishMapper {
     
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "tenantId", ignore = true)
+    @Mapping(target = "searchVector", ignore = true)
     @Mapping(target = "user", ignore = true)
     @Mapping(target = "ingredients", ignore = true)
     DishEntity toEntity(CreateDishRequest request);
@@ -28,6 +29,7 @@ public interface DishMapper {
     
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "tenantId", ignore = true)
+    @Mapping(target = "searchVector", ignore = true)
     @Mapping(target = "user", ignore = true)
     @Mapping(target = "ingredients", ignore = true)
     void updateEntity(UpdateDishRequest request, @MappingTarget DishEntity entity);
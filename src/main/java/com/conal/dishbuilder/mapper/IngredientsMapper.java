@@ -14,6 +14,7 @@ public interface IngredientsMapper {
     
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "tenantId", ignore = true)
+    @Mapping(target = "searchVector", ignore = true)
     @Mapping(target = "category", ignore = true)
     IngredientsEntity toEntity(CreateIngredientsRequest request);
     
@@ -23,6 +24,7 @@ public interface IngredientsMapper {
     
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "tenantId", ignore = true)
+    @Mapping(target = "searchVector", ignore = true)
     @Mapping(target = "category", ignore = true)
     void updateEntity(UpdateIngredientsRequest request, @MappingTarget IngredientsEntity entity);
 }
@@ -0,0 +1,30 @@
+package com.conal.dishbuilder.pricing;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads the pricing inputs of dishes and writes back their recomputed totals, in batches.
+ */
+public interface DishPriceStore {
+
+    /**
+     * Dishes of the tenant that contain the ingredient.
+     */
+    List<UUID> findDishIdsByIngredient(UUID ingredientId, UUID tenantId);
+
+    List<Inputs> loadInputs(List<UUID> dishIds);
+
+    /**
+     * Writes the totals and returns how many dishes actually changed. A dish whose discount or VAT
+     * changed since its inputs were read is skipped; that write already priced it.
+     */
+    int updateTotals(List<Repriced> dishes);
+
+    record Inputs(UUID dishId, BigDecimal subtotal, BigDecimal discount, BigDecimal vat) {
+    }
+
+    record Repriced(Inputs inputs, BigDecimal totalPrice) {
+    }
+}
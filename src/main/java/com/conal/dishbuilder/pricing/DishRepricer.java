@@ -0,0 +1,145 @@
+package com.conal.dishbuilder.pricing;
+
+import com.conal.dishbuilder.cache.CatalogVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recomputes the stored totals of the dishes affected by an ingredient price change. Only dishes
+ * reached through {@code dish_ingredients} are touched; they are split into batches of
+ * {@code batch-size} that are loaded, priced with {@link PricingEngine} and written back in
+ * parallel on a dedicated ForkJoin pool, each batch in its own transaction.
+ */
+@Slf4j
+@Component
+public class DishRepricer {
+    private final DishPriceStore store;
+    private final CatalogVersion catalogVersion;
+    private final ForkJoinPool pool;
+    private final int batchSize;
+    private final Counter repriced;
+    private final Timer duration;
+
+    public DishRepricer(DishPriceStore store,
+                        CatalogVersion catalogVersion,
+                        MeterRegistry meterRegistry,
+                        @Value("${dish-builder.pricing.parallelism:4}") int parallelism,
+                        @Value("${dish-builder.pricing.batch-size:1000}") int batchSize) {
+        this.store = store;
+        this.catalogVersion = catalogVersion;
+        this.batchSize = batchSize;
+        this.pool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("dish-repricer-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        this.repriced = Counter.builder("dish.pricing.repriced")
+                .description("Dishes whose total changed after an ingredient price change")
+                .register(meterRegistry);
+        this.duration = Timer.builder("dish.pricing.reprice")
+                .description("Time to recompute the dishes affected by one ingredient price change")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Schedules the recomputation once the surrounding transaction commits (immediately when no
+     * transaction is active), so the new price is visible to the job.
+     */
+    public void repriceAfterCommit(UUID ingredientId, UUID tenantId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(ingredientId, tenantId);
+                }
+            });
+        } else {
+            submit(ingredientId, tenantId);
+        }
+    }
+
+    /**
+     * Recomputes every dish of the tenant that contains the ingredient and returns how many totals
+     * changed. Blocks until all batches are written.
+     */
+    public int reprice(UUID ingredientId, UUID tenantId) {
+        List<UUID> dishIds = store.findDishIdsByIngredient(ingredientId, tenantId);
+        if (dishIds.isEmpty()) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        int changed = pool.invoke(new RepriceTask(dishIds, 0, dishIds.size()));
+        duration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        repriced.increment(changed);
+        log.info("Repriced {} of {} dishes after price change of ingredient {}", changed, dishIds.size(), ingredientId);
+        return changed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private void submit(UUID ingredientId, UUID tenantId) {
+        pool.execute(() -> {
+            try {
+                if (reprice(ingredientId, tenantId) > 0) {
+                    catalogVersion.bumpAfterCommit(tenantId);
+                }
+            } catch (Exception e) {
+                // Totals stay stale until the next change of this ingredient or the dish itself
+                log.error("Failed to reprice dishes of ingredient {}: {}", ingredientId, e.getMessage(), e);
+            }
+        });
+    }
+
+    private int repriceBatch(List<UUID> dishIds) {
+        List<DishPriceStore.Inputs> inputs = store.loadInputs(dishIds);
+        List<DishPriceStore.Repriced> dishes = new ArrayList<>(inputs.size());
+        for (DishPriceStore.Inputs input : inputs) {
+            BigDecimal total = PricingEngine.total(input.subtotal(), input.discount(), input.vat());
+            dishes.add(new DishPriceStore.Repriced(input, total));
+        }
+        return dishes.isEmpty() ? 0 : store.updateTotals(dishes);
+    }
+
+    private final class RepriceTask extends RecursiveTask<Integer> {
+        private final List<UUID> dishIds;
+        private final int from;
+        private final int to;
+
+        private RepriceTask(List<UUID> dishIds, int from, int to) {
+            this.dishIds = dishIds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= batchSize) {
+                return repriceBatch(dishIds.subList(from, to));
+            }
+            int middle = (from + to) >>> 1;
+            RepriceTask left = new RepriceTask(dishIds, from, middle);
+            RepriceTask right = new RepriceTask(dishIds, middle, to);
+            left.fork();
+            return right.compute() + left.join();
+        }
+    }
+}
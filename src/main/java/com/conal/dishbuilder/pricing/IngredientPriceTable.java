@@ -0,0 +1,90 @@
+package com.conal.dishbuilder.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable ingredient id to price map of one tenant, specialized for the quote hot path: an
+ * open-addressing table over primitive arrays (both UUID halves inline, linear probing, load factor
+ * at most 1/2) holding prices in minor units, so a lookup neither allocates nor boxes. Ingredient
+ * prices are stored in whole cents, so minor units are exact and a quote adds up the same amounts as
+ * {@link PricingEngine#subtotal}.
+ */
+public final class IngredientPriceTable {
+    /** Returned by {@link #priceOf} for ids that are not in the table; also marks free slots. */
+    public static final long MISSING = Long.MIN_VALUE;
+
+    private final long[] keys;
+    private final long[] prices;
+    private final int mask;
+    private final int size;
+
+    private IngredientPriceTable(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, expectedSize) * 2 - 1) << 1;
+        this.keys = new long[capacity * 2];
+        this.prices = new long[capacity];
+        this.mask = capacity - 1;
+        this.size = expectedSize;
+        Arrays.fill(prices, MISSING);
+    }
+
+    public static IngredientPriceTable of(Map<UUID, BigDecimal> prices) {
+        IngredientPriceTable table = new IngredientPriceTable(prices.size());
+        prices.forEach((id, price) -> table.put(id.getMostSignificantBits(), id.getLeastSignificantBits(), toMinor(price)));
+        return table;
+    }
+
+    /**
+     * @return the price in minor units, or {@link #MISSING}
+     */
+    public long priceOf(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        for (int slot = slot(msb, lsb); ; slot = (slot + 1) & mask) {
+            long price = prices[slot];
+            if (price == MISSING || (keys[slot << 1] == msb && keys[(slot << 1) + 1] == lsb)) {
+                return price;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Minor units at {@link PricingEngine#SCALE} decimals; a missing price counts as 0.
+     *
+     * @throws ArithmeticException if the price has fractions of a cent, which would round differently
+     *                             here than in a persisted total
+     */
+    public static long toMinor(BigDecimal price) {
+        return price == null ? 0L : price.setScale(PricingEngine.SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal fromMinor(long minor) {
+        return BigDecimal.valueOf(minor, PricingEngine.SCALE);
+    }
+
+    private void put(long msb, long lsb, long price) {
+        int slot = slot(msb, lsb);
+        while (prices[slot] != MISSING) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot << 1] = msb;
+        keys[(slot << 1) + 1] = lsb;
+        prices[slot] = price;
+    }
+
+    private int slot(long msb, long lsb) {
+        // Murmur3 finalizer; random UUIDs are well mixed already, time-based ones are not
+        long h = msb ^ lsb;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+}
@@ -0,0 +1,80 @@
+package com.conal.dishbuilder.pricing;
+
+import com.conal.dishbuilder.cache.CatalogVersion;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-tenant {@link IngredientPriceTable}s, loaded from {@code ingredients} on first use. A table is
+ * tagged with the tenant's {@link CatalogVersion}, which every ingredient write bumps, so it is
+ * reloaded on the next quote after a write on any node. While Redis is unreachable the version is
+ * unknown and a table is reused for at most a second.
+ */
+@Slf4j
+@Component
+public class IngredientPriceTables {
+    private static final String LOAD_PRICES = "SELECT id, price FROM dish_builder_schema.ingredients WHERE tenant_id = ?";
+    private static final long UNKNOWN_VERSION_TTL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CatalogVersion catalogVersion;
+    private final Cache<UUID, VersionedTable> tables;
+
+    public IngredientPriceTables(JdbcTemplate jdbcTemplate,
+                                 CatalogVersion catalogVersion,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${dish-builder.pricing.price-table.max-tenants:10000}") long maxTenants,
+                                 @Value("${dish-builder.pricing.price-table.idle-ttl:PT1H}") Duration idleTtl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.catalogVersion = catalogVersion;
+        this.tables = Caffeine.newBuilder()
+                .maximumSize(maxTenants)
+                .expireAfterAccess(idleTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tables, "ingredientPriceTables");
+    }
+
+    public IngredientPriceTable get(UUID tenantId) {
+        long version = catalogVersion.current(tenantId);
+        VersionedTable current = tables.getIfPresent(tenantId);
+        if (current != null && current.isFresh(version)) {
+            return current.table();
+        }
+        // Loaded outside the cache's compute, see Caches; concurrent misses may load twice
+        VersionedTable loaded = new VersionedTable(version, load(tenantId), System.nanoTime());
+        tables.put(tenantId, loaded);
+        return loaded.table();
+    }
+
+    private IngredientPriceTable load(UUID tenantId) {
+        Map<UUID, BigDecimal> prices = new HashMap<>();
+        jdbcTemplate.query(LOAD_PRICES, rs -> {
+            prices.put(rs.getObject("id", UUID.class), rs.getBigDecimal("price"));
+        }, tenantId);
+        log.debug("Loaded price table of {} ingredients for tenant {}", prices.size(), tenantId);
+        return IngredientPriceTable.of(prices);
+    }
+
+    private record VersionedTable(long version, IngredientPriceTable table, long loadedAt) {
+        boolean isFresh(long currentVersion) {
+            if (currentVersion == CatalogVersion.UNKNOWN) {
+                return System.nanoTime() - loadedAt < UNKNOWN_VERSION_TTL_NANOS;
+            }
+            return version == currentVersion;
+        }
+    }
+}
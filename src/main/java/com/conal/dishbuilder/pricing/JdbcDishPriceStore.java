@@ -0,0 +1,59 @@
+package com.conal.dishbuilder.pricing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcDishPriceStore implements DishPriceStore {
+    private static final String FIND_DISH_IDS = "SELECT DISTINCT di.dish_id FROM dish_builder_schema.dish_ingredients di "
+            + "JOIN dish_builder_schema.dishes d ON d.id = di.dish_id WHERE di.ingredient_id = ? AND d.tenant_id = ?";
+    private static final String LOAD_INPUTS = "SELECT d.id, d.discount, d.vat, COALESCE(SUM(i.price), 0) AS subtotal "
+            + "FROM dish_builder_schema.dishes d "
+            + "LEFT JOIN dish_builder_schema.dish_ingredients di ON di.dish_id = d.id "
+            + "LEFT JOIN dish_builder_schema.ingredients i ON i.id = di.ingredient_id "
+            + "WHERE d.id = ANY (?) GROUP BY d.id, d.discount, d.vat";
+    private static final String UPDATE_TOTAL = "UPDATE dish_builder_schema.dishes SET total_price = ? "
+            + "WHERE id = ? AND total_price IS DISTINCT FROM ? "
+            + "AND discount IS NOT DISTINCT FROM ? AND vat IS NOT DISTINCT FROM ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<UUID> findDishIdsByIngredient(UUID ingredientId, UUID tenantId) {
+        return jdbcTemplate.queryForList(FIND_DISH_IDS, UUID.class, ingredientId, tenantId);
+    }
+
+    @Override
+    public List<Inputs> loadInputs(List<UUID> dishIds) {
+        return jdbcTemplate.query(LOAD_INPUTS,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", dishIds.toArray())),
+                (rs, rowNum) -> new Inputs(rs.getObject("id", UUID.class), rs.getBigDecimal("subtotal"),
+                        rs.getBigDecimal("discount"), rs.getBigDecimal("vat")));
+    }
+
+    @Override
+    @Transactional
+    public int updateTotals(List<Repriced> dishes) {
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_TOTAL, dishes, dishes.size(), (ps, dish) -> {
+            ps.setBigDecimal(1, dish.totalPrice());
+            ps.setObject(2, dish.inputs().dishId());
+            ps.setBigDecimal(3, dish.totalPrice());
+            ps.setBigDecimal(4, dish.inputs().discount());
+            ps.setBigDecimal(5, dish.inputs().vat());
+        });
+        int updated = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // Drivers may report SUCCESS_NO_INFO (-2) instead of a row count
+                updated += Math.max(count, 0);
+            }
+        }
+        return updated;
+    }
+}
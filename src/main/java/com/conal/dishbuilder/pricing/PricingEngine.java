@@ -0,0 +1,48 @@
+package com.conal.dishbuilder.pricing;
+
+import com.conal.dishbuilder.domain.IngredientsEntity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+
+/**
+ * Derives a dish's total price from its ingredients:
+ * {@code total = subtotal × (1 − discount / 100) × (1 + vat / 100)}, where the subtotal is the sum of
+ * the ingredient prices and discount and VAT are percentages (missing values count as 0). Discounts
+ * above 100% are capped, so a total is never negative. Totals are rounded half-up to 2 decimals.
+ */
+public final class PricingEngine {
+    public static final int SCALE = 2;
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private PricingEngine() {
+    }
+
+    public static BigDecimal total(Collection<IngredientsEntity> ingredients, BigDecimal discount, BigDecimal vat) {
+        return total(subtotal(ingredients), discount, vat);
+    }
+
+    public static BigDecimal total(BigDecimal subtotal, BigDecimal discount, BigDecimal vat) {
+        BigDecimal amount = subtotal != null ? subtotal : BigDecimal.ZERO;
+        if (discount != null && discount.signum() > 0) {
+            amount = amount.multiply(HUNDRED.subtract(discount.min(HUNDRED))).divide(HUNDRED);
+        }
+        if (vat != null && vat.signum() > 0) {
+            amount = amount.multiply(HUNDRED.add(vat)).divide(HUNDRED);
+        }
+        return amount.setScale(SCALE, RoundingMode.HALF_UP);
+    }
+
+    public static BigDecimal subtotal(Collection<IngredientsEntity> ingredients) {
+        BigDecimal subtotal = BigDecimal.ZERO;
+        if (ingredients != null) {
+            for (IngredientsEntity ingredient : ingredients) {
+                if (ingredient.getPrice() != null) {
+                    subtotal = subtotal.add(ingredient.getPrice());
+                }
+            }
+        }
+        return subtotal;
+    }
+}
@@ -0,0 +1,20 @@
+package com.conal.dishbuilder.ratelimit;
+
+import com.conal.dishbuilder.constant.ErrorType;
+
+/**
+ * Outcome of {@link RateLimiter#tryAcquire}. A rejection carries why it was rejected and how long
+ * until the same request would be admitted.
+ */
+public record RateLimitDecision(boolean allowed, ErrorType errorType, long retryAfterMillis) {
+
+    private static final RateLimitDecision ALLOWED = new RateLimitDecision(true, null, 0);
+
+    public static RateLimitDecision admit() {
+        return ALLOWED;
+    }
+
+    public static RateLimitDecision reject(ErrorType errorType, long retryAfterMillis) {
+        return new RateLimitDecision(false, errorType, retryAfterMillis);
+    }
+}
@@ -0,0 +1,71 @@
+package com.conal.dishbuilder.ratelimit;
+
+import com.conal.dishbuilder.constant.ErrorType;
+import com.conal.dishbuilder.context.TenantContextHolder;
+import com.conal.dishbuilder.context.UserContextHolder;
+import com.conal.dishbuilder.exception.AttemptExceededException;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.conal.dishbuilder.constant.Constants.User.TOO_FAST;
+import static com.conal.dishbuilder.constant.Constants.User.TOO_MANY_REQUESTS;
+
+/**
+ * Applies {@link RateLimited} to handler methods. Runs after {@code JwtRequestFilter}, so the
+ * tenant and user contexts of the request are already set.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private final RateLimiter rateLimiter;
+    private final Map<RateLimited, RateLimitPolicy> defaults = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(@Nonnull HttpServletRequest request, @Nonnull HttpServletResponse response,
+                             @Nonnull Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        RateLimited limited = method.getMethodAnnotation(RateLimited.class);
+        if (limited == null) {
+            return true;
+        }
+
+        RateLimitPolicy policy = rateLimiter.policy(limited.action(), defaults.computeIfAbsent(limited,
+                l -> new RateLimitPolicy(l.limit(), DurationStyle.detectAndParse(l.window()),
+                        DurationStyle.detectAndParse(l.minInterval()))));
+        String key = RateLimiter.key(TenantContextHolder.getTenantContext(), limited.action(), subject(limited, request));
+        RateLimitDecision decision = rateLimiter.tryAcquire(key, policy);
+        if (decision.allowed()) {
+            return true;
+        }
+
+        log.warn("[RateLimit] {} rejected for {}: {}", limited.action(), key, decision.errorType());
+        long retryAfterSeconds = Math.max(1, (decision.retryAfterMillis() + 999) / 1000);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        throw new AttemptExceededException(decision.errorType() == ErrorType.TOO_FAST ? TOO_FAST : TOO_MANY_REQUESTS);
+    }
+
+    private static String subject(RateLimited limited, HttpServletRequest request) {
+        return switch (limited.key()) {
+            case TENANT -> "all";
+            case IP -> "ip:" + request.getRemoteAddr();
+            case USER -> {
+                String username = UserContextHolder.getUserContext();
+                yield username != null ? "user:" + username : "ip:" + request.getRemoteAddr();
+            }
+        };
+    }
+}
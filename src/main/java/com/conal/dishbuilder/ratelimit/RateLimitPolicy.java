@@ -0,0 +1,20 @@
+package com.conal.dishbuilder.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * At most {@code limit} admissions per sliding {@code window}, each at least {@code minInterval}
+ * after the previous one ({@link Duration#ZERO} disables the gap).
+ */
+public record RateLimitPolicy(int limit, Duration window, Duration minInterval) {
+
+    public RateLimitPolicy {
+        if (limit <= 0 || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Rate limit needs a positive limit and window");
+        }
+    }
+
+    public static RateLimitPolicy of(int limit, Duration window) {
+        return new RateLimitPolicy(limit, window, Duration.ZERO);
+    }
+}
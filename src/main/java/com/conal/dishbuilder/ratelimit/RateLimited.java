@@ -0,0 +1,39 @@
+package com.conal.dishbuilder.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Rate limits a controller endpoint through {@link RateLimitInterceptor}. Rejected requests get a
+ * 429 with a {@code Retry-After} header.
+ * <p>
+ * The values here are defaults; {@code dish-builder.rate-limit.<action>.limit}, {@code .window} and
+ * {@code .min-interval} override them per action (action in kebab case, e.g. {@code login}).
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    String action();
+
+    int limit();
+
+    /** Length of the sliding window, e.g. {@code PT1M} or {@code 1m}. */
+    String window() default "PT1M";
+
+    /** Minimum gap between two admissions of the same key, e.g. {@code 30s}. */
+    String minInterval() default "PT0S";
+
+    Key key() default Key.USER;
+
+    enum Key {
+        /** Authenticated username, falling back to the client address for anonymous calls. */
+        USER,
+        /** Client address. */
+        IP,
+        /** One shared budget for the whole tenant. */
+        TENANT
+    }
+}
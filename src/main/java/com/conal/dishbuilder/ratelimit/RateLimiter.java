@@ -0,0 +1,104 @@
+package com.conal.dishbuilder.ratelimit;
+
+import com.conal.dishbuilder.constant.ErrorType;
+import com.conal.dishbuilder.util.RedisUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sliding-window rate limiter backed by a Redis sorted set per key. Pruning, counting, the
+ * minimum-gap check and recording the admission run in one Lua script, so concurrent requests on
+ * any number of nodes cannot be admitted past the limit and the set never outgrows the window.
+ * <p>
+ * Keys are {@code ratelimit:<tenantId>:<action>:<subject>}. When Redis is unreachable requests are
+ * admitted, so an outage of the limiter does not take the endpoints down with it.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+    private static final String KEY_PREFIX = "ratelimit:";
+    private static final String PROPERTY_PREFIX = "dish-builder.rate-limit.";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SLIDING_WINDOW = slidingWindowScript();
+
+    private final RedisUtils redisUtils;
+    private final Environment environment;
+    private final Map<String, RateLimitPolicy> policies = new ConcurrentHashMap<>();
+
+    public RateLimiter(RedisUtils redisUtils, Environment environment) {
+        this.redisUtils = redisUtils;
+        this.environment = environment;
+    }
+
+    public static String key(UUID tenantId, String action, String subject) {
+        return KEY_PREFIX + (tenantId != null ? tenantId : "global") + ":" + action + ":" + subject;
+    }
+
+    /**
+     * Resolves the policy of an action: configured properties win over the given defaults.
+     */
+    public RateLimitPolicy policy(String action, RateLimitPolicy defaults) {
+        return policies.computeIfAbsent(action, a -> {
+            String prefix = PROPERTY_PREFIX + a.toLowerCase(Locale.ROOT).replace('_', '-') + ".";
+            return new RateLimitPolicy(
+                    environment.getProperty(prefix + "limit", Integer.class, defaults.limit()),
+                    duration(prefix + "window", defaults.window()),
+                    duration(prefix + "min-interval", defaults.minInterval()));
+        });
+    }
+
+    private Duration duration(String property, Duration defaultValue) {
+        String value = environment.getProperty(property);
+        return value != null ? DurationStyle.detectAndParse(value) : defaultValue;
+    }
+
+    /**
+     * Admits and records one request against {@code key} if the policy allows it.
+     */
+    @SuppressWarnings("unchecked")
+    public RateLimitDecision tryAcquire(String key, RateLimitPolicy policy) {
+        List<Long> result;
+        try {
+            result = redisUtils.execute(SLIDING_WINDOW, List.of(key),
+                    String.valueOf(policy.window().toMillis()),
+                    String.valueOf(policy.limit()),
+                    String.valueOf(policy.minInterval().toMillis()),
+                    UUID.randomUUID().toString());
+        } catch (Exception e) {
+            log.warn("[RateLimit] Redis unavailable, admitting {}: {}", key, e.getMessage());
+            return RateLimitDecision.admit();
+        }
+        if (result == null || result.size() < 3) {
+            log.warn("[RateLimit] Unexpected script result for {}: {}", key, result);
+            return RateLimitDecision.admit();
+        }
+        if (result.get(0) == 1L) {
+            return RateLimitDecision.admit();
+        }
+        ErrorType errorType = result.get(1) == 1L ? ErrorType.TOO_FAST : ErrorType.TOO_MANY_RETRIES;
+        log.debug("[RateLimit] Rejected {} ({}), retry after {}ms", key, errorType, result.get(2));
+        return RateLimitDecision.reject(errorType, result.get(2));
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static RedisScript<List> slidingWindowScript() {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/sliding-window.lua")));
+        script.setResultType(List.class);
+        return script;
+    }
+}
@@ -0,0 +1,41 @@
+package com.conal.dishbuilder.ratelimit;
+
+import com.conal.dishbuilder.constant.Constants;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Priority classes of API traffic, each with its own budgets. Under load the lower classes are
+ * shed first: writes before catalog reads, and auth calls last so users can still sign in.
+ */
+public enum RequestClass {
+    AUTH(1.0),
+    READ(0.9),
+    WRITE(0.6);
+
+    // Share of the node's in-flight capacity this class may use before it is shed
+    private final double shedThreshold;
+
+    RequestClass(double shedThreshold) {
+        this.shedThreshold = shedThreshold;
+    }
+
+    public double shedThreshold() {
+        return shedThreshold;
+    }
+
+    public String propertyName() {
+        return name().toLowerCase();
+    }
+
+    public static RequestClass of(HttpServletRequest request) {
+        if (request.getRequestURI().startsWith(Constants.Endpoint.AUTH)) {
+            return AUTH;
+        }
+        // Quotes are POSTed but read-only
+        if (request.getRequestURI().equals(Constants.Endpoint.DISH + "/quote")) {
+            return READ;
+        }
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method) ? READ : WRITE;
+    }
+}
@@ -0,0 +1,270 @@
+package com.conal.dishbuilder.ratelimit;
+
+import com.conal.dishbuilder.context.TenantContextHolder;
+import com.conal.dishbuilder.context.UserContextHolder;
+import com.conal.dishbuilder.dto.response.BaseResponse;
+import com.conal.dishbuilder.util.RedisUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.conal.dishbuilder.constant.Constants.User.TOO_MANY_REQUESTS;
+
+/**
+ * Per-tenant and per-user request budgets for every API call, plus load shedding by
+ * {@link RequestClass}. Runs after {@code JwtRequestFilter}, so the tenant and user are known.
+ * <p>
+ * Budgets are local token buckets, so admitting a request needs no Redis call. Every
+ * {@code sync-interval} each node adds what its tenant buckets consumed to a shared Redis counter
+ * and charges its buckets with what the other nodes consumed meanwhile, so a tenant's budget holds
+ * across the cluster within one interval. User buckets stay local to the node. The reconcile runs on
+ * its own thread rather than the shared {@code @Scheduled} one, so slow jobs there cannot delay it.
+ * <p>
+ * Shedding caps in-flight requests on this node: writes are refused past 60% of
+ * {@code max-in-flight}, reads past 90% and auth calls only at the cap.
+ */
+@Slf4j
+@Component
+public class TenantRateLimitFilter extends OncePerRequestFilter {
+    private static final String PROPERTY_PREFIX = "dish-builder.rate-limit.";
+    private static final String USAGE_KEY_PREFIX = "ratelimit:usage:";
+    private static final long USAGE_TTL_MINUTES = 5;
+    private static final String SERVICE_BUSY = "SERVICE_BUSY";
+
+    private record Budget(double ratePerSecond, int burst) {
+    }
+
+    private record PendingSync(String usageKey, TokenBucket bucket, long consumed) {
+    }
+
+    private final RedisUtils redisUtils;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxInFlight;
+    private final Duration syncInterval;
+    private final Map<RequestClass, Budget> tenantBudgets = new EnumMap<>(RequestClass.class);
+    private final Map<RequestClass, Budget> userBudgets = new EnumMap<>(RequestClass.class);
+    private final Cache<String, TokenBucket> tenantBuckets;
+    private final Cache<String, TokenBucket> userBuckets;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<RequestClass, Counter> admitted = new EnumMap<>(RequestClass.class);
+    private final Map<RequestClass, Counter> limited = new EnumMap<>(RequestClass.class);
+    private final Map<RequestClass, Counter> shed = new EnumMap<>(RequestClass.class);
+    private ScheduledExecutorService reconciler;
+
+    public TenantRateLimitFilter(RedisUtils redisUtils,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 Environment environment,
+                                 @Value("${dish-builder.rate-limit.enabled:true}") boolean enabled,
+                                 @Value("${dish-builder.rate-limit.max-in-flight:200}") int maxInFlight,
+                                 @Value("${dish-builder.rate-limit.sync-interval:PT1S}") Duration syncInterval) {
+        this.redisUtils = redisUtils;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxInFlight = maxInFlight;
+        this.syncInterval = syncInterval;
+        for (RequestClass requestClass : RequestClass.values()) {
+            tenantBudgets.put(requestClass, budget(environment, "tenant", requestClass));
+            userBudgets.put(requestClass, budget(environment, "user", requestClass));
+            admitted.put(requestClass, counter(meterRegistry, requestClass, "admitted"));
+            limited.put(requestClass, counter(meterRegistry, requestClass, "limited"));
+            shed.put(requestClass, counter(meterRegistry, requestClass, "shed"));
+        }
+        this.tenantBuckets = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        this.userBuckets = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        Gauge.builder("http.ratelimit.in.flight", inFlight, AtomicInteger::get).register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@Nonnull HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !enabled || uri.startsWith("/actuator") || uri.startsWith("/v3/api-docs") || uri.startsWith("/swagger-ui");
+    }
+
+    @Override
+    protected void doFilterInternal(@Nonnull HttpServletRequest request, @Nonnull HttpServletResponse response,
+                                    @Nonnull FilterChain filterChain) throws ServletException, IOException {
+        RequestClass requestClass = RequestClass.of(request);
+        if (maxInFlight > 0 && inFlight.get() >= requestClass.shedThreshold() * maxInFlight) {
+            shed.get(requestClass).increment();
+            log.warn("[RateLimit] Shedding {} {} with {} requests in flight", requestClass, request.getRequestURI(), inFlight.get());
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, SERVICE_BUSY);
+            return;
+        }
+
+        UUID tenantId = TenantContextHolder.getTenantContext();
+        String tenantKey = (tenantId != null ? tenantId.toString() : "global") + ":" + requestClass.propertyName();
+        String username = UserContextHolder.getUserContext();
+        String userKey = tenantKey + ":" + (username != null ? "user:" + username : "ip:" + request.getRemoteAddr());
+
+        long waitNanos = bucket(userBuckets, userKey, userBudgets.get(requestClass)).tryConsume();
+        if (waitNanos == 0) {
+            waitNanos = bucket(tenantBuckets, tenantKey, tenantBudgets.get(requestClass)).tryConsume();
+        }
+        if (waitNanos > 0) {
+            limited.get(requestClass).increment();
+            log.debug("[RateLimit] Limited {} for {}", requestClass, userKey);
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos - 1) + 1),
+                    TOO_MANY_REQUESTS);
+            return;
+        }
+
+        admitted.get(requestClass).increment();
+        inFlight.incrementAndGet();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Publishes local tenant consumption to Redis and charges each bucket with the consumption of
+     * the other nodes since the previous run. All buckets share one pipelined INCRBY round trip,
+     * plus one for the TTLs of newly created counters.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ratelimit-reconcile");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = syncInterval.toMillis();
+        reconciler.scheduleWithFixedDelay(() -> {
+            // An escaping exception would cancel every later run
+            try {
+                reconcile();
+            } catch (Exception e) {
+                log.warn("[RateLimit] Reconcile failed: {}", e.getMessage());
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (reconciler != null) {
+            reconciler.shutdownNow();
+        }
+    }
+
+    public void reconcile() {
+        List<PendingSync> pending = new ArrayList<>();
+        RedisUtils.Batch increments = redisUtils.batch();
+        tenantBuckets.asMap().forEach((key, bucket) -> {
+            long consumed = bucket.takeConsumed();
+            String usageKey = USAGE_KEY_PREFIX + key;
+            increments.increment(usageKey, consumed);
+            pending.add(new PendingSync(usageKey, bucket, consumed));
+        });
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object> totals;
+        try {
+            totals = increments.execute();
+        } catch (Exception e) {
+            log.debug("[RateLimit] Failed to reconcile {} tenant buckets: {}", pending.size(), e.getMessage());
+            return;
+        }
+        RedisUtils.Batch expiries = redisUtils.batch();
+        for (int i = 0; i < pending.size() && i < totals.size(); i++) {
+            if (!(totals.get(i) instanceof Long total)) {
+                continue;
+            }
+            PendingSync sync = pending.get(i);
+            if (total == sync.consumed()) {
+                expiries.expire(sync.usageKey(), USAGE_TTL_MINUTES, TimeUnit.MINUTES);
+            }
+            // Skip the first sync and counter resets; only growth since the last sync is charged
+            TokenBucket bucket = sync.bucket();
+            long others = total - bucket.lastSyncedTotal - sync.consumed();
+            if (bucket.lastSyncedTotal > 0 && others > 0) {
+                bucket.debit(others);
+            }
+            bucket.lastSyncedTotal = total;
+        }
+        try {
+            expiries.execute();
+        } catch (Exception e) {
+            log.debug("[RateLimit] Failed to set usage counter TTLs: {}", e.getMessage());
+        }
+    }
+
+    private static TokenBucket bucket(Cache<String, TokenBucket> buckets, String key, Budget budget) {
+        return buckets.get(key, k -> new TokenBucket(budget.ratePerSecond(), budget.burst(), System::nanoTime));
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getWriter(), BaseResponse.error(status.value(), message));
+    }
+
+    private static Budget budget(Environment environment, String scope, RequestClass requestClass) {
+        String prefix = PROPERTY_PREFIX + scope + "." + requestClass.propertyName() + ".";
+        Budget defaults = defaultBudget(scope, requestClass);
+        return new Budget(
+                environment.getProperty(prefix + "rate", Double.class, defaults.ratePerSecond()),
+                environment.getProperty(prefix + "burst", Integer.class, defaults.burst()));
+    }
+
+    private static Budget defaultBudget(String scope, RequestClass requestClass) {
+        boolean tenant = "tenant".equals(scope);
+        return switch (requestClass) {
+            case AUTH -> tenant ? new Budget(20, 40) : new Budget(5, 10);
+            case READ -> tenant ? new Budget(200, 400) : new Budget(50, 100);
+            case WRITE -> tenant ? new Budget(50, 100) : new Budget(10, 20);
+        };
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, RequestClass requestClass, String result) {
+        return Counter.builder("http.ratelimit.requests")
+                .tag("class", requestClass.propertyName())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,63 @@
+package com.conal.dishbuilder.ratelimit;
+
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory token bucket refilled continuously at {@code ratePerSecond} up to {@code burst}
+ * tokens. {@link #debit} lets it run into debt (at most one burst), which is how consumption seen
+ * on other nodes is charged to the local bucket.
+ */
+final class TokenBucket {
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long refilledAt;
+    private long consumed;
+    // Cluster-wide total last read back from Redis; touched only by the reconciling thread
+    long lastSyncedTotal;
+
+    TokenBucket(double ratePerSecond, int burst, LongSupplier nanoClock) {
+        this.capacity = burst;
+        this.tokensPerNano = ratePerSecond / NANOS_PER_SECOND;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.refilledAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes one token.
+     *
+     * @return 0 when a token was taken, otherwise the nanos until one is available
+     */
+    synchronized long tryConsume() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            consumed++;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+
+    synchronized void debit(long count) {
+        refill();
+        tokens = Math.max(tokens - count, -capacity);
+    }
+
+    /** Returns and resets the number of tokens taken locally since the previous call. */
+    synchronized long takeConsumed() {
+        long taken = consumed;
+        consumed = 0;
+        return taken;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+    }
+}
@@ -2,11 +2,23 @@ package com.conal.dishbuilder.repository;
 
 import com.conal.dishbuilder.domain.DishEntity;
 import lombok.NonNull;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 @Repository
 public interface DishRepository extends JpaRepository<DishEntity, UUID> {
     boolean existsByNameAndTenantId(@NonNull String name, @NonNull UUID tenantId);
+
+    @Query("select d.name from DishEntity d where d.tenantId = :tenantId and d.name in :names")
+    Set<String> findExistingNames(@Param("names") Collection<String> names, @Param("tenantId") UUID tenantId);
+
+    @EntityGraph(attributePaths = {"user", "ingredients", "ingredients.category"})
+    List<DishEntity> findAllByIdInAndTenantId(@NonNull Collection<UUID> ids, @NonNull UUID tenantId);
 }
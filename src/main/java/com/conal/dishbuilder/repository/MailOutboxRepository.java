@@ -0,0 +1,42 @@
+package com.conal.dishbuilder.repository;
+
+import com.conal.dishbuilder.constant.MailStatus;
+import com.conal.dishbuilder.domain.MailOutboxEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutboxEntity, UUID> {
+
+    /**
+     * Due mails: pending ones whose next attempt has come, plus claimed ones whose worker lease
+     * expired. Rows locked by another poller are skipped ({@code FOR UPDATE SKIP LOCKED}).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select m from MailOutboxEntity m "
+            + "where (m.status = :pending and m.nextAttemptAt <= :now) "
+            + "or (m.status = :sending and m.lockedUntil < :now) "
+            + "order by m.nextAttemptAt")
+    List<MailOutboxEntity> findDueForUpdate(@Param("now") LocalDateTime now,
+                                            @Param("pending") MailStatus pending,
+                                            @Param("sending") MailStatus sending,
+                                            Pageable pageable);
+
+    @Modifying
+    @Query("delete from MailOutboxEntity m where m.status in :statuses and m.createdAt < :before")
+    int deleteFinishedBefore(@Param("statuses") Collection<MailStatus> statuses, @Param("before") LocalDateTime before);
+}
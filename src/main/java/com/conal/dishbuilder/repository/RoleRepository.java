@@ -1,13 +1,21 @@
 package com.conal.dishbuilder.repository;
 
+import com.conal.dishbuilder.constant.Constants;
 import com.conal.dishbuilder.domain.RoleEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 import java.util.UUID;
 @Repository
 public interface RoleRepository extends JpaRepository<RoleEntity, UUID> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Constants.CacheRegion.ROLE_QUERY)
+    })
     Optional<RoleEntity> findByName(String name);
 }
 
@@ -4,8 +4,12 @@ import com.conal.dishbuilder.constant.CommonStatus;
 import com.conal.dishbuilder.domain.UserEntity;
 import lombok.NonNull;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 @Repository
@@ -14,9 +18,14 @@ public interface UserRepository extends JpaRepository<UserEntity, UUID> {
 
     Optional<UserEntity> findByIdAndTenantId(@NonNull UUID id, @NonNull UUID tenantId);
 
+    List<UserEntity> findAllByIdInAndTenantId(@NonNull Collection<UUID> ids, @NonNull UUID tenantId);
+
     Optional<UserEntity> findByUsernameAndStatus(@NonNull String username, @NonNull CommonStatus status);
 
     boolean existsByUsernameAndTenantId(@NonNull String username, @NonNull UUID tenantId);
 
     boolean existsByEmailAndTenantId(@NonNull String email, @NonNull UUID tenantId);
+
+    @Query("select u.status from UserEntity u where u.id = :id")
+    Optional<CommonStatus> findStatusById(@Param("id") UUID id);
 }
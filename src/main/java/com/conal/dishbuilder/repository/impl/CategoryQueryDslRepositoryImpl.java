@@ -1,61 +1,116 @@
 package com.conal.dishbuilder.repository.impl;
 
-import com.conal.dishbuilder.domain.CategoryEntity;
+import com.conal.dishbuilder.cache.CountCache;
+import com.conal.dishbuilder.constant.CountMode;
 import com.conal.dishbuilder.dto.request.filter.CategoryFilterRequest;
 import com.conal.dishbuilder.dto.response.CategoryResponse;
 import com.conal.dishbuilder.dto.response.PageResponse;
-import com.conal.dishbuilder.mapper.CategoryMapper;
 import com.conal.dishbuilder.repository.querydsl.CategoryQueryDslRepository;
+import com.conal.dishbuilder.util.CursorUtils;
+import com.conal.dishbuilder.util.SearchUtils;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.function.Function;
 
 import static com.conal.dishbuilder.domain.QCategoryEntity.categoryEntity;
 
 @Repository
 @RequiredArgsConstructor
 public class CategoryQueryDslRepositoryImpl implements CategoryQueryDslRepository {
+    // Only the columns the response needs; no managed entities, snapshots or dirty checking
+    private static final QBean<CategoryResponse> CATEGORY_RESPONSE = Projections.bean(CategoryResponse.class,
+            categoryEntity.id,
+            categoryEntity.name,
+            categoryEntity.description,
+            categoryEntity.tenantId,
+            categoryEntity.createdAt,
+            categoryEntity.updatedAt,
+            Expressions.stringTemplate("str({0})", categoryEntity.createdBy).as("createdBy"),
+            Expressions.stringTemplate("str({0})", categoryEntity.updatedBy).as("updatedBy"));
+
     private final JPAQueryFactory queryFactory;
-    private final CategoryMapper categoryMapper;
+    private final CountCache countCache;
 
     @Override
+    @Transactional(readOnly = true)
     public PageResponse<CategoryResponse> findAll(CategoryFilterRequest filter, Pageable pageable) {
         BooleanBuilder whereClause = buildWhereClause(filter);
+
+        if (filter.useCursorPaging()) {
+            return findAfterCursor(filter, whereClause, pageable.getPageSize());
+        }
         
-        // Get total count
-        long total = queryFactory
-                .select(categoryEntity.count())
+        CountMode countMode = filter.getCountMode();
+
+        // Get paginated results; without a count, one extra row tells whether a next page exists
+        List<CategoryResponse> responses = queryFactory
+                .select(CATEGORY_RESPONSE)
                 .from(categoryEntity)
                 .where(whereClause)
-                .fetchOne();
-        
-        // Get paginated results
-        List<CategoryEntity> entities = queryFactory
-                .selectFrom(categoryEntity)
-                .where(whereClause)
-                .orderBy(categoryEntity.name.asc()) // Default ordering
+                .orderBy(orderBy(filter))
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(countMode == CountMode.NONE ? pageable.getPageSize() + 1L : pageable.getPageSize())
                 .fetch();
-        
-        // Convert to response DTOs
-        List<CategoryResponse> responses = entities.stream()
-                .map(categoryMapper::toResponse)
-                .toList();
+
+        if (countMode == CountMode.NONE) {
+            return PageResponse.fromProbe(responses, pageable);
+        }
+
+        // Get total count
+        long total = countCache.count(CountCache.CATEGORY, filter.getTenantId(), whereClause, countMode, () -> queryFactory
+                .select(categoryEntity.count())
+                .from(categoryEntity)
+                .where(whereClause)
+                .fetchOne());
         
         // Create page
         Page<CategoryResponse> page = new PageImpl<>(responses, pageable, total);
         
-        return PageResponse.fromPage(page);
+        return PageResponse.fromPage(page, countMode);
     }
     
+    private PageResponse<CategoryResponse> findAfterCursor(CategoryFilterRequest filter, BooleanBuilder whereClause, int size) {
+        CursorUtils.Cursor cursor = CursorUtils.decode(filter.getCursor());
+        if (cursor != null) {
+            whereClause.and(CursorUtils.after(categoryEntity.name, categoryEntity.id, cursor));
+        }
+        List<CategoryResponse> responses = queryFactory
+                .select(CATEGORY_RESPONSE)
+                .from(categoryEntity)
+                .where(whereClause)
+                .orderBy(categoryEntity.name.asc(), categoryEntity.id.asc())
+                .limit(size + 1L)
+                .fetch();
+        return PageResponse.fromCursorPage(responses, size,
+                response -> CursorUtils.encode(response.getName(), response.getId()), Function.identity());
+    }
+
+    /**
+     * Offset listings with a search term put the best matches first; name and id keep the order
+     * stable. Cursor listings always seek on (name, id), so they ignore the rank.
+     */
+    private OrderSpecifier<?>[] orderBy(CategoryFilterRequest filter) {
+        String searchQuery = SearchUtils.toPrefixQuery(filter.getSearch());
+        if (searchQuery == null) {
+            return new OrderSpecifier<?>[]{categoryEntity.name.asc(), categoryEntity.id.asc()};
+        }
+        return new OrderSpecifier<?>[]{
+                SearchUtils.rank(categoryEntity.searchVector, searchQuery).desc(), categoryEntity.name.asc(), categoryEntity.id.asc()};
+    }
+
     private BooleanBuilder buildWhereClause(CategoryFilterRequest filter) {
         BooleanBuilder builder = new BooleanBuilder();
         
@@ -63,6 +118,12 @@ public class CategoryQueryDslRepositoryImpl implements CategoryQueryDslRepositor
         if (filter.getTenantId() != null) {
             builder.and(categoryEntity.tenantId.eq(filter.getTenantId()));
         }
+
+        // Full-text search over name and description
+        String searchQuery = SearchUtils.toPrefixQuery(filter.getSearch());
+        if (searchQuery != null) {
+            builder.and(SearchUtils.matches(categoryEntity.searchVector, searchQuery));
+        }
         
         // Filter by name
         if (StringUtils.hasText(filter.getName())) {
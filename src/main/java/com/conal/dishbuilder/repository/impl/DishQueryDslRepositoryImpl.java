@@ -1,22 +1,35 @@
 package com.conal.dishbuilder.repository.impl;
 
-import com.conal.dishbuilder.domain.DishEntity;
+import com.conal.dishbuilder.cache.CountCache;
+import com.conal.dishbuilder.constant.CountMode;
 import com.conal.dishbuilder.dto.request.filter.DishFilterRequest;
 import com.conal.dishbuilder.dto.response.DishResponse;
 import com.conal.dishbuilder.dto.response.PageResponse;
-import com.conal.dishbuilder.mapper.DishMapper;
 import com.conal.dishbuilder.repository.querydsl.DishQueryDslRepository;
+import com.conal.dishbuilder.util.CursorUtils;
+import com.conal.dishbuilder.util.SearchUtils;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
 
+import static com.conal.dishbuilder.domain.QCategoryEntity.categoryEntity;
 import static com.conal.dishbuilder.domain.QDishEntity.dishEntity;
 import static com.conal.dishbuilder.domain.QUserEntity.userEntity;
 import static com.conal.dishbuilder.domain.QIngredientsEntity.ingredientsEntity;
@@ -24,46 +37,149 @@ import static com.conal.dishbuilder.domain.QIngredientsEntity.ingredientsEntity;
 @Repository
 @RequiredArgsConstructor
 public class DishQueryDslRepositoryImpl implements DishQueryDslRepository {
+    // Only the columns the responses need; no managed entities, snapshots or dirty checking
+    private static final QBean<DishResponse> DISH_RESPONSE = Projections.bean(DishResponse.class,
+            dishEntity.id,
+            dishEntity.name,
+            dishEntity.description,
+            dishEntity.tenantId,
+            dishEntity.totalPrice,
+            dishEntity.discount,
+            dishEntity.vat,
+            userEntity.id.as("userId"),
+            userEntity.username.as("userName"),
+            dishEntity.createdAt,
+            dishEntity.updatedAt,
+            Expressions.stringTemplate("str({0})", dishEntity.createdBy).as("createdBy"),
+            Expressions.stringTemplate("str({0})", dishEntity.updatedBy).as("updatedBy"));
+    private static final QBean<DishResponse.IngredientInfo> INGREDIENT_INFO = Projections.bean(DishResponse.IngredientInfo.class,
+            ingredientsEntity.id,
+            ingredientsEntity.name,
+            ingredientsEntity.description,
+            ingredientsEntity.price,
+            categoryEntity.id.as("categoryId"),
+            categoryEntity.name.as("categoryName"));
+
     private final JPAQueryFactory queryFactory;
-    private final DishMapper dishMapper;
+    private final CountCache countCache;
 
+    /**
+     * Two-phase pagination: the page of dish ids is selected in SQL without joining any collection,
+     * then the dish rows with their user and the ingredient rows with their category are projected for
+     * just those ids. Fetch-joining the ingredients in the paged query would make Hibernate page in
+     * memory and multiply the count.
+     */
     @Override
+    @Transactional(readOnly = true)
     public PageResponse<DishResponse> findAll(DishFilterRequest filter, Pageable pageable) {
         BooleanBuilder whereClause = buildWhereClause(filter);
-        
-        // Get total count
-        long total = queryFactory
-                .select(dishEntity.count())
+
+        if (filter.useCursorPaging()) {
+            return findAfterCursor(filter, whereClause, pageable.getPageSize());
+        }
+
+        CountMode countMode = filter.getCountMode();
+
+        // Phase 1: page of ids, ordered by search rank (if any), then name with id as a stable tie-breaker;
+        // without a count, one extra id tells whether a next page exists
+        List<UUID> ids = queryFactory
+                .select(dishEntity.id)
                 .from(dishEntity)
-                .leftJoin(dishEntity.user, userEntity)
-                .leftJoin(dishEntity.ingredients, ingredientsEntity)
-                .where(whereClause)
-                .fetchOne();
-        
-        // Get paginated results with joins
-        List<DishEntity> entities = queryFactory
-                .selectFrom(dishEntity)
-                .leftJoin(dishEntity.user, userEntity)
-                .fetchJoin()
-                .leftJoin(dishEntity.ingredients, ingredientsEntity)
-                .fetchJoin()
                 .where(whereClause)
-                .orderBy(dishEntity.name.asc()) // Default ordering
+                .orderBy(orderBy(filter))
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(countMode == CountMode.NONE ? pageable.getPageSize() + 1L : pageable.getPageSize())
                 .fetch();
-        
-        // Convert to response DTOs
-        List<DishResponse> responses = entities.stream()
-                .map(dishMapper::toResponse)
-                .toList();
-        
-        // Create page
-        Page<DishResponse> page = new PageImpl<>(responses, pageable, total);
-        
-        return PageResponse.fromPage(page);
+
+        // Phase 2: project the responses for those ids only
+        List<DishResponse> responses = fetchByIds(ids);
+
+        if (countMode == CountMode.NONE) {
+            return PageResponse.fromProbe(responses, pageable);
+        }
+
+        // The count is skipped when the page itself reveals the total
+        Page<DishResponse> page = PageableExecutionUtils.getPage(responses, pageable,
+                () -> countCache.count(CountCache.DISH, filter.getTenantId(), whereClause, countMode, () -> queryFactory
+                        .select(dishEntity.count())
+                        .from(dishEntity)
+                        .where(whereClause)
+                        .fetchOne()));
+
+        return PageResponse.fromPage(page, countMode);
     }
-    
+
+    private PageResponse<DishResponse> findAfterCursor(DishFilterRequest filter, BooleanBuilder whereClause, int size) {
+        CursorUtils.Cursor cursor = CursorUtils.decode(filter.getCursor());
+        if (cursor != null) {
+            whereClause.and(CursorUtils.after(dishEntity.name, dishEntity.id, cursor));
+        }
+        List<UUID> ids = queryFactory
+                .select(dishEntity.id)
+                .from(dishEntity)
+                .where(whereClause)
+                .orderBy(dishEntity.name.asc(), dishEntity.id.asc())
+                .limit(size + 1L)
+                .fetch();
+        return PageResponse.fromCursorPage(fetchByIds(ids), size,
+                response -> CursorUtils.encode(response.getName(), response.getId()), Function.identity());
+    }
+
+    private List<DishResponse> fetchByIds(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, DishResponse> byId = new HashMap<>(ids.size() * 2);
+        queryFactory
+                .select(DISH_RESPONSE)
+                .from(dishEntity)
+                .leftJoin(dishEntity.user, userEntity)
+                .where(dishEntity.id.in(ids))
+                .fetch()
+                .forEach(response -> {
+                    response.setIngredients(new ArrayList<>());
+                    byId.put(response.getId(), response);
+                });
+
+        // Ingredient rows for the whole page in one query
+        queryFactory
+                .select(dishEntity.id, INGREDIENT_INFO)
+                .from(dishEntity)
+                .join(dishEntity.ingredients, ingredientsEntity)
+                .leftJoin(ingredientsEntity.category, categoryEntity)
+                .where(dishEntity.id.in(ids))
+                .fetch()
+                .forEach(row -> {
+                    DishResponse response = byId.get(row.get(dishEntity.id));
+                    if (response != null) {
+                        response.getIngredients().add(row.get(INGREDIENT_INFO));
+                    }
+                });
+
+        // IN does not preserve order; restore the phase-1 ordering
+        List<DishResponse> ordered = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            DishResponse response = byId.get(id);
+            if (response != null) {
+                ordered.add(response);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Offset listings with a search term put the best matches first; name and id keep the order
+     * stable. Cursor listings always seek on (name, id), so they ignore the rank.
+     */
+    private OrderSpecifier<?>[] orderBy(DishFilterRequest filter) {
+        String searchQuery = SearchUtils.toPrefixQuery(filter.getSearch());
+        if (searchQuery == null) {
+            return new OrderSpecifier<?>[]{dishEntity.name.asc(), dishEntity.id.asc()};
+        }
+        return new OrderSpecifier<?>[]{
+                SearchUtils.rank(dishEntity.searchVector, searchQuery).desc(), dishEntity.name.asc(), dishEntity.id.asc()};
+    }
+
     private BooleanBuilder buildWhereClause(DishFilterRequest filter) {
         BooleanBuilder builder = new BooleanBuilder();
         
@@ -71,6 +187,12 @@ public class DishQueryDslRepositoryImpl implements DishQueryDslRepository {
         if (filter.getTenantId() != null) {
             builder.and(dishEntity.tenantId.eq(filter.getTenantId()));
         }
+
+        // Full-text search over name and description
+        String searchQuery = SearchUtils.toPrefixQuery(filter.getSearch());
+        if (searchQuery != null) {
+            builder.and(SearchUtils.matches(dishEntity.searchVector, searchQuery));
+        }
         
         // Filter by name
         if (StringUtils.hasText(filter.getName())) {
@@ -105,17 +227,17 @@ public class DishQueryDslRepositoryImpl implements DishQueryDslRepository {
         
         // Filter by user name
         if (StringUtils.hasText(filter.getUserName())) {
-            builder.and(userEntity.username.containsIgnoreCase(filter.getUserName()));
+            builder.and(dishEntity.user.username.containsIgnoreCase(filter.getUserName()));
         }
         
-        // Filter by ingredient ID
+        // Ingredient filters become EXISTS subqueries, so no join is added when they are absent
         if (filter.getIngredientId() != null) {
-            builder.and(ingredientsEntity.id.eq(filter.getIngredientId()));
+            builder.and(dishEntity.ingredients.any().id.eq(filter.getIngredientId()));
         }
         
         // Filter by ingredient name
         if (StringUtils.hasText(filter.getIngredientName())) {
-            builder.and(ingredientsEntity.name.containsIgnoreCase(filter.getIngredientName()));
+            builder.and(dishEntity.ingredients.any().name.containsIgnoreCase(filter.getIngredientName()));
         }
         
         return builder;
@@ -1,21 +1,29 @@
 package com.conal.dishbuilder.repository.impl;
 
-import com.conal.dishbuilder.domain.IngredientsEntity;
+import com.conal.dishbuilder.cache.CountCache;
+import com.conal.dishbuilder.constant.CountMode;
 import com.conal.dishbuilder.dto.request.filter.IngredientsFilterRequest;
 import com.conal.dishbuilder.dto.response.IngredientsResponse;
 import com.conal.dishbuilder.dto.response.PageResponse;
-import com.conal.dishbuilder.mapper.IngredientsMapper;
 import com.conal.dishbuilder.repository.querydsl.IngredientsQueryDslRepository;
+import com.conal.dishbuilder.util.CursorUtils;
+import com.conal.dishbuilder.util.SearchUtils;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.function.Function;
 
 import static com.conal.dishbuilder.domain.QIngredientsEntity.ingredientsEntity;
 import static com.conal.dishbuilder.domain.QCategoryEntity.categoryEntity;
@@ -23,43 +31,93 @@ import static com.conal.dishbuilder.domain.QCategoryEntity.categoryEntity;
 @Repository
 @RequiredArgsConstructor
 public class IngredientsQueryDslRepositoryImpl implements IngredientsQueryDslRepository {
+    // Only the columns the response needs; no managed entities, snapshots or dirty checking
+    private static final QBean<IngredientsResponse> INGREDIENTS_RESPONSE = Projections.bean(IngredientsResponse.class,
+            ingredientsEntity.id,
+            ingredientsEntity.name,
+            ingredientsEntity.description,
+            ingredientsEntity.tenantId,
+            ingredientsEntity.price,
+            categoryEntity.id.as("categoryId"),
+            categoryEntity.name.as("categoryName"),
+            ingredientsEntity.createdAt,
+            ingredientsEntity.updatedAt,
+            Expressions.stringTemplate("str({0})", ingredientsEntity.createdBy).as("createdBy"),
+            Expressions.stringTemplate("str({0})", ingredientsEntity.updatedBy).as("updatedBy"));
+
     private final JPAQueryFactory queryFactory;
-    private final IngredientsMapper ingredientsMapper;
+    private final CountCache countCache;
 
     @Override
+    @Transactional(readOnly = true)
     public PageResponse<IngredientsResponse> findAll(IngredientsFilterRequest filter, Pageable pageable) {
         BooleanBuilder whereClause = buildWhereClause(filter);
+
+        if (filter.useCursorPaging()) {
+            return findAfterCursor(filter, whereClause, pageable.getPageSize());
+        }
         
-        // Get total count
-        long total = queryFactory
-                .select(ingredientsEntity.count())
+        CountMode countMode = filter.getCountMode();
+
+        // Get paginated results with category join; without a count, one extra row tells whether a next page exists
+        List<IngredientsResponse> responses = queryFactory
+                .select(INGREDIENTS_RESPONSE)
                 .from(ingredientsEntity)
                 .leftJoin(ingredientsEntity.category, categoryEntity)
                 .where(whereClause)
-                .fetchOne();
-        
-        // Get paginated results with category join
-        List<IngredientsEntity> entities = queryFactory
-                .selectFrom(ingredientsEntity)
-                .leftJoin(ingredientsEntity.category, categoryEntity)
-                .fetchJoin()
-                .where(whereClause)
-                .orderBy(ingredientsEntity.name.asc()) // Default ordering
+                .orderBy(orderBy(filter))
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(countMode == CountMode.NONE ? pageable.getPageSize() + 1L : pageable.getPageSize())
                 .fetch();
-        
-        // Convert to response DTOs
-        List<IngredientsResponse> responses = entities.stream()
-                .map(ingredientsMapper::toResponse)
-                .toList();
+
+        if (countMode == CountMode.NONE) {
+            return PageResponse.fromProbe(responses, pageable);
+        }
+
+        // Get total count
+        long total = countCache.count(CountCache.INGREDIENTS, filter.getTenantId(), whereClause, countMode, () -> queryFactory
+                .select(ingredientsEntity.count())
+                .from(ingredientsEntity)
+                .leftJoin(ingredientsEntity.category, categoryEntity)
+                .where(whereClause)
+                .fetchOne());
         
         // Create page
         Page<IngredientsResponse> page = new PageImpl<>(responses, pageable, total);
         
-        return PageResponse.fromPage(page);
+        return PageResponse.fromPage(page, countMode);
     }
     
+    private PageResponse<IngredientsResponse> findAfterCursor(IngredientsFilterRequest filter, BooleanBuilder whereClause, int size) {
+        CursorUtils.Cursor cursor = CursorUtils.decode(filter.getCursor());
+        if (cursor != null) {
+            whereClause.and(CursorUtils.after(ingredientsEntity.name, ingredientsEntity.id, cursor));
+        }
+        List<IngredientsResponse> responses = queryFactory
+                .select(INGREDIENTS_RESPONSE)
+                .from(ingredientsEntity)
+                .leftJoin(ingredientsEntity.category, categoryEntity)
+                .where(whereClause)
+                .orderBy(ingredientsEntity.name.asc(), ingredientsEntity.id.asc())
+                .limit(size + 1L)
+                .fetch();
+        return PageResponse.fromCursorPage(responses, size,
+                response -> CursorUtils.encode(response.getName(), response.getId()), Function.identity());
+    }
+
+    /**
+     * Offset listings with a search term put the best matches first; name and id keep the order
+     * stable. Cursor listings always seek on (name, id), so they ignore the rank.
+     */
+    private OrderSpecifier<?>[] orderBy(IngredientsFilterRequest filter) {
+        String searchQuery = SearchUtils.toPrefixQuery(filter.getSearch());
+        if (searchQuery == null) {
+            return new OrderSpecifier<?>[]{ingredientsEntity.name.asc(), ingredientsEntity.id.asc()};
+        }
+        return new OrderSpecifier<?>[]{
+                SearchUtils.rank(ingredientsEntity.searchVector, searchQuery).desc(), ingredientsEntity.name.asc(), ingredientsEntity.id.asc()};
+    }
+
     private BooleanBuilder buildWhereClause(IngredientsFilterRequest filter) {
         BooleanBuilder builder = new BooleanBuilder();
         
@@ -67,6 +125,12 @@ public class IngredientsQueryDslRepositoryImpl implements IngredientsQueryDslRep
         if (filter.getTenantId() != null) {
             builder.and(ingredientsEntity.tenantId.eq(filter.getTenantId()));
         }
+
+        // Full-text search over name and description
+        String searchQuery = SearchUtils.toPrefixQuery(filter.getSearch());
+        if (searchQuery != null) {
+            builder.and(SearchUtils.matches(ingredientsEntity.searchVector, searchQuery));
+        }
         
         // Filter by name
         if (StringUtils.hasText(filter.getName())) {
@@ -1,16 +1,19 @@
 package com.conal.dishbuilder.repository.impl;
 
+import com.conal.dishbuilder.cache.CountCache;
+import com.conal.dishbuilder.constant.CountMode;
 import com.conal.dishbuilder.domain.QTenantEntity;
-import com.conal.dishbuilder.domain.TenantEntity;
 import com.conal.dishbuilder.dto.request.filter.TenantFilterRequest;
 import com.conal.dishbuilder.dto.response.PageResponse;
 import com.conal.dishbuilder.dto.response.TenantResponse;
 import com.conal.dishbuilder.exception.UnsupportedSortPropertyException;
-import com.conal.dishbuilder.mapper.TenantMapper;
 import com.conal.dishbuilder.repository.querydsl.TenantQueryDslRepository;
+import com.conal.dishbuilder.util.CursorUtils;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,8 +22,10 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Repository
@@ -29,10 +34,20 @@ import java.util.stream.Collectors;
 public class TenantQueryDslRepositoryImpl implements TenantQueryDslRepository {
 
     private final QTenantEntity tenant = QTenantEntity.tenantEntity;
+    // Only the columns the response needs, in TenantResponse constructor order
+    private final ConstructorExpression<TenantResponse> tenantResponse = Projections.constructor(TenantResponse.class,
+            tenant.id,
+            tenant.name,
+            tenant.phone,
+            tenant.email,
+            tenant.urlSlug,
+            tenant.subDomain,
+            tenant.logoUrl);
     private final JPAQueryFactory factory;
-    private final TenantMapper tenantMapper;
+    private final CountCache countCache;
 
     @Override
+    @Transactional(readOnly = true)
     public PageResponse<TenantResponse> findAll(TenantFilterRequest filter, Pageable pageable) {
         BooleanBuilder conditionBuilder = new BooleanBuilder();
 
@@ -52,43 +67,67 @@ public class TenantQueryDslRepositoryImpl implements TenantQueryDslRepository {
         if (Boolean.TRUE.equals(filter.isIgnorePaging())) {
             log.info("Fetching all tenants without pagination");
 
-            List<TenantEntity> entities = factory.selectFrom(tenant)
+            List<TenantResponse> responses = factory.select(tenantResponse)
+                    .from(tenant)
                     .where(conditionBuilder)
                     .fetch();
 
-            List<TenantResponse> responses = entities.stream()
-                    .map(tenantMapper::toDto)
-                    .toList();
-
             return PageResponse.fromPage(new PageImpl<>(responses, Pageable.unpaged(), responses.size()));
         }
 
+        if (filter.useCursorPaging()) {
+            return findAfterCursor(filter, conditionBuilder, pageable.getPageSize());
+        }
+
         log.info("Fetching tenants with pagination - page: {}, size: {}", pageable.getPageNumber(), pageable.getPageSize());
 
         List<OrderSpecifier<?>> orderSpecifiers = getOrderSpecifiers(pageable);
         log.debug("Sorting with: {}", orderSpecifiers);
 
-        List<TenantEntity> pagedEntities = factory.selectFrom(tenant)
+        CountMode countMode = filter.getCountMode();
+        List<TenantResponse> responses = factory.select(tenantResponse)
+                .from(tenant)
                 .where(conditionBuilder)
                 .orderBy(orderSpecifiers.toArray(OrderSpecifier[]::new))
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(countMode == CountMode.NONE ? pageable.getPageSize() + 1L : pageable.getPageSize())
                 .fetch();
 
-        Long totalCount = factory.select(tenant.count().coalesce(0L))
-                .from(tenant)
-                .where(conditionBuilder)
-                .fetchOne();
-
-        long safeTotal = totalCount != null ? totalCount : 0L;
+        if (countMode == CountMode.NONE) {
+            log.info("Fetched {} tenants without total", Math.min(responses.size(), pageable.getPageSize()));
+            return PageResponse.fromProbe(responses, pageable);
+        }
 
-        List<TenantResponse> responses = pagedEntities.stream()
-                .map(tenantMapper::toDto)
-                .toList();
+        long safeTotal = countCache.count(CountCache.TENANT, filter.getTenantId(), conditionBuilder, countMode,
+                () -> factory.select(tenant.count().coalesce(0L))
+                        .from(tenant)
+                        .where(conditionBuilder)
+                        .fetchOne());
 
         log.info("Fetched {} tenants out of total {}", responses.size(), safeTotal);
 
-        return PageResponse.fromPage(new PageImpl<>(responses, pageable, safeTotal));
+        return PageResponse.fromPage(new PageImpl<>(responses, pageable, safeTotal), countMode);
+    }
+
+    /**
+     * Keyset mode always orders by (name, id); the requested sort is not applied.
+     */
+    private PageResponse<TenantResponse> findAfterCursor(TenantFilterRequest filter, BooleanBuilder conditionBuilder, int size) {
+        CursorUtils.Cursor cursor = CursorUtils.decode(filter.getCursor());
+        if (cursor != null) {
+            conditionBuilder.and(CursorUtils.after(tenant.name, tenant.id, cursor));
+        }
+        log.info("Fetching tenants after cursor - size: {}", size);
+
+        List<TenantResponse> responses = factory.select(tenantResponse)
+                .from(tenant)
+                .where(conditionBuilder)
+                .orderBy(tenant.name.asc(), tenant.id.asc())
+                .limit(size + 1L)
+                .fetch();
+
+        return PageResponse.fromCursorPage(responses, size,
+                response -> CursorUtils.encode(response.getName(), response.getId()), Function.identity());
     }
 
     public List<OrderSpecifier<?>> getOrderSpecifiers(Pageable pageable) {
@@ -1,17 +1,21 @@
 package com.conal.dishbuilder.repository.impl;
 
+import com.conal.dishbuilder.cache.CountCache;
 import com.conal.dishbuilder.constant.CommonStatus;
+import com.conal.dishbuilder.constant.CountMode;
+import com.conal.dishbuilder.domain.QTenantEntity;
 import com.conal.dishbuilder.domain.QUserEntity;
-import com.conal.dishbuilder.domain.UserEntity;
 import com.conal.dishbuilder.dto.request.filter.UserFilterRequest;
 import com.conal.dishbuilder.dto.response.PageResponse;
 import com.conal.dishbuilder.dto.response.UserResponse;
 import com.conal.dishbuilder.exception.UnsupportedSortPropertyException;
-import com.conal.dishbuilder.mapper.UserMapper;
 import com.conal.dishbuilder.repository.querydsl.UserQueryDslRepository;
+import com.conal.dishbuilder.util.CursorUtils;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,8 +24,10 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Repository
@@ -30,10 +36,24 @@ import java.util.stream.Collectors;
 public class UserQueryDslRepositoryImpl implements UserQueryDslRepository {
 
     private final QUserEntity user = QUserEntity.userEntity;
+    private final QTenantEntity tenant = QTenantEntity.tenantEntity;
+    // Only the columns the response needs; the tenant name comes from a join instead of a lazy load per row
+    private final QBean<UserResponse> userResponse = Projections.bean(UserResponse.class,
+            user.id,
+            user.username,
+            user.logoUrl,
+            user.firstName,
+            user.lastName,
+            user.phone,
+            user.email,
+            user.registerWith,
+            user.status,
+            tenant.name.as("tenant"));
     private final JPAQueryFactory factory;
-    private final UserMapper userMapper;
+    private final CountCache countCache;
 
     @Override
+    @Transactional(readOnly = true)
     public PageResponse<UserResponse> findAll(UserFilterRequest filter, Pageable pageable) {
         BooleanBuilder conditionBuilder = new BooleanBuilder();
 
@@ -63,43 +83,70 @@ public class UserQueryDslRepositoryImpl implements UserQueryDslRepository {
         if (Boolean.TRUE.equals(filter.isIgnorePaging())) {
             log.info("Fetching all users without pagination");
 
-            List<UserEntity> entities = factory.selectFrom(user)
+            List<UserResponse> responses = factory.select(userResponse)
+                    .from(user)
+                    .leftJoin(user.tenant, tenant)
                     .where(conditionBuilder)
                     .fetch();
 
-            List<UserResponse> responses = entities.stream()
-                    .map(userMapper::toDto)
-                    .toList();
-
             return PageResponse.fromPage(new PageImpl<>(responses, Pageable.unpaged(), responses.size()));
         }
 
+        if (filter.useCursorPaging()) {
+            return findAfterCursor(filter, conditionBuilder, pageable.getPageSize());
+        }
+
         log.info("Fetching users with pagination - page: {}, size: {}", pageable.getPageNumber(), pageable.getPageSize());
 
         List<OrderSpecifier<?>> orderSpecifiers = getOrderSpecifiers(pageable);
         log.debug("Sorting with: {}", orderSpecifiers);
 
-        List<UserEntity> pagedEntities = factory.selectFrom(user)
+        CountMode countMode = filter.getCountMode();
+        List<UserResponse> responses = factory.select(userResponse)
+                .from(user)
+                .leftJoin(user.tenant, tenant)
                 .where(conditionBuilder)
                 .orderBy(orderSpecifiers.toArray(OrderSpecifier[]::new))
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(countMode == CountMode.NONE ? pageable.getPageSize() + 1L : pageable.getPageSize())
                 .fetch();
 
-        Long totalCount = factory.select(user.count().coalesce(0L))
-                .from(user)
-                .where(conditionBuilder)
-                .fetchOne();
-
-        long safeTotal = totalCount != null ? totalCount : 0L;
+        if (countMode == CountMode.NONE) {
+            log.info("Fetched {} users without total", Math.min(responses.size(), pageable.getPageSize()));
+            return PageResponse.fromProbe(responses, pageable);
+        }
 
-        List<UserResponse> responses = pagedEntities.stream()
-                .map(userMapper::toDto)
-                .toList();
+        long safeTotal = countCache.count(CountCache.USER, filter.getTenantId(), conditionBuilder, countMode,
+                () -> factory.select(user.count().coalesce(0L))
+                        .from(user)
+                        .where(conditionBuilder)
+                        .fetchOne());
 
         log.info("Fetched {} users out of total {}", responses.size(), safeTotal);
 
-        return PageResponse.fromPage(new PageImpl<>(responses, pageable, safeTotal));
+        return PageResponse.fromPage(new PageImpl<>(responses, pageable, safeTotal), countMode);
+    }
+
+    /**
+     * Keyset mode always orders by (username, id); the requested sort is not applied.
+     */
+    private PageResponse<UserResponse> findAfterCursor(UserFilterRequest filter, BooleanBuilder conditionBuilder, int size) {
+        CursorUtils.Cursor cursor = CursorUtils.decode(filter.getCursor());
+        if (cursor != null) {
+            conditionBuilder.and(CursorUtils.after(user.username, user.id, cursor));
+        }
+        log.info("Fetching users after cursor - size: {}", size);
+
+        List<UserResponse> responses = factory.select(userResponse)
+                .from(user)
+                .leftJoin(user.tenant, tenant)
+                .where(conditionBuilder)
+                .orderBy(user.username.asc(), user.id.asc())
+                .limit(size + 1L)
+                .fetch();
+
+        return PageResponse.fromCursorPage(responses, size,
+                response -> CursorUtils.encode(response.getUsername(), response.getId()), Function.identity());
     }
 
     public List<OrderSpecifier<?>> getOrderSpecifiers(Pageable pageable) {
@@ -15,6 +15,8 @@ public interface AuthService {
 
     void logout(String refreshToken, String accessToken);
 
+    void logoutAll(String accessToken);
+
     boolean updatePassword(UpdatePasswordRequest request);
 
     LoginResponse refreshToken(String refreshToken, String accessToken);
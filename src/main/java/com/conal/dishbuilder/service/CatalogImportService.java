@@ -0,0 +1,11 @@
+package com.conal.dishbuilder.service;
+
+import com.conal.dishbuilder.constant.ImportFormat;
+import com.conal.dishbuilder.dto.response.ImportResponse;
+
+import java.io.InputStream;
+
+public interface CatalogImportService {
+    ImportResponse importCategories(InputStream inputStream, ImportFormat format);
+    ImportResponse importIngredients(InputStream inputStream, ImportFormat format);
+}
@@ -1,11 +1,16 @@
 package com.conal.dishbuilder.service;
 
+import com.conal.dishbuilder.dto.BulkUpdateDishRequest;
 import com.conal.dishbuilder.dto.CreateDishRequest;
+import com.conal.dishbuilder.dto.DishQuoteRequest;
 import com.conal.dishbuilder.dto.UpdateDishRequest;
 import com.conal.dishbuilder.dto.request.filter.DishFilterRequest;
+import com.conal.dishbuilder.dto.response.BulkItemResponse;
+import com.conal.dishbuilder.dto.response.DishQuoteResponse;
 import com.conal.dishbuilder.dto.response.DishResponse;
 import com.conal.dishbuilder.dto.response.PageResponse;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface DishService {
@@ -14,4 +19,19 @@ public interface DishService {
     DishResponse getDishById(UUID id);
     PageResponse<DishResponse> getDishes(DishFilterRequest filterRequest);
     boolean deleteDish(UUID id);
+
+    /**
+     * Creates every valid dish of the batch; invalid ones are reported per item and skipped.
+     */
+    List<BulkItemResponse<DishResponse>> addDishes(List<CreateDishRequest> dishes);
+
+    /**
+     * Updates every valid dish of the batch; invalid or unknown ones are reported per item and skipped.
+     */
+    List<BulkItemResponse<DishResponse>> updateDishes(List<BulkUpdateDishRequest> dishes);
+
+    /**
+     * Prices an ingredient set from the tenant's in-memory price table without persisting anything.
+     */
+    DishQuoteResponse quote(DishQuoteRequest request);
 }
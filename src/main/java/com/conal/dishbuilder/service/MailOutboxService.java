@@ -0,0 +1,40 @@
+package com.conal.dishbuilder.service;
+
+import com.conal.dishbuilder.domain.MailOutboxEntity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+public interface MailOutboxService {
+    /**
+     * Queues a mail for asynchronous delivery; commits with the caller's transaction, if any.
+     */
+    UUID enqueue(UUID tenantId, String to, String subject, String body, boolean html);
+
+    /**
+     * Claims up to {@code limit} due mails for this worker, counting the attempt.
+     */
+    List<MailOutboxEntity> claimDue(int limit);
+
+    /**
+     * Marks a mail delivered and clears its body, which may hold a one-time password.
+     */
+    void markSent(UUID id);
+
+    /**
+     * Schedules a retry with exponential backoff, or dead-letters the mail once attempts are exhausted.
+     * A dead-lettered mail has its body cleared, like a sent one.
+     */
+    void markFailed(UUID id, String error);
+
+    /**
+     * Puts a claimed mail back without counting the attempt (throttled, not failed).
+     */
+    void defer(UUID id, Duration delay);
+
+    /**
+     * Deletes sent and dead mails older than the configured retention; returns how many were removed.
+     */
+    int purgeFinished();
+}
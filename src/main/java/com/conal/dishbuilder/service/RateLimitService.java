@@ -3,6 +3,9 @@ package com.conal.dishbuilder.service;
 import com.conal.dishbuilder.dto.response.SendOTPResponse;
 
 public interface RateLimitService {
-    SendOTPResponse canSendOtp(String ...params);
-    void logSuccessfullySent(String ...params);
+    /**
+     * Checks the OTP limits of the given action and subject and, when allowed, records the send in
+     * the same atomic step.
+     */
+    SendOTPResponse canSendOtp(String action, String subject);
 }
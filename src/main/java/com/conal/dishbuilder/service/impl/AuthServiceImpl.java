@@ -13,8 +13,9 @@ import com.conal.dishbuilder.exception.*;
 import com.conal.dishbuilder.exception.IllegalAccessException;
 import com.conal.dishbuilder.repository.UserRepository;
 import com.conal.dishbuilder.service.AuthService;
-import com.conal.dishbuilder.service.MailService;
+import com.conal.dishbuilder.service.MailOutboxService;
 import com.conal.dishbuilder.service.RateLimitService;
+import com.conal.dishbuilder.template.MailTemplateRegistry;
 import com.conal.dishbuilder.util.*;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +27,8 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -40,7 +43,8 @@ public class AuthServiceImpl implements AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtUtils jwtUtils;
     private final UserRepository userRepository;
-    private final MailService mailService;
+    private final MailOutboxService mailOutboxService;
+    private final MailTemplateRegistry mailTemplateRegistry;
     private final RateLimitService rateLimitService;
     private final RedisUtils redisUtils;
 
@@ -61,7 +65,7 @@ public class AuthServiceImpl implements AuthService {
             Authentication authenticate = authenticationManager.authenticate(token);
             UserDetails userDetails = (UserDetails) authenticate.getPrincipal();
 
-            String accessToken = jwtUtils.generateAccessToken(userDetails);
+            String accessToken = jwtUtils.generateAccessToken(userDetails, user);
             String refreshToken = jwtUtils.generateRefreshToken(userDetails);
             log.info("Login successful for user: {}", user.getUsername());
 
@@ -97,21 +101,21 @@ public class AuthServiceImpl implements AuthService {
         String otp = CommonUtils.genOTP(OTP_LENGTH);
         log.debug("Generated OTP for user: {} is {}", username, otp); // Consider removing in production
 
-        String htmlContent = FileUtils.loadTemplate(otp, Constants.FORGOT_PASSWORD_OTP_TEMPLATE_FILE_PATH);
+        String htmlContent = mailTemplateRegistry.render(tenantId, MailTemplateRegistry.OTP_MAIL, Map.of("OTP_CODE", otp));
 
-        if (!mailService.sendMail(user.getEmail(), Constants.SUBJECT, htmlContent)) {
-            log.error("Failed to send OTP email to user: {}", username);
-            throw new InternalServerException("Failed to send OTP");
-        }
+        // Delivered by MailOutboxWorker with retries; a slow or failing SMTP server no longer holds the request
+        mailOutboxService.enqueue(tenantId, user.getEmail(), Constants.SUBJECT, htmlContent, false);
 
         String otpKey = redisUtils.genKey(Actions.FORGOT_PASSWORD.name(), username);
         String sessionId = UUID.randomUUID().toString();
         String sessionKey = redisUtils.genKey(Actions.VALIDATE_OTP.name(), sessionId);
 
-        redisUtils.set(otpKey, otp, Constants.EXPIRY_TIME);
-        redisUtils.set(sessionKey, "false", Constants.EXPIRY_TIME);
+        // One pipelined round trip for both keys
+        redisUtils.batch()
+                .set(otpKey, otp, Constants.EXPIRY_TIME, TimeUnit.MINUTES)
+                .set(sessionKey, "false", Constants.EXPIRY_TIME, TimeUnit.MINUTES)
+                .execute();
 
-        rateLimitService.logSuccessfullySent(Actions.FORGOT_PASSWORD.name(), username);
         log.info("OTP sent and session created for user: {}, sessionId: {}", username, sessionId);
 
         return sessionId;
@@ -136,8 +140,10 @@ public class AuthServiceImpl implements AuthService {
         }
 
         String sessionKey = redisUtils.genKey(Actions.VALIDATE_OTP.name(), sessionId);
-        redisUtils.set(sessionKey, "true", Constants.EXPIRY_TIME);
-        redisUtils.remove(otpKey);
+        redisUtils.batch()
+                .set(sessionKey, "true", Constants.EXPIRY_TIME, TimeUnit.MINUTES)
+                .remove(otpKey)
+                .execute();
 
         log.info("OTP successfully validated for user: {}, sessionId: {}", username, sessionId);
         return true;
@@ -152,6 +158,17 @@ public class AuthServiceImpl implements AuthService {
         }
     }
 
+    @Override
+    public void logoutAll(String accessToken) {
+        if (StringUtils.isBlank(accessToken) || !jwtUtils.validateToken(accessToken)
+                || jwtUtils.existsTokenInBlacklist(accessToken, TokenType.ACCESS)) {
+            throw new ForbiddenException("Invalid access token");
+        }
+        String username = jwtUtils.getUsername(accessToken);
+        jwtUtils.revokeAllIssuedBefore(username, Instant.now());
+        log.info("All sessions revoked for user: {}", username);
+    }
+
     @Override
     public boolean updatePassword(UpdatePasswordRequest request) {
         String username = UserContextHolder.getUserContext();
@@ -212,7 +229,7 @@ public class AuthServiceImpl implements AuthService {
             Authentication authenticate = authenticationManager.authenticate(token);
             UserDetails userDetails = (UserDetails) authenticate.getPrincipal();
 
-            String newAccessToken = jwtUtils.generateAccessToken(userDetails);
+            String newAccessToken = jwtUtils.generateAccessToken(userDetails, user);
             log.info("New access token: {}", newAccessToken);
             jwtUtils.addTokenIntoBlacklist(accessToken, TokenType.ACCESS);
             log.info("Retrieved access token: {}", accessToken);
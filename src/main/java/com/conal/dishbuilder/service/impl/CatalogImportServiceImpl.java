@@ -0,0 +1,297 @@
+package com.conal.dishbuilder.service.impl;
+
+import com.conal.dishbuilder.cache.CatalogVersion;
+import com.conal.dishbuilder.cache.CountCache;
+import com.conal.dishbuilder.constant.ImportFormat;
+import com.conal.dishbuilder.context.TenantContextHolder;
+import com.conal.dishbuilder.dto.CreateCategoryRequest;
+import com.conal.dishbuilder.dto.CreateIngredientsRequest;
+import com.conal.dishbuilder.dto.response.FieldErrorResponse;
+import com.conal.dishbuilder.dto.response.ImportResponse;
+import com.conal.dishbuilder.dto.response.ImportRowErrorResponse;
+import com.conal.dishbuilder.exception.BadRequestException;
+import com.conal.dishbuilder.service.CatalogImportService;
+import com.conal.dishbuilder.util.CommonUtils;
+import com.conal.dishbuilder.util.ImportRowReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static com.conal.dishbuilder.util.CommonUtils.buildFieldErrorResponse;
+
+/**
+ * Bulk import of categories and ingredients from a streamed CSV or NDJSON upload.
+ * <p>
+ * Existing names and categories of the tenant are loaded once up front, so each row is validated
+ * in memory, and valid rows are written with JDBC batch inserts of {@code batch-size} rows. Invalid
+ * rows are skipped and reported by row number; the valid ones are imported in one transaction.
+ */
+@Slf4j
+@Service
+public class CatalogImportServiceImpl implements CatalogImportService {
+    private static final String INSERT_CATEGORY = "INSERT INTO dish_builder_schema.category "
+            + "(id, name, description, tenant_id, created_by, created_at, updated_by, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_INGREDIENT = "INSERT INTO dish_builder_schema.ingredients "
+            + "(id, name, description, price, tenant_id, category_id, created_by, created_at, updated_by, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_USER_ID = "SELECT id FROM dish_builder_schema.\"user\" WHERE username = ?";
+    private static final int MAX_LISTED_ERRORS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final CountCache countCache;
+    private final CatalogVersion catalogVersion;
+    private final int batchSize;
+    private final long maxRows;
+
+    public CatalogImportServiceImpl(JdbcTemplate jdbcTemplate,
+                                    ObjectMapper objectMapper,
+                                    Validator validator,
+                                    CountCache countCache,
+                                    CatalogVersion catalogVersion,
+                                    @Value("${dish-builder.import.batch-size:1000}") int batchSize,
+                                    @Value("${dish-builder.import.max-rows:100000}") long maxRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.countCache = countCache;
+        this.catalogVersion = catalogVersion;
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+    }
+
+    @Override
+    @Transactional
+    public ImportResponse importCategories(InputStream inputStream, ImportFormat format) {
+        UUID tenantId = TenantContextHolder.getTenantContext();
+        Set<String> names = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT name FROM dish_builder_schema.category WHERE tenant_id = ?", String.class, tenantId));
+        UUID userId = currentUserId();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> pending = new ArrayList<>(batchSize);
+
+        ImportReport report = read(inputStream, format, values -> {
+            CreateCategoryRequest request = new CreateCategoryRequest();
+            request.setName(StringUtils.trimToNull(values.get("name")));
+            request.setDescription(StringUtils.trimToNull(values.get("description")));
+
+            List<FieldErrorResponse> errors = validate(request, Set.of());
+            if (errors.isEmpty() && !names.add(request.getName())) {
+                errors.add(buildFieldErrorResponse("name", request.getName(), "Name already exists."));
+            }
+            if (errors.isEmpty()) {
+                pending.add(new Object[]{UUID.randomUUID(), request.getName(), request.getDescription(), tenantId,
+                        userId, now, userId, now});
+                flushIfFull(INSERT_CATEGORY, pending);
+            }
+            return errors;
+        });
+        flush(INSERT_CATEGORY, pending);
+
+        log.info("Imported {} of {} categories for tenant {}", report.imported, report.total, tenantId);
+        return finish(report, CountCache.CATEGORY, tenantId);
+    }
+
+    @Override
+    @Transactional
+    public ImportResponse importIngredients(InputStream inputStream, ImportFormat format) {
+        UUID tenantId = TenantContextHolder.getTenantContext();
+        Set<String> names = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT name FROM dish_builder_schema.ingredients WHERE tenant_id = ?", String.class, tenantId));
+        // Rows may reference a category by id or by (case-insensitive) name
+        Set<UUID> categoryIds = new HashSet<>();
+        Map<String, UUID> categoryIdsByName = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM dish_builder_schema.category WHERE tenant_id = ?", rs -> {
+            UUID id = rs.getObject("id", UUID.class);
+            categoryIds.add(id);
+            String name = rs.getString("name");
+            if (name != null) {
+                categoryIdsByName.putIfAbsent(name.trim().toLowerCase(Locale.ROOT), id);
+            }
+        }, tenantId);
+        UUID userId = currentUserId();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> pending = new ArrayList<>(batchSize);
+
+        ImportReport report = read(inputStream, format, values -> {
+            List<FieldErrorResponse> errors = new ArrayList<>();
+            Set<String> reported = new HashSet<>();
+            CreateIngredientsRequest request = new CreateIngredientsRequest();
+            request.setName(StringUtils.trimToNull(values.get("name")));
+            request.setDescription(StringUtils.trimToNull(values.get("description")));
+
+            String price = StringUtils.trimToNull(values.get("price"));
+            if (price != null) {
+                try {
+                    request.setPrice(new BigDecimal(price));
+                } catch (NumberFormatException e) {
+                    errors.add(buildFieldErrorResponse("price", price, "Price must be a number"));
+                    reported.add("price");
+                }
+            }
+
+            String category = StringUtils.trimToNull(firstPresent(values, "category", "categoryid", "category_id"));
+            if (category != null) {
+                request.setCategoryId(resolveCategory(category, categoryIds, categoryIdsByName));
+                if (request.getCategoryId() == null) {
+                    errors.add(buildFieldErrorResponse("categoryId", category, "CategoryId does not exists."));
+                    reported.add("categoryId");
+                }
+            }
+
+            errors.addAll(validate(request, reported));
+            if (errors.isEmpty() && !names.add(request.getName())) {
+                errors.add(buildFieldErrorResponse("name", request.getName(), "Name already exists."));
+            }
+            if (errors.isEmpty()) {
+                pending.add(new Object[]{UUID.randomUUID(), request.getName(), request.getDescription(), request.getPrice(),
+                        tenantId, request.getCategoryId(), userId, now, userId, now});
+                flushIfFull(INSERT_INGREDIENT, pending);
+            }
+            return errors;
+        });
+        flush(INSERT_INGREDIENT, pending);
+
+        log.info("Imported {} of {} ingredients for tenant {}", report.imported, report.total, tenantId);
+        return finish(report, CountCache.INGREDIENTS, tenantId);
+    }
+
+    private ImportReport read(InputStream inputStream, ImportFormat format,
+                              Function<Map<String, String>, List<FieldErrorResponse>> handler) {
+        ImportReport report = new ImportReport();
+        try (ImportRowReader reader = ImportRowReader.open(inputStream, format, objectMapper)) {
+            ImportRowReader.Row row;
+            while ((row = reader.next()) != null) {
+                if (row.number() > maxRows) {
+                    throw new BadRequestException("Import is limited to " + maxRows + " rows");
+                }
+                report.total++;
+                List<FieldErrorResponse> errors = row.error() != null
+                        ? List.of(buildFieldErrorResponse(null, null, row.error()))
+                        : handler.apply(row.values());
+                if (errors.isEmpty()) {
+                    report.imported++;
+                } else {
+                    report.reject(row.number(), errors);
+                }
+            }
+        } catch (IOException e) {
+            throw new BadRequestException("Unreadable import: " + e.getMessage());
+        }
+        return report;
+    }
+
+    /**
+     * Id of the authenticated user, written to created_by and updated_by of every imported row.
+     */
+    private UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        List<UUID> ids = jdbcTemplate.queryForList(SELECT_USER_ID, UUID.class, authentication.getName());
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    private List<FieldErrorResponse> validate(Object request, Set<String> reported) {
+        List<FieldErrorResponse> errors = new ArrayList<>();
+        validator.validate(request).stream()
+                .map(CommonUtils::buildFieldErrorResponse)
+                .filter(error -> !reported.contains(error.getField()))
+                .forEach(errors::add);
+        return errors;
+    }
+
+    private static UUID resolveCategory(String value, Set<UUID> categoryIds, Map<String, UUID> categoryIdsByName) {
+        try {
+            UUID id = UUID.fromString(value);
+            if (categoryIds.contains(id)) {
+                return id;
+            }
+        } catch (IllegalArgumentException ignored) {
+            // Not an id, look it up by name
+        }
+        return categoryIdsByName.get(value.toLowerCase(Locale.ROOT));
+    }
+
+    private static String firstPresent(Map<String, String> values, String... columns) {
+        for (String column : columns) {
+            if (values.containsKey(column)) {
+                return values.get(column);
+            }
+        }
+        return null;
+    }
+
+    private void flushIfFull(String sql, List<Object[]> pending) {
+        if (pending.size() >= batchSize) {
+            flush(sql, pending);
+        }
+    }
+
+    private void flush(String sql, List<Object[]> pending) {
+        if (!pending.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, pending);
+            pending.clear();
+        }
+    }
+
+    private ImportResponse finish(ImportReport report, String countCacheEntity, UUID tenantId) {
+        if (report.imported > 0) {
+            countCache.evictAfterCommit(countCacheEntity, tenantId);
+            catalogVersion.bumpAfterCommit(tenantId);
+        }
+        return ImportResponse.builder()
+                .setTotalRows(report.total)
+                .setImported(report.imported)
+                .setFailed(report.total - report.imported)
+                .setErrors(report.errors)
+                .setErrorsTruncated(report.truncated)
+                .build();
+    }
+
+    private static final class ImportReport {
+        private long total;
+        private long imported;
+        private final List<ImportRowErrorResponse> errors = new ArrayList<>();
+        private boolean truncated;
+
+        private void reject(long row, List<FieldErrorResponse> fieldErrors) {
+            for (FieldErrorResponse error : fieldErrors) {
+                if (errors.size() >= MAX_LISTED_ERRORS) {
+                    truncated = true;
+                    return;
+                }
+                errors.add(ImportRowErrorResponse.builder()
+                        .setRow(row)
+                        .setField(error.getField())
+                        .setRejectedValue(error.getRejectedValue())
+                        .setMessage(error.getMessage())
+                        .build());
+            }
+        }
+    }
+}
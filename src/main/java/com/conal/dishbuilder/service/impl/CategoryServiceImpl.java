@@ -1,5 +1,7 @@
 package com.conal.dishbuilder.service.impl;
 
+import com.conal.dishbuilder.cache.CatalogVersion;
+import com.conal.dishbuilder.cache.CountCache;
 import com.conal.dishbuilder.context.TenantContextHolder;
 import com.conal.dishbuilder.domain.CategoryEntity;
 import com.conal.dishbuilder.dto.CreateCategoryRequest;
@@ -31,6 +33,8 @@ public class CategoryServiceImpl implements CategoryService {
     private final CategoryValidator categoryValidator;
     private final CategoryMapper categoryMapper;
     private final CategoryQueryDslRepository categoryQueryDslRepository;
+    private final CountCache countCache;
+    private final CatalogVersion catalogVersion;
 
     @Override
     public CategoryResponse addCategory(CreateCategoryRequest category) {
@@ -43,6 +47,8 @@ public class CategoryServiceImpl implements CategoryService {
         CategoryEntity entity = categoryMapper.toEntity(category);
         entity.setTenantId(tenantId);
         CategoryEntity savedEntity = categoryRepository.save(entity);
+        countCache.evictAfterCommit(CountCache.CATEGORY, savedEntity.getTenantId());
+        catalogVersion.bumpAfterCommit(savedEntity.getTenantId());
         return categoryMapper.toResponse(savedEntity);
     }
 
@@ -63,6 +69,8 @@ public class CategoryServiceImpl implements CategoryService {
 
         categoryMapper.updateEntity(category, existingEntity);
         CategoryEntity savedEntity = categoryRepository.save(existingEntity);
+        countCache.evictAfterCommit(CountCache.CATEGORY, existingEntity.getTenantId());
+        catalogVersion.bumpAfterCommit(existingEntity.getTenantId());
         return categoryMapper.toResponse(savedEntity);
     }
 
@@ -104,6 +112,8 @@ public class CategoryServiceImpl implements CategoryService {
         }
 
         categoryRepository.delete(entity);
+        countCache.evictAfterCommit(CountCache.CATEGORY, entity.getTenantId());
+        catalogVersion.bumpAfterCommit(entity.getTenantId());
         return true;
     }
 }
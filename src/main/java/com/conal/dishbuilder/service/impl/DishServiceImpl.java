@@ -1,68 +1,89 @@
 package com.conal.dishbuilder.service.impl;
 
+import com.conal.dishbuilder.cache.CatalogCache;
+import com.conal.dishbuilder.cache.CatalogVersion;
+import com.conal.dishbuilder.cache.CountCache;
 import com.conal.dishbuilder.context.TenantContextHolder;
 import com.conal.dishbuilder.domain.DishEntity;
-import com.conal.dishbuilder.domain.IngredientsEntity;
-import com.conal.dishbuilder.domain.UserEntity;
+import com.conal.dishbuilder.dto.BulkUpdateDishRequest;
 import com.conal.dishbuilder.dto.CreateDishRequest;
+import com.conal.dishbuilder.dto.DishQuoteRequest;
 import com.conal.dishbuilder.dto.UpdateDishRequest;
 import com.conal.dishbuilder.dto.request.filter.DishFilterRequest;
+import com.conal.dishbuilder.dto.response.BulkItemResponse;
+import com.conal.dishbuilder.dto.response.DishQuoteResponse;
 import com.conal.dishbuilder.dto.response.DishResponse;
 import com.conal.dishbuilder.dto.response.FieldErrorResponse;
 import com.conal.dishbuilder.dto.response.PageResponse;
+import com.conal.dishbuilder.exception.BadRequestException;
 import com.conal.dishbuilder.exception.MultipleFieldValidationException;
 import com.conal.dishbuilder.exception.NotFoundException;
 import com.conal.dishbuilder.mapper.DishMapper;
+import com.conal.dishbuilder.pricing.IngredientPriceTable;
+import com.conal.dishbuilder.pricing.IngredientPriceTables;
+import com.conal.dishbuilder.pricing.PricingEngine;
 import com.conal.dishbuilder.repository.DishRepository;
-import com.conal.dishbuilder.repository.IngredientsRepository;
-import com.conal.dishbuilder.repository.UserRepository;
 import com.conal.dishbuilder.repository.querydsl.DishQueryDslRepository;
 import com.conal.dishbuilder.service.DishService;
+import com.conal.dishbuilder.validator.DishValidationResult;
 import com.conal.dishbuilder.validator.DishValidator;
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.conal.dishbuilder.util.CommonUtils.buildFieldErrorResponse;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class DishServiceImpl implements DishService {
+    private static final TypeReference<PageResponse<DishResponse>> DISH_PAGE = new TypeReference<>() {
+    };
+    private static final int MAX_BULK_ITEMS = 500;
+
     private final DishRepository dishRepository;
-    private final UserRepository userRepository;
-    private final IngredientsRepository ingredientsRepository;
     private final DishValidator dishValidator;
     private final DishMapper dishMapper;
     private final DishQueryDslRepository dishQueryDslRepository;
+    private final CountCache countCache;
+    private final CatalogVersion catalogVersion;
+    private final CatalogCache catalogCache;
+    private final IngredientPriceTables ingredientPriceTables;
 
     @Override
     public DishResponse addDish(CreateDishRequest dish) {
-        List<FieldErrorResponse> responses = dishValidator.validateCreateDish(dish);
-        if (!responses.isEmpty()) {
-            throw new MultipleFieldValidationException(responses);
+        DishValidationResult validation = dishValidator.validateCreateDish(dish);
+        if (validation.hasErrors()) {
+            throw new MultipleFieldValidationException(validation.errors());
         }
 
         DishEntity entity = dishMapper.toEntity(dish);
         entity.setTenantId(TenantContextHolder.getTenantContext());
         
-        // Set user
-        UserEntity user = userRepository.findById(dish.getUserId())
-                .orElseThrow(() -> new NotFoundException("User not found with id: " + dish.getUserId()));
-        entity.setUser(user);
-        
-        // Set ingredients
-        List<IngredientsEntity> ingredients = ingredientsRepository.findAllById(dish.getIngredientIds());
-        if (ingredients.size() != dish.getIngredientIds().size()) {
-            throw new NotFoundException("One or more ingredients not found");
-        }
-        entity.setIngredients(ingredients);
+        // User and ingredients were resolved by the validator
+        entity.setUser(validation.user());
+        entity.setIngredients(validation.ingredients());
+        reprice(entity);
         
         DishEntity savedEntity = dishRepository.save(entity);
+        countCache.evictAfterCommit(CountCache.DISH, savedEntity.getTenantId());
+        catalogVersion.bumpAfterCommit(savedEntity.getTenantId());
         return dishMapper.toResponse(savedEntity);
     }
 
@@ -76,29 +97,24 @@ public class DishServiceImpl implements DishService {
             throw new NotFoundException("Dish not found with id: " + id);
         }
 
-        List<FieldErrorResponse> responses = dishValidator.validateUpdateDish(dish, existingEntity);
-        if (!responses.isEmpty()) {
-            throw new MultipleFieldValidationException(responses);
+        DishValidationResult validation = dishValidator.validateUpdateDish(dish, existingEntity);
+        if (validation.hasErrors()) {
+            throw new MultipleFieldValidationException(validation.errors());
         }
 
-        // Update user if provided
-        if (dish.getUserId() != null) {
-            UserEntity user = userRepository.findById(dish.getUserId())
-                    .orElseThrow(() -> new NotFoundException("User not found with id: " + dish.getUserId()));
-            existingEntity.setUser(user);
+        // Update user and ingredients if provided; the validator already resolved them
+        if (validation.user() != null) {
+            existingEntity.setUser(validation.user());
         }
-
-        // Update ingredients if provided
-        if (dish.getIngredientIds() != null && !dish.getIngredientIds().isEmpty()) {
-            List<IngredientsEntity> ingredients = ingredientsRepository.findAllById(dish.getIngredientIds());
-            if (ingredients.size() != dish.getIngredientIds().size()) {
-                throw new NotFoundException("One or more ingredients not found");
-            }
-            existingEntity.setIngredients(ingredients);
+        if (validation.ingredients() != null) {
+            existingEntity.setIngredients(validation.ingredients());
         }
 
         dishMapper.updateEntity(dish, existingEntity);
+        reprice(existingEntity);
         DishEntity savedEntity = dishRepository.save(existingEntity);
+        countCache.evictAfterCommit(CountCache.DISH, existingEntity.getTenantId());
+        catalogVersion.bumpAfterCommit(existingEntity.getTenantId());
         return dishMapper.toResponse(savedEntity);
     }
 
@@ -116,6 +132,8 @@ public class DishServiceImpl implements DishService {
     }
 
     @Override
+    // No transaction of its own: cache hits never touch the database, misses run in the repository's read-only one
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PageResponse<DishResponse> getDishes(DishFilterRequest filterRequest) {
         // Set tenant filter
         filterRequest.setTenantId(TenantContextHolder.getTenantContext());
@@ -126,7 +144,8 @@ public class DishServiceImpl implements DishService {
         // Create pageable
         Pageable pageable = PageRequest.of(filterRequest.getPage(), filterRequest.getSize(), sort);
         
-        return dishQueryDslRepository.findAll(filterRequest, pageable);
+        return catalogCache.get(CatalogCache.DISH, filterRequest, DISH_PAGE,
+                () -> dishQueryDslRepository.findAll(filterRequest, pageable));
     }
 
     @Override
@@ -140,6 +159,174 @@ public class DishServiceImpl implements DishService {
         }
 
         dishRepository.delete(entity);
+        countCache.evictAfterCommit(CountCache.DISH, entity.getTenantId());
+        catalogVersion.bumpAfterCommit(entity.getTenantId());
         return true;
     }
+
+    @Override
+    public List<BulkItemResponse<DishResponse>> addDishes(List<CreateDishRequest> dishes) {
+        checkBulkSize(dishes);
+        UUID tenantId = TenantContextHolder.getTenantContext();
+        List<DishValidationResult> validations = dishValidator.validateCreateDishes(dishes);
+
+        List<BulkItemResponse<DishResponse>> results = new ArrayList<>(dishes.size());
+        List<DishEntity> entities = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < dishes.size(); i++) {
+            DishValidationResult validation = validations.get(i);
+            if (validation.hasErrors()) {
+                results.add(BulkItemResponse.failed(i, validation.errors()));
+                continue;
+            }
+            DishEntity entity = dishMapper.toEntity(dishes.get(i));
+            entity.setTenantId(tenantId);
+            entity.setUser(validation.user());
+            entity.setIngredients(validation.ingredients());
+            reprice(entity);
+            entities.add(entity);
+            indexes.add(i);
+            results.add(null);
+        }
+
+        // One saveAll so Hibernate can batch the dish and dish_ingredients inserts
+        List<DishEntity> saved = dishRepository.saveAll(entities);
+        for (int i = 0; i < saved.size(); i++) {
+            results.set(indexes.get(i), BulkItemResponse.ok(indexes.get(i), dishMapper.toResponse(saved.get(i))));
+        }
+        afterBulkWrite(tenantId, saved.size());
+        return results;
+    }
+
+    @Override
+    public List<BulkItemResponse<DishResponse>> updateDishes(List<BulkUpdateDishRequest> dishes) {
+        checkBulkSize(dishes);
+        UUID tenantId = TenantContextHolder.getTenantContext();
+        Set<UUID> ids = dishes.stream().map(BulkUpdateDishRequest::getId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<UUID, DishEntity> existing = ids.isEmpty() ? Map.of() : dishRepository.findAllByIdInAndTenantId(ids, tenantId).stream()
+                .collect(Collectors.toMap(DishEntity::getId, Function.identity()));
+
+        // Resolve the target of each item first; only items with a target are validated
+        List<BulkItemResponse<DishResponse>> results = new ArrayList<>(dishes.size());
+        List<BulkUpdateDishRequest> requests = new ArrayList<>();
+        List<DishEntity> targets = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        Set<UUID> seen = new HashSet<>();
+        for (int i = 0; i < dishes.size(); i++) {
+            BulkUpdateDishRequest request = dishes.get(i);
+            UUID id = request.getId();
+            DishEntity entity = id == null ? null : existing.get(id);
+            if (id == null) {
+                results.add(BulkItemResponse.failed(i, List.of(buildFieldErrorResponse("id", null, "Dish ID is required"))));
+            } else if (entity == null) {
+                results.add(BulkItemResponse.failed(i, List.of(buildFieldErrorResponse("id", id.toString(), "Dish not found with id: " + id))));
+            } else if (!seen.add(id)) {
+                results.add(BulkItemResponse.failed(i, List.of(buildFieldErrorResponse("id", id.toString(), "Dish is updated more than once in this request."))));
+            } else {
+                requests.add(request);
+                targets.add(entity);
+                indexes.add(i);
+                results.add(null);
+            }
+        }
+
+        List<DishValidationResult> validations = requests.isEmpty() ? List.of() : dishValidator.validateUpdateDishes(requests, targets);
+        List<DishEntity> updated = new ArrayList<>();
+        List<Integer> updatedIndexes = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            DishValidationResult validation = validations.get(i);
+            if (validation.hasErrors()) {
+                results.set(indexes.get(i), BulkItemResponse.failed(indexes.get(i), validation.errors()));
+                continue;
+            }
+            DishEntity entity = targets.get(i);
+            if (validation.user() != null) {
+                entity.setUser(validation.user());
+            }
+            if (validation.ingredients() != null) {
+                entity.setIngredients(validation.ingredients());
+            }
+            dishMapper.updateEntity(requests.get(i), entity);
+            reprice(entity);
+            updated.add(entity);
+            updatedIndexes.add(indexes.get(i));
+        }
+
+        List<DishEntity> saved = dishRepository.saveAll(updated);
+        for (int i = 0; i < saved.size(); i++) {
+            results.set(updatedIndexes.get(i), BulkItemResponse.ok(updatedIndexes.get(i), dishMapper.toResponse(saved.get(i))));
+        }
+        afterBulkWrite(tenantId, saved.size());
+        return results;
+    }
+
+    @Override
+    // Served from memory; never touches the database unless the price table has to be (re)loaded
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public DishQuoteResponse quote(DishQuoteRequest request) {
+        IngredientPriceTable table = ingredientPriceTables.get(TenantContextHolder.getTenantContext());
+        List<UUID> ingredientIds = request.getIngredientIds();
+        long subtotal = 0;
+        List<FieldErrorResponse> errors = null;
+        for (int i = 0; i < ingredientIds.size(); i++) {
+            // A dish holds each ingredient once, so repeated ids are priced once
+            if (isRepeated(ingredientIds, i)) {
+                continue;
+            }
+            UUID ingredientId = ingredientIds.get(i);
+            long price = table.priceOf(ingredientId);
+            if (price == IngredientPriceTable.MISSING) {
+                if (errors == null) {
+                    errors = new ArrayList<>();
+                }
+                errors.add(buildFieldErrorResponse("ingredientIds", ingredientId.toString(), "Ingredient not found."));
+            } else {
+                subtotal += price;
+            }
+        }
+        if (errors != null) {
+            throw new MultipleFieldValidationException(errors);
+        }
+
+        BigDecimal amount = IngredientPriceTable.fromMinor(subtotal);
+        return DishQuoteResponse.builder()
+                .setSubtotal(amount)
+                .setDiscount(request.getDiscount())
+                .setVat(request.getVat())
+                .setTotalPrice(PricingEngine.total(amount, request.getDiscount(), request.getVat()))
+                .build();
+    }
+
+    private static boolean isRepeated(List<UUID> ids, int index) {
+        UUID id = ids.get(index);
+        for (int i = 0; i < index; i++) {
+            if (id.equals(ids.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The total is always derived from the ingredients, discount and VAT; a client-sent total is ignored.
+     */
+    private static void reprice(DishEntity entity) {
+        entity.setTotalPrice(PricingEngine.total(entity.getIngredients(), entity.getDiscount(), entity.getVat()));
+    }
+
+    private static void checkBulkSize(List<?> dishes) {
+        if (dishes == null || dishes.isEmpty()) {
+            throw new BadRequestException("At least one dish is required");
+        }
+        if (dishes.size() > MAX_BULK_ITEMS) {
+            throw new BadRequestException("At most " + MAX_BULK_ITEMS + " dishes can be sent at once");
+        }
+    }
+
+    private void afterBulkWrite(UUID tenantId, int written) {
+        if (written > 0) {
+            countCache.evictAfterCommit(CountCache.DISH, tenantId);
+            catalogVersion.bumpAfterCommit(tenantId);
+        }
+    }
 }
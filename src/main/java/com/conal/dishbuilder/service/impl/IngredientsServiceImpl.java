@@ -1,5 +1,8 @@
 package com.conal.dishbuilder.service.impl;
 
+import com.conal.dishbuilder.cache.CatalogCache;
+import com.conal.dishbuilder.cache.CatalogVersion;
+import com.conal.dishbuilder.cache.CountCache;
 import com.conal.dishbuilder.context.TenantContextHolder;
 import com.conal.dishbuilder.domain.CategoryEntity;
 import com.conal.dishbuilder.domain.IngredientsEntity;
@@ -12,11 +15,13 @@ import com.conal.dishbuilder.dto.response.PageResponse;
 import com.conal.dishbuilder.exception.MultipleFieldValidationException;
 import com.conal.dishbuilder.exception.NotFoundException;
 import com.conal.dishbuilder.mapper.IngredientsMapper;
+import com.conal.dishbuilder.pricing.DishRepricer;
 import com.conal.dishbuilder.repository.CategoryRepository;
 import com.conal.dishbuilder.repository.IngredientsRepository;
 import com.conal.dishbuilder.repository.querydsl.IngredientsQueryDslRepository;
 import com.conal.dishbuilder.service.IngredientsService;
 import com.conal.dishbuilder.validator.IngredientsValidator;
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -29,11 +34,18 @@ import java.util.UUID;
 @Service
 @RequiredArgsConstructor
 public class IngredientsServiceImpl implements IngredientsService {
+    private static final TypeReference<PageResponse<IngredientsResponse>> INGREDIENTS_PAGE = new TypeReference<>() {
+    };
+
     private final IngredientsRepository ingredientsRepository;
     private final CategoryRepository categoryRepository;
     private final IngredientsValidator ingredientsValidator;
     private final IngredientsMapper ingredientsMapper;
     private final IngredientsQueryDslRepository ingredientsQueryDslRepository;
+    private final CountCache countCache;
+    private final CatalogVersion catalogVersion;
+    private final CatalogCache catalogCache;
+    private final DishRepricer dishRepricer;
 
     @Override
     public IngredientsResponse addIngredients(CreateIngredientsRequest ingredients) {
@@ -51,6 +63,8 @@ public class IngredientsServiceImpl implements IngredientsService {
         entity.setCategory(category);
         
         IngredientsEntity savedEntity = ingredientsRepository.save(entity);
+        countCache.evictAfterCommit(CountCache.INGREDIENTS, savedEntity.getTenantId());
+        catalogVersion.bumpAfterCommit(savedEntity.getTenantId());
         return ingredientsMapper.toResponse(savedEntity);
     }
 
@@ -76,8 +90,17 @@ public class IngredientsServiceImpl implements IngredientsService {
             existingEntity.setCategory(category);
         }
 
+        boolean priceChanged = ingredients.getPrice() != null
+                && (existingEntity.getPrice() == null || ingredients.getPrice().compareTo(existingEntity.getPrice()) != 0);
+
         ingredientsMapper.updateEntity(ingredients, existingEntity);
         IngredientsEntity savedEntity = ingredientsRepository.save(existingEntity);
+        countCache.evictAfterCommit(CountCache.INGREDIENTS, existingEntity.getTenantId());
+        catalogVersion.bumpAfterCommit(existingEntity.getTenantId());
+        if (priceChanged) {
+            // Dishes containing this ingredient are repriced in the background
+            dishRepricer.repriceAfterCommit(existingEntity.getId(), existingEntity.getTenantId());
+        }
         return ingredientsMapper.toResponse(savedEntity);
     }
 
@@ -105,7 +128,8 @@ public class IngredientsServiceImpl implements IngredientsService {
         // Create pageable
         Pageable pageable = PageRequest.of(filterRequest.getPage(), filterRequest.getSize(), sort);
         
-        return ingredientsQueryDslRepository.findAll(filterRequest, pageable);
+        return catalogCache.get(CatalogCache.INGREDIENTS, filterRequest, INGREDIENTS_PAGE,
+                () -> ingredientsQueryDslRepository.findAll(filterRequest, pageable));
     }
 
     @Override
@@ -119,6 +143,8 @@ public class IngredientsServiceImpl implements IngredientsService {
         }
 
         ingredientsRepository.delete(entity);
+        countCache.evictAfterCommit(CountCache.INGREDIENTS, entity.getTenantId());
+        catalogVersion.bumpAfterCommit(entity.getTenantId());
         return true;
     }
 }
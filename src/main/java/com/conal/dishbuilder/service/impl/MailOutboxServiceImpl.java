@@ -0,0 +1,151 @@
+package com.conal.dishbuilder.service.impl;
+
+import com.conal.dishbuilder.constant.MailStatus;
+import com.conal.dishbuilder.domain.MailOutboxEntity;
+import com.conal.dishbuilder.repository.MailOutboxRepository;
+import com.conal.dishbuilder.service.MailOutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Service
+@Transactional
+public class MailOutboxServiceImpl implements MailOutboxService {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final int maxAttempts;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final Duration lease;
+    private final Duration retention;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter dead;
+
+    public MailOutboxServiceImpl(MailOutboxRepository mailOutboxRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${dish-builder.mail.outbox.max-attempts:6}") int maxAttempts,
+                                 @Value("${dish-builder.mail.outbox.backoff-base:PT10S}") Duration backoffBase,
+                                 @Value("${dish-builder.mail.outbox.backoff-max:PT30M}") Duration backoffMax,
+                                 @Value("${dish-builder.mail.outbox.lease:PT2M}") Duration lease,
+                                 @Value("${dish-builder.mail.outbox.retention:P7D}") Duration retention) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.maxAttempts = maxAttempts;
+        this.backoffBase = backoffBase;
+        this.backoffMax = backoffMax;
+        this.lease = lease;
+        this.retention = retention;
+        this.sent = Counter.builder("mail.outbox.delivered").tag("result", "sent").register(meterRegistry);
+        this.retried = Counter.builder("mail.outbox.delivered").tag("result", "retry").register(meterRegistry);
+        this.dead = Counter.builder("mail.outbox.delivered").tag("result", "dead").register(meterRegistry);
+    }
+
+    @Override
+    public UUID enqueue(UUID tenantId, String to, String subject, String body, boolean html) {
+        LocalDateTime now = LocalDateTime.now();
+        MailOutboxEntity mail = MailOutboxEntity.builder()
+                .tenantId(tenantId)
+                .recipient(to)
+                .subject(subject)
+                .body(body)
+                .html(html)
+                .status(MailStatus.PENDING)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+        UUID id = mailOutboxRepository.save(mail).getId();
+        log.info("Mail {} queued for {}", id, to);
+        return id;
+    }
+
+    @Override
+    public List<MailOutboxEntity> claimDue(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutboxEntity> due = mailOutboxRepository.findDueForUpdate(now, MailStatus.PENDING, MailStatus.SENDING,
+                PageRequest.of(0, limit));
+        // The lease lets another poller take over if this node dies mid-send
+        for (MailOutboxEntity mail : due) {
+            mail.setStatus(MailStatus.SENDING);
+            mail.setLockedUntil(now.plus(lease));
+            mail.setAttempts(mail.getAttempts() + 1);
+        }
+        return due;
+    }
+
+    @Override
+    public void markSent(UUID id) {
+        mailOutboxRepository.findById(id).ifPresent(mail -> {
+            mail.setStatus(MailStatus.SENT);
+            mail.setSentAt(LocalDateTime.now());
+            mail.setLockedUntil(null);
+            mail.setLastError(null);
+            mail.setBody(null);
+            sent.increment();
+        });
+    }
+
+    @Override
+    public void markFailed(UUID id, String error) {
+        mailOutboxRepository.findById(id).ifPresent(mail -> {
+            mail.setLockedUntil(null);
+            mail.setLastError(error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            if (mail.getAttempts() >= maxAttempts) {
+                mail.setStatus(MailStatus.DEAD);
+                mail.setBody(null);
+                dead.increment();
+                log.error("Mail {} to {} dead-lettered after {} attempts: {}", id, mail.getRecipient(), mail.getAttempts(), error);
+                return;
+            }
+            Duration delay = backoff(mail.getAttempts());
+            mail.setStatus(MailStatus.PENDING);
+            mail.setNextAttemptAt(LocalDateTime.now().plus(delay));
+            retried.increment();
+            log.warn("Mail {} attempt {} failed, retrying in {}: {}", id, mail.getAttempts(), delay, error);
+        });
+    }
+
+    @Override
+    public void defer(UUID id, Duration delay) {
+        mailOutboxRepository.findById(id).ifPresent(mail -> {
+            mail.setStatus(MailStatus.PENDING);
+            mail.setLockedUntil(null);
+            mail.setAttempts(Math.max(0, mail.getAttempts() - 1));
+            mail.setNextAttemptAt(LocalDateTime.now().plus(delay));
+        });
+    }
+
+    @Override
+    public int purgeFinished() {
+        int purged = mailOutboxRepository.deleteFinishedBefore(List.of(MailStatus.SENT, MailStatus.DEAD),
+                LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.info("Purged {} finished mails older than {}", purged, retention);
+        }
+        return purged;
+    }
+
+    /**
+     * base * 2^(attempt-1), capped, minus up to 20% jitter so retries after an SMTP outage spread out.
+     */
+    Duration backoff(int attempt) {
+        long base = backoffBase.toMillis() << Math.min(attempt - 1, 20);
+        long capped = Math.min(base, backoffMax.toMillis());
+        long jitter = (long) (capped * 0.2 * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofMillis(capped - jitter);
+    }
+}
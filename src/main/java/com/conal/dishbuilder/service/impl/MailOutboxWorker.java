@@ -0,0 +1,141 @@
+package com.conal.dishbuilder.service.impl;
+
+import com.conal.dishbuilder.domain.MailOutboxEntity;
+import com.conal.dishbuilder.service.MailOutboxService;
+import com.conal.dishbuilder.service.MailService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivers queued mail from the outbox on a bounded pool of sender threads.
+ * <p>
+ * Each poll claims at most as many mails as there are idle senders, so nothing waits in memory
+ * while holding a lease. Each tenant may send at most {@code tenant-per-minute} mails per minute
+ * from this node; mails over the limit are put back for the next minute without counting an attempt.
+ * Sent and dead mails are purged once they are older than {@code retention}.
+ */
+@Slf4j
+@Component
+public class MailOutboxWorker {
+    // ConcurrentHashMap keys cannot be null; mails without a tenant share one window
+    private static final UUID NO_TENANT = new UUID(0L, 0L);
+
+    private record Window(long minute, int count) {
+    }
+
+    private final MailOutboxService mailOutboxService;
+    private final MailService mailService;
+    private final int workers;
+    private final int tenantPerMinute;
+    private final ExecutorService executor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<UUID, Window> windows = new ConcurrentHashMap<>();
+
+    public MailOutboxWorker(MailOutboxService mailOutboxService,
+                            MailService mailService,
+                            @Value("${dish-builder.mail.outbox.workers:4}") int workers,
+                            @Value("${dish-builder.mail.outbox.tenant-per-minute:60}") int tenantPerMinute) {
+        this.mailOutboxService = mailOutboxService;
+        this.mailService = mailService;
+        this.workers = workers;
+        this.tenantPerMinute = tenantPerMinute;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "mail-outbox-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${dish-builder.mail.outbox.poll-interval:PT2S}")
+    public void poll() {
+        int idle = workers - inFlight.get();
+        if (idle <= 0) {
+            return;
+        }
+        List<MailOutboxEntity> claimed;
+        try {
+            claimed = mailOutboxService.claimDue(idle);
+        } catch (Exception e) {
+            log.warn("Failed to claim queued mail: {}", e.getMessage());
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long minute = now / 60_000;
+        windows.values().removeIf(window -> window.minute() < minute);
+        for (MailOutboxEntity mail : claimed) {
+            if (!tryAcquire(mail.getTenantId(), minute)) {
+                mailOutboxService.defer(mail.getId(), Duration.ofMillis((minute + 1) * 60_000 - now));
+                continue;
+            }
+            inFlight.incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    deliver(mail);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dish-builder.mail.outbox.purge-interval:PT1H}")
+    public void purge() {
+        try {
+            mailOutboxService.purgeFinished();
+        } catch (Exception e) {
+            log.warn("Failed to purge finished mail: {}", e.getMessage());
+        }
+    }
+
+    private boolean tryAcquire(UUID tenantId, long minute) {
+        Window window = windows.merge(tenantId != null ? tenantId : NO_TENANT, new Window(minute, 1),
+                (current, first) -> current.minute() == minute ? new Window(minute, current.count() + 1) : first);
+        return window.count() <= tenantPerMinute;
+    }
+
+    private void deliver(MailOutboxEntity mail) {
+        String error = "SMTP send failed";
+        boolean delivered;
+        try {
+            delivered = mail.isHtml()
+                    ? mailService.sendHtmlMail(mail.getRecipient(), mail.getSubject(), mail.getBody())
+                    : mailService.sendMail(mail.getRecipient(), mail.getSubject(), mail.getBody());
+        } catch (Exception e) {
+            delivered = false;
+            error = e.getMessage();
+        }
+        try {
+            if (delivered) {
+                mailOutboxService.markSent(mail.getId());
+            } else {
+                mailOutboxService.markFailed(mail.getId(), error);
+            }
+        } catch (Exception e) {
+            // The lease expires and the mail is claimed again; a duplicate beats a lost OTP
+            log.warn("Failed to record outcome of mail {}: {}", mail.getId(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
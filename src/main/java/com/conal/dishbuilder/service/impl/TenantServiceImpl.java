@@ -1,5 +1,7 @@
 package com.conal.dishbuilder.service.impl;
 
+import com.conal.dishbuilder.cache.CountCache;
+import com.conal.dishbuilder.cache.TenantCache;
 import com.conal.dishbuilder.constant.CommonStatus;
 import com.conal.dishbuilder.constant.Constants;
 import com.conal.dishbuilder.domain.TenantEntity;
@@ -37,6 +39,8 @@ public class TenantServiceImpl implements TenantService {
     private final TenantRepository tenantRepository;
     private final TenantQueryDslRepository tenantQueryDslRepository;
     private final Environment environment;
+    private final TenantCache tenantCache;
+    private final CountCache countCache;
 
     @Override
     @Transactional
@@ -53,6 +57,8 @@ public class TenantServiceImpl implements TenantService {
 
         try {
             tenantRepository.save(tenantEntity);
+            tenantCache.invalidateAfterCommit();
+            countCache.evictAfterCommit(CountCache.TENANT, null);
             log.info("Tenant saved successfully: {}", tenantEntity.getId());
             return true;
         } catch (Exception e) {
@@ -82,6 +88,8 @@ public class TenantServiceImpl implements TenantService {
 
         try {
             tenantRepository.save(existingTenant);
+            tenantCache.invalidateAfterCommit();
+            countCache.evictAfterCommit(CountCache.TENANT, null);
             log.info("Tenant updated successfully: {}", existingTenant.getId());
             return true;
         } catch (Exception e) {
@@ -116,17 +124,18 @@ public class TenantServiceImpl implements TenantService {
             return localTenant;
         }
 
-        return tenantRepository.findBySubDomainAndStatus(subDomain, CommonStatus.ACTIVE)
-                .orElseThrow(() -> {
-                    log.warn("Tenant not found for subdomain: {}", subDomain);
-                    return new NotFoundException(Constants.Tenant.NOT_FOUND);
-                });
+        return tenantCache.get(subDomain, CommonStatus.ACTIVE, () ->
+                tenantRepository.findBySubDomainAndStatus(subDomain, CommonStatus.ACTIVE)
+                        .orElseThrow(() -> {
+                            log.warn("Tenant not found for subdomain: {}", subDomain);
+                            return new NotFoundException(Constants.Tenant.NOT_FOUND);
+                        }));
     }
 
     @Override
     public TenantEntity findDefaultTenant() {
-        return tenantRepository.findBySubDomainAndStatus("default", CommonStatus.DEFAULT)
-                .orElseThrow(() -> new NotFoundException(Constants.Tenant.NOT_FOUND));
-
+        return tenantCache.get("default", CommonStatus.DEFAULT, () ->
+                tenantRepository.findBySubDomainAndStatus("default", CommonStatus.DEFAULT)
+                        .orElseThrow(() -> new NotFoundException(Constants.Tenant.NOT_FOUND)));
     }
 }
@@ -1,19 +1,20 @@
 package com.conal.dishbuilder.service.impl;
 
+import com.conal.dishbuilder.config.security.RoleAuthorities;
 import com.conal.dishbuilder.constant.CommonStatus;
 import com.conal.dishbuilder.context.TenantContextHolder;
+import com.conal.dishbuilder.domain.RoleEntity;
 import com.conal.dishbuilder.domain.UserEntity;
 import com.conal.dishbuilder.repository.UserRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,6 +26,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     private final UserRepository userRepository;
 
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         UUID tenantId = TenantContextHolder.getTenantContext();
         log.info("Loading user: '{}' for tenant: '{}'", username, tenantId);
@@ -49,7 +51,9 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         return User.builder()
                 .username(userEntity.getUsername())
                 .password(userEntity.getPassword())
-                .authorities(new ArrayList<>())
+                // Same authorities as the stateless path builds from the token's roles claim
+                .authorities(RoleAuthorities.of(userEntity.getRoles() == null ? List.of()
+                        : userEntity.getRoles().stream().map(RoleEntity::getName).toList()))
                 .accountExpired(false)
                 .accountLocked(false)
                 .credentialsExpired(false)
@@ -1,5 +1,8 @@
 package com.conal.dishbuilder.service.impl;
 
+import com.conal.dishbuilder.cache.CatalogVersion;
+import com.conal.dishbuilder.cache.CountCache;
+import com.conal.dishbuilder.cache.UserStatusCache;
 import com.conal.dishbuilder.constant.CommonStatus;
 import com.conal.dishbuilder.constant.Constants;
 import com.conal.dishbuilder.context.TenantContextHolder;
@@ -45,6 +48,9 @@ public class UserServiceImpl implements UserService {
     private final UserQueryDslRepository queryDslRepository;
     private final TenantRepository tenantRepository;
     private final RoleRepository roleRepository;
+    private final UserStatusCache userStatusCache;
+    private final CountCache countCache;
+    private final CatalogVersion catalogVersion;
 
     @Override
     public boolean registerAccount(RegisterUserRequest request) {
@@ -79,6 +85,7 @@ public class UserServiceImpl implements UserService {
 
         try {
             userRepository.save(userEntity);
+            countCache.evictAfterCommit(CountCache.USER, userEntity.getTenantId());
             log.info("User registered successfully: {}", userEntity.getEmail());
         } catch (Exception e) {
             log.error("Error while saving user: {}", userEntity.getEmail(), e);
@@ -153,6 +160,10 @@ public class UserServiceImpl implements UserService {
         userMapper.updateFromRequest(request, existingUser);
         try {
             userRepository.save(existingUser);
+            userStatusCache.invalidate(existingUser.getId());
+            countCache.evictAfterCommit(CountCache.USER, existingUser.getTenantId());
+            // Cached dish listings embed the owner's user fields
+            catalogVersion.bumpAfterCommit(existingUser.getTenantId());
             log.info("User updated successfully: {}", existingUser.getId());
             return true;
         } catch (Exception e) {
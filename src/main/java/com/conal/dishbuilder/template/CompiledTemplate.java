@@ -0,0 +1,69 @@
+package com.conal.dishbuilder.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A text template split once into literal segments and {@code {{NAME}}} placeholders.
+ * Rendering is a single pass appending into a pre-sized builder; the source is never scanned again.
+ * Instances are immutable and shared across threads.
+ */
+public final class CompiledTemplate {
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    // literals.length == placeholders.length + 1; output is literal0 value0 literal1 value1 ... literalN
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int literalLength;
+
+    private CompiledTemplate(String[] literals, String[] placeholders) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static CompiledTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        int from = 0;
+        int open;
+        while ((open = source.indexOf(OPEN, from)) >= 0) {
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                break;
+            }
+            literals.add(source.substring(from, open));
+            placeholders.add(source.substring(open + OPEN.length(), close).trim());
+            from = close + CLOSE.length();
+        }
+        literals.add(source.substring(from));
+        return new CompiledTemplate(literals.toArray(String[]::new), placeholders.toArray(String[]::new));
+    }
+
+    /**
+     * Placeholders without a value are rendered as-is, so a missing variable is visible rather than silent.
+     */
+    public String render(Map<String, String> values) {
+        StringBuilder out = new StringBuilder(literalLength + placeholders.length * 16);
+        for (int i = 0; i < placeholders.length; i++) {
+            out.append(literals[i]);
+            String value = values.get(placeholders[i]);
+            if (value != null) {
+                out.append(value);
+            } else {
+                out.append(OPEN).append(placeholders[i]).append(CLOSE);
+            }
+        }
+        return out.append(literals[placeholders.length]).toString();
+    }
+
+    public List<String> placeholders() {
+        return List.of(placeholders);
+    }
+}
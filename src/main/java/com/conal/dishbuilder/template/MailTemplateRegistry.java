@@ -0,0 +1,157 @@
+package com.conal.dishbuilder.template;
+
+import com.conal.dishbuilder.exception.InternalServerException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled mail templates. The defaults under {@code classpath:templates/*.html} are read once at
+ * startup as streams (so they also load from a packaged jar) and compiled into {@link CompiledTemplate}s.
+ * <p>
+ * A tenant may override a template with {@code <override-dir>/<tenantId>/<name>.html}. Overrides are
+ * compiled on first use and cached, including the absence of one, so rendering performs no file I/O.
+ * A background check reloads an override when its file changes, appears or disappears.
+ */
+@Slf4j
+@Component
+public class MailTemplateRegistry {
+    public static final String OTP_MAIL = "otp-mail";
+    private static final String CLASSPATH_PATTERN = "classpath*:templates/*.html";
+    private static final String EXTENSION = ".html";
+
+    private record OverrideKey(UUID tenantId, String name) {
+    }
+
+    // Compiled override plus the modification time it was compiled from; empty when the tenant has none
+    private record TenantOverride(Optional<CompiledTemplate> template, FileTime modified) {
+    }
+
+    private final Map<String, CompiledTemplate> defaults = new ConcurrentHashMap<>();
+    private final Cache<OverrideKey, TenantOverride> overrides;
+    private final Path overrideDir;
+
+    public MailTemplateRegistry(@Value("${dish-builder.mail.templates.override-dir:}") String overrideDir,
+                                @Value("${dish-builder.mail.templates.max-overrides:10000}") long maxOverrides) {
+        this.overrideDir = StringUtils.hasText(overrideDir) ? Path.of(overrideDir) : null;
+        this.overrides = Caffeine.newBuilder()
+                .maximumSize(maxOverrides)
+                .build();
+    }
+
+    @PostConstruct
+    public void loadDefaults() throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(CLASSPATH_PATTERN);
+        for (Resource resource : resources) {
+            String filename = resource.getFilename();
+            if (filename == null || !filename.endsWith(EXTENSION)) {
+                continue;
+            }
+            try (InputStream in = resource.getInputStream()) {
+                String name = filename.substring(0, filename.length() - EXTENSION.length());
+                defaults.put(name, CompiledTemplate.compile(new String(in.readAllBytes(), StandardCharsets.UTF_8)));
+            }
+        }
+        log.info("Loaded mail templates: {}", defaults.keySet());
+    }
+
+    public String render(UUID tenantId, String name, Map<String, String> values) {
+        return get(tenantId, name).render(values);
+    }
+
+    /**
+     * @return the tenant's override of {@code name} if it has one, else the default
+     * @throws InternalServerException if there is no such template
+     */
+    public CompiledTemplate get(UUID tenantId, String name) {
+        if (overrideDir != null && tenantId != null) {
+            TenantOverride override = overrides.getIfPresent(new OverrideKey(tenantId, name));
+            if (override == null) {
+                override = loadOverride(tenantId, name);
+                overrides.put(new OverrideKey(tenantId, name), override);
+            }
+            if (override.template().isPresent()) {
+                return override.template().get();
+            }
+        }
+        CompiledTemplate template = defaults.get(name);
+        if (template == null) {
+            throw new InternalServerException("Mail template not found: " + name);
+        }
+        return template;
+    }
+
+    /**
+     * Recompiles cached overrides whose file changed since it was compiled.
+     */
+    @Scheduled(fixedDelayString = "${dish-builder.mail.templates.reload-interval:PT30S}")
+    public void reloadChanged() {
+        if (overrideDir == null) {
+            return;
+        }
+        overrides.asMap().forEach((key, cached) -> {
+            FileTime modified = lastModified(overrideFile(key.tenantId(), key.name()));
+            if (!Objects.equals(modified, cached.modified())) {
+                log.info("Reloading mail template {} for tenant {}", key.name(), key.tenantId());
+                overrides.put(key, loadOverride(key.tenantId(), key.name()));
+            }
+        });
+    }
+
+    /**
+     * Drops cached overrides of one tenant (all tenants when {@code null}); they reload on next use.
+     */
+    public void invalidate(UUID tenantId) {
+        if (tenantId == null) {
+            overrides.invalidateAll();
+        } else {
+            overrides.asMap().keySet().removeIf(key -> key.tenantId().equals(tenantId));
+        }
+    }
+
+    private TenantOverride loadOverride(UUID tenantId, String name) {
+        Path file = overrideFile(tenantId, name);
+        FileTime modified = lastModified(file);
+        if (modified == null) {
+            return new TenantOverride(Optional.empty(), null);
+        }
+        try {
+            return new TenantOverride(Optional.of(CompiledTemplate.compile(Files.readString(file, StandardCharsets.UTF_8))), modified);
+        } catch (IOException e) {
+            // Fall back to the default rather than failing the mail
+            log.warn("Failed to load mail template override {}: {}", file, e.getMessage());
+            return new TenantOverride(Optional.empty(), modified);
+        }
+    }
+
+    private Path overrideFile(UUID tenantId, String name) {
+        return overrideDir.resolve(tenantId.toString()).resolve(name + EXTENSION);
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.isRegularFile(file) ? Files.getLastModifiedTime(file) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
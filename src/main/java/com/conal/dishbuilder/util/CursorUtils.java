@@ -0,0 +1,51 @@
+package com.conal.dishbuilder.util;
+
+import com.conal.dishbuilder.exception.BadRequestException;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursors of the form base64url("sortKey|id"). Listings in cursor mode are ordered by
+ * (sortKey, id) ascending, so the next page is everything strictly after the last row returned.
+ */
+public class CursorUtils {
+    private static final char SEPARATOR = '|';
+
+    public record Cursor(String sortKey, UUID id) {
+    }
+
+    public static String encode(String sortKey, UUID id) {
+        String raw = (sortKey != null ? sortKey : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded cursor, or {@code null} when none was supplied (first page)
+     * @throws BadRequestException if the cursor was not produced by {@link #encode}
+     */
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // The id is last and never contains the separator, so the sort key may
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new Cursor(raw.substring(0, separator), UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Seek predicate equivalent to {@code (sortKey, id) > (cursor.sortKey, cursor.id)}.
+     */
+    public static BooleanExpression after(ComparableExpression<String> sortKey, ComparableExpression<UUID> id, Cursor cursor) {
+        return sortKey.gt(cursor.sortKey())
+                .or(sortKey.eq(cursor.sortKey()).and(id.gt(cursor.id())));
+    }
+}
@@ -0,0 +1,129 @@
+package com.conal.dishbuilder.util;
+
+import com.conal.dishbuilder.constant.ImportFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads an uploaded CSV (header row first) or NDJSON (one object per line) stream row by row as
+ * column name to text value maps. Column names are lower-cased. A malformed row is returned with
+ * an error instead of ending the import.
+ */
+public abstract class ImportRowReader implements Closeable {
+
+    /**
+     * One data row; {@code number} counts data rows from 1, so a CSV header is not counted.
+     */
+    public record Row(long number, Map<String, String> values, String error) {
+    }
+
+    protected long number;
+
+    public static ImportRowReader open(InputStream inputStream, ImportFormat format, ObjectMapper objectMapper) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        return format == ImportFormat.NDJSON ? new NdjsonRowReader(reader, objectMapper) : new CsvRowReader(reader);
+    }
+
+    /**
+     * @return the next non-blank row, or {@code null} at end of input
+     */
+    public abstract Row next() throws IOException;
+
+    private static final class CsvRowReader extends ImportRowReader {
+        private final CsvReader csv;
+        private List<String> header;
+
+        private CsvRowReader(BufferedReader reader) {
+            this.csv = new CsvReader(reader);
+        }
+
+        @Override
+        public Row next() throws IOException {
+            if (header == null) {
+                List<String> names = csv.next();
+                if (names == null) {
+                    return null;
+                }
+                header = new ArrayList<>(names.size());
+                names.forEach(name -> header.add(name.trim().toLowerCase(Locale.ROOT)));
+            }
+            List<String> fields;
+            do {
+                fields = csv.next();
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.get(0).isBlank());
+
+            number++;
+            if (fields.size() != header.size()) {
+                return new Row(number, Map.of(), "Expected " + header.size() + " columns but found " + fields.size());
+            }
+            Map<String, String> values = new HashMap<>(header.size() * 2);
+            for (int i = 0; i < header.size(); i++) {
+                values.put(header.get(i), fields.get(i));
+            }
+            return new Row(number, values, null);
+        }
+
+        @Override
+        public void close() throws IOException {
+            csv.close();
+        }
+    }
+
+    private static final class NdjsonRowReader extends ImportRowReader {
+        private final BufferedReader reader;
+        private final ObjectMapper objectMapper;
+
+        private NdjsonRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+            this.reader = reader;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            number++;
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                return new Row(number, Map.of(), "Malformed JSON: " + e.getOriginalMessage());
+            }
+            if (!node.isObject()) {
+                return new Row(number, Map.of(), "Expected a JSON object");
+            }
+            Map<String, String> values = new HashMap<>();
+            for (Map.Entry<String, JsonNode> field : node.properties()) {
+                values.put(field.getKey().toLowerCase(Locale.ROOT), field.getValue().isNull() ? null : field.getValue().asText());
+            }
+            return new Row(number, values, null);
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
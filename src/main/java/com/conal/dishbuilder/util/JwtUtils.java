@@ -1,8 +1,13 @@
 package com.conal.dishbuilder.util;
 
+import com.conal.dishbuilder.cache.TokenBlacklistFilter;
 import com.conal.dishbuilder.constant.TokenType;
+import com.conal.dishbuilder.context.TokenContextHolder;
+import com.conal.dishbuilder.domain.RoleEntity;
+import com.conal.dishbuilder.domain.UserEntity;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -10,16 +15,22 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -28,29 +39,45 @@ import java.util.stream.Collectors;
 public class JwtUtils {
     private static final long EXPIRATION_TIME = 10 * 60 * 1000;       // 10 minute
     private static final long REFRESH_TIME = 7 * 24 * 60 * 60 * 1000; // 7 days
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_TENANT_ID = "tid";
+    private static final String CLAIM_ROLES = "roles";
+    // iat only has second precision; revoke watermarks need the exact issue time
+    private static final String CLAIM_ISSUED_AT_MILLIS = "iatms";
+    private static final String WATERMARK_PREFIX = "wm:";
+    private static final Base64.Encoder KEY_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    // Key derivation and parser construction are costly; both are immutable and thread-safe
+    private final Key secretKey = Keys.hmacShaKeyFor("your-super-secret-key-1111111111111111111".getBytes(StandardCharsets.UTF_8));
+    private final JwtParser jwtParser = Jwts.parserBuilder().setSigningKey(secretKey).build();
     private final RedisUtils redisUtils;
-
-    private Key getSecretKey() {
-        return Keys.hmacShaKeyFor("your-super-secret-key-1111111111111111111".getBytes(StandardCharsets.UTF_8));
-    }
+    private final TokenBlacklistFilter tokenBlacklistFilter;
 
     private String generateToken(Map<String, Object> claims, String subject, long ttlMillis) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + ttlMillis);
 
+        Map<String, Object> allClaims = claims != null ? claims : new HashMap<>();
+        allClaims.put(CLAIM_ISSUED_AT_MILLIS, now.getTime());
         return Jwts.builder()
-                .setClaims(claims != null ? claims : new HashMap<>())
+                .setClaims(allClaims)
                 .setSubject(subject)
+                .setId(newTokenId())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSecretKey(), SignatureAlgorithm.HS256)
+                .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String generateAccessToken(UserDetails user) {
-        Map<String, Object> claims = Map.of(
-                "authorities", user.getAuthorities()
-        );
+    /**
+     * Access tokens carry the user id, tenant id and role names so the request filter
+     * can authenticate from the verified claims alone.
+     */
+    public String generateAccessToken(UserDetails user, UserEntity entity) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_USER_ID, entity.getId().toString());
+        claims.put(CLAIM_TENANT_ID, entity.getTenantId().toString());
+        claims.put(CLAIM_ROLES, entity.getRoles() == null ? List.of()
+                : entity.getRoles().stream().map(RoleEntity::getName).toList());
         return generateToken(claims, user.getUsername(), EXPIRATION_TIME);
     }
 
@@ -73,7 +100,7 @@ public class JwtUtils {
 
     public List<String> getRoles(String token) {
         Claims claims = getAllClaims(token);
-        Object rolesObj = claims.get("roles");
+        Object rolesObj = claims.get(CLAIM_ROLES);
         if (rolesObj instanceof List<?>) {
             return ((List<?>) rolesObj).stream()
                     .map(Object::toString)
@@ -82,6 +109,16 @@ public class JwtUtils {
         return List.of();
     }
 
+    public UUID getUserId(String token) {
+        String userId = getAllClaims(token).get(CLAIM_USER_ID, String.class);
+        return userId != null ? UUID.fromString(userId) : null;
+    }
+
+    public UUID getTenantId(String token) {
+        String tenantId = getAllClaims(token).get(CLAIM_TENANT_ID, String.class);
+        return tenantId != null ? UUID.fromString(tenantId) : null;
+    }
+
     public boolean isTokenExpired(String token) {
         Date expiration = getAllClaims(token).getExpiration();
         return expiration.before(new Date());
@@ -100,12 +137,18 @@ public class JwtUtils {
                 .toLocalDateTime();
     }
 
+    /**
+     * Verifies the token and returns its claims.
+     *
+     * @throws JwtException if the token is malformed, expired or not signed by us
+     */
+    public Claims parse(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
     private Claims getAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSecretKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = TokenContextHolder.getClaims(token);
+        return claims != null ? claims : parse(token);
     }
 
     public Integer getTokenVersion(String token) {
@@ -113,20 +156,97 @@ public class JwtUtils {
     }
 
     public void addTokenIntoBlacklist(String token, TokenType tokenType) {
-        long remainingTime = getExpiry(token) - System.currentTimeMillis();
+        long remainingTime = getExpiry(token);
         if (remainingTime > 0) {
+            String fingerprint = blacklistFingerprint(token, tokenType);
             redisUtils.set(
-                    redisUtils.genKey("blacklisted:", tokenType.name(), token),
+                    redisUtils.genKey(TokenBlacklistFilter.KEY_MARKER + fingerprint),
                     "1",
                     remainingTime,
                     TimeUnit.MILLISECONDS
             );
+            tokenBlacklistFilter.addAndBroadcast(fingerprint);
         }
     }
 
+    /**
+     * Revokes every token of the user issued up to {@code instant} with a single watermark key
+     * (epoch milliseconds) instead of blacklisting tokens one by one. The key outlives the
+     * longest-lived token and then expires.
+     */
+    public void revokeAllIssuedBefore(String username, Instant instant) {
+        String fingerprint = WATERMARK_PREFIX + username;
+        redisUtils.set(
+                redisUtils.genKey(TokenBlacklistFilter.KEY_MARKER + fingerprint),
+                String.valueOf(instant.toEpochMilli()),
+                REFRESH_TIME,
+                TimeUnit.MILLISECONDS
+        );
+        tokenBlacklistFilter.addAndBroadcast(fingerprint);
+    }
+
     public boolean existsTokenInBlacklist(String token, TokenType tokenType) {
-        String key = redisUtils.genKey("blacklisted:", tokenType.name(), token);
-        return redisUtils.exists(key);
+        return isBlacklisted(blacklistFingerprint(token, tokenType)) || isRevokedByWatermark(token);
+    }
+
+    private boolean isBlacklisted(String fingerprint) {
+        // A Bloom negative is definitive; only possible hits cost a Redis round trip
+        if (!tokenBlacklistFilter.mightContain(fingerprint)) {
+            return false;
+        }
+        boolean blacklisted = redisUtils.exists(redisUtils.genKey(TokenBlacklistFilter.KEY_MARKER + fingerprint));
+        tokenBlacklistFilter.recordConfirmation(blacklisted);
+        return blacklisted;
+    }
+
+    private boolean isRevokedByWatermark(String token) {
+        Claims claims = getAllClaims(token);
+        String fingerprint = WATERMARK_PREFIX + claims.getSubject();
+        if (!tokenBlacklistFilter.mightContain(fingerprint)) {
+            return false;
+        }
+        String watermark = redisUtils.get(redisUtils.genKey(TokenBlacklistFilter.KEY_MARKER + fingerprint));
+        Long issuedAt = issuedAtMillis(claims);
+        boolean revoked = watermark != null && issuedAt != null && issuedAt <= Long.parseLong(watermark);
+        tokenBlacklistFilter.recordConfirmation(revoked);
+        return revoked;
+    }
+
+    /**
+     * Tokens issued before the millisecond claim existed fall back to iat, i.e. the start of their second.
+     */
+    private static Long issuedAtMillis(Claims claims) {
+        Number millis = claims.get(CLAIM_ISSUED_AT_MILLIS, Number.class);
+        if (millis != null) {
+            return millis.longValue();
+        }
+        return claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : null;
+    }
+
+    /**
+     * Keys the blacklist by the compact jti; tokens issued before jti existed fall back to a
+     * truncated SHA-256 of the token so the key stays small either way.
+     */
+    private String blacklistFingerprint(String token, TokenType tokenType) {
+        String jti = getAllClaims(token).getId();
+        return tokenType.name() + ":" + (jti != null ? jti : sha256Prefix(token));
+    }
+
+    private static String newTokenId() {
+        UUID id = UUID.randomUUID();
+        ByteBuffer buffer = ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return KEY_ENCODER.encodeToString(buffer.array());
+    }
+
+    private static String sha256Prefix(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return KEY_ENCODER.encodeToString(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
 }
@@ -2,14 +2,23 @@ package com.conal.dishbuilder.util;
 
 import com.conal.dishbuilder.context.TenantContextHolder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static com.conal.dishbuilder.constant.Constants.EXPIRY_TIME;
@@ -41,6 +50,40 @@ public class RedisUtils {
         return redisTemplate.opsForValue().get(key);
     }
 
+    public Long increment(String key) {
+        return redisTemplate.opsForValue().increment(key);
+    }
+
+    public Long increment(String key, long delta) {
+        return redisTemplate.opsForValue().increment(key, delta);
+    }
+
+    /**
+     * Values of all keys in one MGET, {@code null} for missing keys, in the order of {@code keys}.
+     */
+    public List<String> multiGet(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        return redisTemplate.opsForValue().multiGet(keys);
+    }
+
+    /**
+     * Sets all entries with the same TTL in one pipelined round trip (MSET cannot carry a TTL).
+     */
+    public void multiSet(Map<String, String> values, long timeout, TimeUnit timeUnit) {
+        Batch batch = batch();
+        values.forEach((key, value) -> batch.set(key, value, timeout, timeUnit));
+        batch.execute();
+    }
+
+    /**
+     * Starts a batch of commands that {@link Batch#execute()} sends in a single pipelined round trip.
+     */
+    public Batch batch() {
+        return new Batch();
+    }
+
     public boolean remove(String key) {
         return Boolean.TRUE.equals(redisTemplate.delete(key));
     }
@@ -65,4 +108,74 @@ public class RedisUtils {
         redisTemplate.expire(key, timeout, timeUnit);
     }
 
+    public <T> T execute(RedisScript<T> script, List<String> keys, String... args) {
+        return redisTemplate.execute(script, keys, (Object[]) args);
+    }
+
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    public void scan(String pattern, Consumer<String> consumer) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(consumer);
+        }
+    }
+
+    /**
+     * Commands queued for one pipeline. Results come back in queue order; commands are not atomic
+     * as a group, use a script when they must be.
+     */
+    public class Batch {
+        private final List<Consumer<RedisOperations<String, String>>> commands = new ArrayList<>();
+
+        private Batch() {
+        }
+
+        public Batch set(String key, String value, long timeout, TimeUnit timeUnit) {
+            commands.add(ops -> ops.opsForValue().set(key, value, timeout, timeUnit));
+            return this;
+        }
+
+        public Batch get(String key) {
+            commands.add(ops -> ops.opsForValue().get(key));
+            return this;
+        }
+
+        public Batch increment(String key, long delta) {
+            commands.add(ops -> ops.opsForValue().increment(key, delta));
+            return this;
+        }
+
+        public Batch rightPush(String key, String value) {
+            commands.add(ops -> ops.opsForList().rightPush(key, value));
+            return this;
+        }
+
+        public Batch expire(String key, long timeout, TimeUnit timeUnit) {
+            commands.add(ops -> ops.expire(key, timeout, timeUnit));
+            return this;
+        }
+
+        public Batch remove(String key) {
+            commands.add(ops -> ops.delete(key));
+            return this;
+        }
+
+        public List<Object> execute() {
+            if (commands.isEmpty()) {
+                return List.of();
+            }
+            return redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    commands.forEach(command -> command.accept(ops));
+                    return null;
+                }
+            });
+        }
+    }
 }
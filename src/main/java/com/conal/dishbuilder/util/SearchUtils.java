@@ -0,0 +1,44 @@
+package com.conal.dishbuilder.util;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringPath;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Full-text search over the trigger-maintained {@code search_vector} columns. Free text is turned into
+ * a prefix tsquery ({@code "chick sou"} becomes {@code chick:* & sou:*}), so partial words match as the
+ * user types; the GIN index on the vector keeps this independent of catalog size.
+ */
+public class SearchUtils {
+    // Longer inputs add little to relevance but make the tsquery arbitrarily expensive
+    private static final int MAX_TERMS = 8;
+
+    /**
+     * @return the prefix tsquery for {@code text}, or {@code null} if it contains no searchable word
+     */
+    public static String toPrefixQuery(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        // Keep letters and digits only; everything else would be tsquery syntax
+        String query = Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .limit(MAX_TERMS)
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+        return query.isEmpty() ? null : query;
+    }
+
+    public static BooleanExpression matches(StringPath searchVector, String query) {
+        return Expressions.booleanTemplate("fts_match({0}, {1}) = true", searchVector, query);
+    }
+
+    public static NumberExpression<Double> rank(StringPath searchVector, String query) {
+        return Expressions.numberTemplate(Double.class, "fts_rank({0}, {1})", searchVector, query);
+    }
+}
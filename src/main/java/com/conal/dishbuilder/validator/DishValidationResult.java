@@ -0,0 +1,20 @@
+package com.conal.dishbuilder.validator;
+
+import com.conal.dishbuilder.domain.IngredientsEntity;
+import com.conal.dishbuilder.domain.UserEntity;
+import com.conal.dishbuilder.dto.response.FieldErrorResponse;
+
+import java.util.List;
+
+/**
+ * Outcome of dish validation together with the references it resolved, so the service does not load
+ * them again. {@code user} and {@code ingredients} are null when the request did not reference them.
+ */
+public record DishValidationResult(List<FieldErrorResponse> errors,
+                                   UserEntity user,
+                                   List<IngredientsEntity> ingredients) {
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+}
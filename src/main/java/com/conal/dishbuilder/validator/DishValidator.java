@@ -3,13 +3,24 @@ package com.conal.dishbuilder.validator;
 import com.conal.dishbuilder.domain.DishEntity;
 import com.conal.dishbuilder.dto.CreateDishRequest;
 import com.conal.dishbuilder.dto.UpdateDishRequest;
-import com.conal.dishbuilder.dto.response.FieldErrorResponse;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 
 @Component
 public interface DishValidator {
-    List<FieldErrorResponse> validateCreateDish(CreateDishRequest request);
-    List<FieldErrorResponse> validateUpdateDish(UpdateDishRequest request, DishEntity dish);
+    DishValidationResult validateCreateDish(CreateDishRequest request);
+    DishValidationResult validateUpdateDish(UpdateDishRequest request, DishEntity dish);
+
+    /**
+     * Validates a batch of creates with one query each for names, users and ingredients; results are
+     * in request order. Names must also be unique within the batch.
+     */
+    List<DishValidationResult> validateCreateDishes(List<CreateDishRequest> requests);
+
+    /**
+     * Batch counterpart of {@link #validateUpdateDish}; {@code dishes.get(i)} is the dish that
+     * {@code requests.get(i)} updates.
+     */
+    List<DishValidationResult> validateUpdateDishes(List<? extends UpdateDishRequest> requests, List<DishEntity> dishes);
 }
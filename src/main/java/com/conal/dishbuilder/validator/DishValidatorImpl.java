@@ -16,10 +16,19 @@ import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.conal.dishbuilder.util.CommonUtils.buildFieldErrorResponse;
 
@@ -32,7 +41,7 @@ public class DishValidatorImpl implements DishValidator {
     private final Validator validator;
 
     @Override
-    public List<FieldErrorResponse> validateCreateDish(CreateDishRequest request) {
+    public DishValidationResult validateCreateDish(CreateDishRequest request) {
         UUID tenantId = TenantContextHolder.getTenantContext();
         
         Set<ConstraintViolation<Object>> violations = validator.validate(request);
@@ -45,32 +54,16 @@ public class DishValidatorImpl implements DishValidator {
         }
 
         // Validate user exists and belongs to current tenant
-        if (request.getUserId() != null) {
-            UserEntity user = userRepository.findById(request.getUserId()).orElse(null);
-            if (user == null) {
-                fieldErrors.add(buildFieldErrorResponse("userId", request.getUserId().toString(), "User not found."));
-            } else if (!user.getTenantId().equals(tenantId)) {
-                fieldErrors.add(buildFieldErrorResponse("userId", request.getUserId().toString(), "User does not belong to current tenant."));
-            }
-        }
+        UserEntity user = resolveUser(request.getUserId(), id -> userRepository.findByIdAndTenantId(id, tenantId), fieldErrors);
 
         // Validate ingredients exist and belong to current tenant
-        if (request.getIngredientIds() != null && !request.getIngredientIds().isEmpty()) {
-            for (UUID ingredientId : request.getIngredientIds()) {
-                IngredientsEntity ingredient = ingredientsRepository.findById(ingredientId).orElse(null);
-                if (ingredient == null) {
-                    fieldErrors.add(buildFieldErrorResponse("ingredientIds", ingredientId.toString(), "Ingredient not found."));
-                } else if (!ingredient.getTenantId().equals(tenantId)) {
-                    fieldErrors.add(buildFieldErrorResponse("ingredientIds", ingredientId.toString(), "Ingredient does not belong to current tenant."));
-                }
-            }
-        }
+        List<IngredientsEntity> ingredients = resolveIngredients(request.getIngredientIds(), tenantId, fieldErrors);
 
-        return fieldErrors;
+        return new DishValidationResult(fieldErrors, user, ingredients);
     }
 
     @Override
-    public List<FieldErrorResponse> validateUpdateDish(UpdateDishRequest request, DishEntity dish) {
+    public DishValidationResult validateUpdateDish(UpdateDishRequest request, DishEntity dish) {
         UUID tenantId = TenantContextHolder.getTenantContext();
         
         Set<ConstraintViolation<Object>> violations = validator.validate(request);
@@ -84,6 +77,109 @@ public class DishValidatorImpl implements DishValidator {
             }
         }
 
+        validateUpdateFields(request, fieldErrors);
+
+        // Validate user exists and belongs to current tenant if provided
+        UserEntity user = resolveUser(request.getUserId(), id -> userRepository.findByIdAndTenantId(id, tenantId), fieldErrors);
+
+        // Validate ingredients exist and belong to current tenant if provided
+        List<IngredientsEntity> ingredients = resolveIngredients(request.getIngredientIds(), tenantId, fieldErrors);
+
+        return new DishValidationResult(fieldErrors, user, ingredients);
+    }
+
+    @Override
+    public List<DishValidationResult> validateCreateDishes(List<CreateDishRequest> requests) {
+        UUID tenantId = TenantContextHolder.getTenantContext();
+        References references = loadReferences(tenantId,
+                requests.stream().map(CreateDishRequest::getName),
+                requests.stream().map(CreateDishRequest::getUserId),
+                requests.stream().map(CreateDishRequest::getIngredientIds));
+
+        Set<String> batchNames = new HashSet<>();
+        List<DishValidationResult> results = new ArrayList<>(requests.size());
+        for (CreateDishRequest request : requests) {
+            var fieldErrors = violations(request);
+            checkNameAvailable(request.getName(), references.existingNames(), batchNames, fieldErrors);
+            UserEntity user = resolveUser(request.getUserId(), id -> Optional.ofNullable(references.users().get(id)), fieldErrors);
+            List<IngredientsEntity> ingredients = pickIngredients(request.getIngredientIds(), references.ingredients(), fieldErrors);
+            results.add(new DishValidationResult(fieldErrors, user, ingredients));
+        }
+        return results;
+    }
+
+    @Override
+    public List<DishValidationResult> validateUpdateDishes(List<? extends UpdateDishRequest> requests, List<DishEntity> dishes) {
+        UUID tenantId = TenantContextHolder.getTenantContext();
+        // Only renamed dishes need a uniqueness check
+        List<String> newNames = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String name = requests.get(i).getName();
+            if (name != null && !name.trim().equals(dishes.get(i).getName())) {
+                newNames.add(name);
+            }
+        }
+        References references = loadReferences(tenantId, newNames.stream(),
+                requests.stream().map(UpdateDishRequest::getUserId),
+                requests.stream().map(UpdateDishRequest::getIngredientIds));
+
+        Set<String> batchNames = new HashSet<>();
+        List<DishValidationResult> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            UpdateDishRequest request = requests.get(i);
+            var fieldErrors = violations(request);
+            if (request.getName() != null && !request.getName().trim().equals(dishes.get(i).getName())) {
+                checkNameAvailable(request.getName(), references.existingNames(), batchNames, fieldErrors);
+            }
+            validateUpdateFields(request, fieldErrors);
+            UserEntity user = resolveUser(request.getUserId(), id -> Optional.ofNullable(references.users().get(id)), fieldErrors);
+            List<IngredientsEntity> ingredients = pickIngredients(request.getIngredientIds(), references.ingredients(), fieldErrors);
+            results.add(new DishValidationResult(fieldErrors, user, ingredients));
+        }
+        return results;
+    }
+
+    private record References(Set<String> existingNames,
+                              Map<UUID, UserEntity> users,
+                              Map<UUID, IngredientsEntity> ingredients) {
+    }
+
+    /**
+     * Loads every name, user and ingredient the batch refers to with one tenant-scoped query each.
+     */
+    private References loadReferences(UUID tenantId, Stream<String> names, Stream<UUID> userIds,
+                                      Stream<List<UUID>> ingredientIds) {
+        Set<String> trimmedNames = names.filter(Objects::nonNull).map(String::trim).collect(Collectors.toSet());
+        Set<UUID> users = userIds.filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<UUID> ingredients = ingredientIds.filter(Objects::nonNull).flatMap(Collection::stream)
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+
+        return new References(
+                trimmedNames.isEmpty() ? Set.of() : dishRepository.findExistingNames(trimmedNames, tenantId),
+                users.isEmpty() ? Map.of() : userRepository.findAllByIdInAndTenantId(users, tenantId).stream()
+                        .collect(Collectors.toMap(UserEntity::getId, Function.identity())),
+                ingredients.isEmpty() ? Map.of() : ingredientsRepository.findAllByIdInAndTenantId(ingredients, tenantId).stream()
+                        .collect(Collectors.toMap(IngredientsEntity::getId, Function.identity())));
+    }
+
+    private List<FieldErrorResponse> violations(Object request) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(request);
+        return violations.stream()
+                .map(CommonUtils::buildFieldErrorResponse).collect(Collectors.toList());
+    }
+
+    private static void checkNameAvailable(String name, Set<String> existingNames, Set<String> batchNames,
+                                           List<FieldErrorResponse> fieldErrors) {
+        if (name == null) {
+            return;
+        }
+        String trimmed = name.trim();
+        if (existingNames.contains(trimmed) || !batchNames.add(trimmed)) {
+            fieldErrors.add(buildFieldErrorResponse("name", name, "Name already exists."));
+        }
+    }
+
+    private static void validateUpdateFields(UpdateDishRequest request, List<FieldErrorResponse> fieldErrors) {
         // Validate name length if provided
         if (request.getName() != null && (request.getName().trim().length() < 1 || request.getName().trim().length() > 100)) {
             fieldErrors.add(buildFieldErrorResponse("name", request.getName(), "Name must be in range 1 to 100 character"));
@@ -108,29 +204,51 @@ public class DishValidatorImpl implements DishValidator {
         if (request.getVat() != null && request.getVat().compareTo(java.math.BigDecimal.ZERO) < 0) {
             fieldErrors.add(buildFieldErrorResponse("vat", request.getVat().toString(), "VAT must be greater than or equal to 0"));
         }
+    }
 
-        // Validate user exists and belongs to current tenant if provided
-        if (request.getUserId() != null) {
-            UserEntity user = userRepository.findById(request.getUserId()).orElse(null);
-            if (user == null) {
-                fieldErrors.add(buildFieldErrorResponse("userId", request.getUserId().toString(), "User not found."));
-            } else if (!user.getTenantId().equals(tenantId)) {
-                fieldErrors.add(buildFieldErrorResponse("userId", request.getUserId().toString(), "User does not belong to current tenant."));
-            }
+    /**
+     * Looks the user up tenant-scoped; a user of another tenant is reported as not found.
+     */
+    private UserEntity resolveUser(UUID userId, Function<UUID, Optional<UserEntity>> lookup, List<FieldErrorResponse> fieldErrors) {
+        if (userId == null) {
+            return null;
         }
+        UserEntity user = lookup.apply(userId).orElse(null);
+        if (user == null) {
+            fieldErrors.add(buildFieldErrorResponse("userId", userId.toString(), "User not found."));
+        }
+        return user;
+    }
 
-        // Validate ingredients exist and belong to current tenant if provided
-        if (request.getIngredientIds() != null && !request.getIngredientIds().isEmpty()) {
-            for (UUID ingredientId : request.getIngredientIds()) {
-                IngredientsEntity ingredient = ingredientsRepository.findById(ingredientId).orElse(null);
-                if (ingredient == null) {
-                    fieldErrors.add(buildFieldErrorResponse("ingredientIds", ingredientId.toString(), "Ingredient not found."));
-                } else if (!ingredient.getTenantId().equals(tenantId)) {
-                    fieldErrors.add(buildFieldErrorResponse("ingredientIds", ingredientId.toString(), "Ingredient does not belong to current tenant."));
-                }
-            }
+    /**
+     * Loads every referenced ingredient (with its category) in one tenant-scoped query and reports the
+     * set difference; ids of other tenants are indistinguishable from missing ones. The resolved list
+     * keeps the request order with duplicates removed.
+     */
+    private List<IngredientsEntity> resolveIngredients(List<UUID> ingredientIds, UUID tenantId, List<FieldErrorResponse> fieldErrors) {
+        if (ingredientIds == null || ingredientIds.isEmpty()) {
+            return null;
         }
+        Map<UUID, IngredientsEntity> found = ingredientsRepository.findAllByIdInAndTenantId(new LinkedHashSet<>(ingredientIds), tenantId).stream()
+                .collect(Collectors.toMap(IngredientsEntity::getId, Function.identity()));
+        return pickIngredients(ingredientIds, found, fieldErrors);
+    }
 
-        return fieldErrors;
+    private static List<IngredientsEntity> pickIngredients(List<UUID> ingredientIds, Map<UUID, IngredientsEntity> found,
+                                                           List<FieldErrorResponse> fieldErrors) {
+        if (ingredientIds == null || ingredientIds.isEmpty()) {
+            return null;
+        }
+        Set<UUID> requested = new LinkedHashSet<>(ingredientIds);
+        List<IngredientsEntity> ingredients = new ArrayList<>(requested.size());
+        for (UUID ingredientId : requested) {
+            IngredientsEntity ingredient = found.get(ingredientId);
+            if (ingredient == null) {
+                fieldErrors.add(buildFieldErrorResponse("ingredientIds", String.valueOf(ingredientId), "Ingredient not found."));
+            } else {
+                ingredients.add(ingredient);
+            }
+        }
+        return ingredients;
     }
 }
@@ -0,0 +1,16 @@
+-- Dish totals used to be supplied by the client. Recompute every dish once from its ingredients, so
+-- stored totals agree with PricingEngine and the quote endpoint before any ingredient is repriced.
+-- Inputs as in JdbcDishPriceStore.LOAD_INPUTS (a dish without ingredients totals 0), formula as in V8.
+
+UPDATE dish_builder_schema.dishes d
+SET total_price = s.total
+FROM (SELECT d.id,
+             ROUND(COALESCE(SUM(i.price), 0)
+                       * CASE WHEN d.discount > 0 THEN (100 - LEAST(d.discount, 100)) / 100 ELSE 1 END
+                       * CASE WHEN d.vat > 0 THEN (100 + d.vat) / 100 ELSE 1 END, 2) AS total
+      FROM dish_builder_schema.dishes d
+               LEFT JOIN dish_builder_schema.dish_ingredients di ON di.dish_id = d.id
+               LEFT JOIN dish_builder_schema.ingredients i ON i.id = di.ingredient_id
+      GROUP BY d.id, d.discount, d.vat) s
+WHERE d.id = s.id
+  AND d.total_price IS DISTINCT FROM s.total;
@@ -0,0 +1,51 @@
+-- Composite indexes shaped to the tenant-scoped predicates and orderings used by the repositories.
+-- Listings filter on tenant_id and page by (name, id), so one index serves the filter, the sort
+-- and the keyset cursor without a separate sort step.
+
+CREATE INDEX IF NOT EXISTS idx_category_tenant_name_id
+    ON dish_builder_schema.category (tenant_id, name, id);
+
+CREATE INDEX IF NOT EXISTS idx_category_tenant_lower_name
+    ON dish_builder_schema.category (tenant_id, lower(name));
+
+CREATE INDEX IF NOT EXISTS idx_ingredients_tenant_name_id
+    ON dish_builder_schema.ingredients (tenant_id, name, id);
+
+CREATE INDEX IF NOT EXISTS idx_ingredients_tenant_lower_name
+    ON dish_builder_schema.ingredients (tenant_id, lower(name));
+
+CREATE INDEX IF NOT EXISTS idx_ingredients_category_id
+    ON dish_builder_schema.ingredients (category_id);
+
+CREATE INDEX IF NOT EXISTS idx_dishes_tenant_name_id
+    ON dish_builder_schema.dishes (tenant_id, name, id);
+
+CREATE INDEX IF NOT EXISTS idx_dishes_tenant_lower_name
+    ON dish_builder_schema.dishes (tenant_id, lower(name));
+
+CREATE INDEX IF NOT EXISTS idx_dishes_user_id
+    ON dish_builder_schema.dishes (user_id);
+
+-- Join table: one direction per lookup (dish -> ingredients when loading, ingredient -> dishes for filters)
+CREATE INDEX IF NOT EXISTS idx_dish_ingredients_dish_ingredient
+    ON dish_builder_schema.dish_ingredients (dish_id, ingredient_id);
+
+CREATE INDEX IF NOT EXISTS idx_dish_ingredients_ingredient_dish
+    ON dish_builder_schema.dish_ingredients (ingredient_id, dish_id);
+
+-- TenantRepository.findBySubDomainAndStatus
+CREATE INDEX IF NOT EXISTS idx_tenant_sub_domain_status
+    ON dish_builder_schema.tenant (sub_domain, status);
+
+CREATE INDEX IF NOT EXISTS idx_tenant_name_id
+    ON dish_builder_schema.tenant (name, id);
+
+CREATE INDEX IF NOT EXISTS idx_user_tenant_username_id
+    ON dish_builder_schema."user" (tenant_id, username, id);
+
+-- user_role's primary key leads with role_id; loading a user's roles goes by user_id
+CREATE INDEX IF NOT EXISTS idx_user_role_user_id
+    ON dish_builder_schema.user_role (user_id);
+
+CREATE INDEX IF NOT EXISTS idx_tenant_customization_tenant_id
+    ON dish_builder_schema.tenant_customization (tenant_id);
@@ -0,0 +1,35 @@
+-- Trigram GIN indexes for the containsIgnoreCase filters in the QueryDSL repositories.
+-- Hibernate renders containsIgnoreCase as lower(col) like '%term%', which a btree cannot serve;
+-- gin_trgm_ops on the same lower(col) expression can.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
+CREATE INDEX IF NOT EXISTS trgm_category_name
+    ON dish_builder_schema.category USING gin (lower(name) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS trgm_category_description
+    ON dish_builder_schema.category USING gin (lower(description) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS trgm_ingredients_name
+    ON dish_builder_schema.ingredients USING gin (lower(name) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS trgm_ingredients_description
+    ON dish_builder_schema.ingredients USING gin (lower(description) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS trgm_dishes_name
+    ON dish_builder_schema.dishes USING gin (lower(name) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS trgm_dishes_description
+    ON dish_builder_schema.dishes USING gin (lower(description) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS trgm_user_username
+    ON dish_builder_schema."user" USING gin (lower(username) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS trgm_user_email
+    ON dish_builder_schema."user" USING gin (lower(email) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS trgm_tenant_name
+    ON dish_builder_schema.tenant USING gin (lower(name) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS trgm_tenant_sub_domain
+    ON dish_builder_schema.tenant USING gin (lower(sub_domain) public.gin_trgm_ops);
@@ -0,0 +1,50 @@
+-- Full-text search over name (weight A) and description (weight B) for the catalog tables.
+-- search_vector is maintained by trigger so writers never have to know about it; the 'simple'
+-- configuration avoids language stemming, which suits dish and ingredient names.
+
+CREATE OR REPLACE FUNCTION dish_builder_schema.refresh_search_vector() RETURNS trigger AS
+$$
+BEGIN
+    NEW.search_vector :=
+            setweight(to_tsvector('simple', coalesce(NEW.name, '')), 'A') ||
+            setweight(to_tsvector('simple', coalesce(NEW.description, '')), 'B');
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE dish_builder_schema.dishes
+    ADD COLUMN IF NOT EXISTS search_vector tsvector;
+ALTER TABLE dish_builder_schema.ingredients
+    ADD COLUMN IF NOT EXISTS search_vector tsvector;
+ALTER TABLE dish_builder_schema.category
+    ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE TRIGGER trg_dishes_search_vector
+    BEFORE INSERT OR UPDATE OF name, description
+    ON dish_builder_schema.dishes
+    FOR EACH ROW
+EXECUTE FUNCTION dish_builder_schema.refresh_search_vector();
+
+CREATE TRIGGER trg_ingredients_search_vector
+    BEFORE INSERT OR UPDATE OF name, description
+    ON dish_builder_schema.ingredients
+    FOR EACH ROW
+EXECUTE FUNCTION dish_builder_schema.refresh_search_vector();
+
+CREATE TRIGGER trg_category_search_vector
+    BEFORE INSERT OR UPDATE OF name, description
+    ON dish_builder_schema.category
+    FOR EACH ROW
+EXECUTE FUNCTION dish_builder_schema.refresh_search_vector();
+
+-- Backfill existing rows (fires the triggers)
+UPDATE dish_builder_schema.dishes SET name = name;
+UPDATE dish_builder_schema.ingredients SET name = name;
+UPDATE dish_builder_schema.category SET name = name;
+
+CREATE INDEX IF NOT EXISTS fts_dishes_search_vector
+    ON dish_builder_schema.dishes USING gin (search_vector);
+CREATE INDEX IF NOT EXISTS fts_ingredients_search_vector
+    ON dish_builder_schema.ingredients USING gin (search_vector);
+CREATE INDEX IF NOT EXISTS fts_category_search_vector
+    ON dish_builder_schema.category USING gin (search_vector);
@@ -0,0 +1,24 @@
+-- Outbox for transactional mail: requests enqueue a row and return, MailOutboxWorker delivers it.
+-- Workers claim due rows with FOR UPDATE SKIP LOCKED, so several nodes can poll concurrently.
+CREATE TABLE dish_builder_schema.mail_outbox
+(
+    id              UUID         NOT NULL,
+    tenant_id       UUID,
+    recipient       VARCHAR(255) NOT NULL,
+    subject         VARCHAR(255) NOT NULL,
+    body            TEXT         NOT NULL,
+    html            BOOLEAN      NOT NULL DEFAULT FALSE,
+    status          VARCHAR(16)  NOT NULL,
+    attempts        INTEGER      NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    locked_until    TIMESTAMP WITHOUT TIME ZONE,
+    last_error      VARCHAR(1000),
+    created_at      TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    sent_at         TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT pk_mail_outbox PRIMARY KEY (id)
+);
+
+-- Only live rows are ever scanned by the poller; sent and dead rows stay out of the index
+CREATE INDEX IF NOT EXISTS idx_mail_outbox_due
+    ON dish_builder_schema.mail_outbox (next_attempt_at)
+    WHERE status IN ('PENDING', 'SENDING');
@@ -0,0 +1,24 @@
+-- Ingredient prices are whole cents. Quotes sum them as exact minor units and persisted totals sum
+-- them as decimals, so an unbounded scale would let the two round differently.
+-- Totals of dishes whose ingredients get rounded here are recomputed the way PricingEngine does:
+-- subtotal x (1 - min(discount, 100) / 100) x (1 + vat / 100), rounded half-up to 2 decimals.
+
+CREATE TEMPORARY TABLE repriced_dishes ON COMMIT DROP AS
+SELECT DISTINCT di.dish_id
+FROM dish_builder_schema.dish_ingredients di
+         JOIN dish_builder_schema.ingredients i ON i.id = di.ingredient_id
+WHERE i.price <> ROUND(i.price, 2);
+
+ALTER TABLE dish_builder_schema.ingredients
+    ALTER COLUMN price TYPE NUMERIC(12, 2) USING ROUND(price, 2);
+
+UPDATE dish_builder_schema.dishes d
+SET total_price = ROUND(s.subtotal
+                            * CASE WHEN d.discount > 0 THEN (100 - LEAST(d.discount, 100)) / 100 ELSE 1 END
+                            * CASE WHEN d.vat > 0 THEN (100 + d.vat) / 100 ELSE 1 END, 2)
+FROM (SELECT di.dish_id, COALESCE(SUM(i.price), 0) AS subtotal
+      FROM dish_builder_schema.dish_ingredients di
+               JOIN dish_builder_schema.ingredients i ON i.id = di.ingredient_id
+      WHERE di.dish_id IN (SELECT dish_id FROM repriced_dishes)
+      GROUP BY di.dish_id) s
+WHERE d.id = s.dish_id;
@@ -0,0 +1,12 @@
+-- A mail body can hold a one-time password. It is cleared as soon as the mail is SENT or DEAD, and
+-- finished rows are deleted after dish-builder.mail.outbox.retention by MailOutboxWorker.purge.
+ALTER TABLE dish_builder_schema.mail_outbox
+    ALTER COLUMN body DROP NOT NULL;
+
+UPDATE dish_builder_schema.mail_outbox
+SET body = NULL
+WHERE status IN ('SENT', 'DEAD');
+
+CREATE INDEX IF NOT EXISTS idx_mail_outbox_finished
+    ON dish_builder_schema.mail_outbox (created_at)
+    WHERE status IN ('SENT', 'DEAD');
@@ -0,0 +1,33 @@
+-- Sliding-window log over a sorted set: members are admissions, scores their time in millis.
+-- KEYS[1] window key
+-- ARGV[1] window length (ms), ARGV[2] max admissions per window,
+-- ARGV[3] minimum gap between admissions (ms, 0 disables), ARGV[4] unique member for this admission
+-- Returns {admitted (1/0), reason (0 ok, 1 too fast, 2 too many), retry after (ms)}
+local key = KEYS[1]
+local window = tonumber(ARGV[1])
+local limit = tonumber(ARGV[2])
+local interval = tonumber(ARGV[3])
+
+-- Server clock, so every application node measures the window against the same time source
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+redis.call('ZREMRANGEBYSCORE', key, '-inf', now - window)
+local count = redis.call('ZCARD', key)
+
+if interval > 0 and count > 0 then
+    local last = redis.call('ZRANGE', key, -1, -1, 'WITHSCORES')
+    local wait = tonumber(last[2]) + interval - now
+    if wait > 0 then
+        return {0, 1, wait}
+    end
+end
+
+if count >= limit then
+    local oldest = redis.call('ZRANGE', key, 0, 0, 'WITHSCORES')
+    return {0, 2, math.max(tonumber(oldest[2]) + window - now, 1)}
+end
+
+redis.call('ZADD', key, now, ARGV[4])
+redis.call('PEXPIRE', key, window)
+return {1, 0, 0}
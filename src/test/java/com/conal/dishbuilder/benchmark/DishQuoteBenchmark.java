@@ -0,0 +1,86 @@
+package com.conal.dishbuilder.benchmark;
+
+import com.conal.dishbuilder.pricing.IngredientPriceTable;
+import com.conal.dishbuilder.pricing.PricingEngine;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency distribution (SampleTime reports p50/p99/p99.9) of pricing a 12-ingredient quote against
+ * a 5k-ingredient tenant.
+ * <ul>
+ *     <li>{@code boxedMap}: a {@code HashMap<UUID, BigDecimal>} summed with BigDecimal arithmetic.</li>
+ *     <li>{@code priceTable}: {@link IngredientPriceTable} lookups summed in long minor units, as
+ *     {@code POST /v1.0/dish/quote} does.</li>
+ * </ul>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.conal.dishbuilder.benchmark.DishQuoteBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DishQuoteBenchmark {
+    private static final int INGREDIENTS = 5_000;
+    private static final int QUOTED = 12;
+    private static final BigDecimal DISCOUNT = BigDecimal.valueOf(10);
+    private static final BigDecimal VAT = BigDecimal.valueOf(8);
+
+    private Map<UUID, BigDecimal> prices;
+    private IngredientPriceTable table;
+    private List<UUID> quoted;
+
+    @Setup
+    public void setUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        prices = new HashMap<>();
+        List<UUID> ids = new ArrayList<>(INGREDIENTS);
+        for (int i = 0; i < INGREDIENTS; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            prices.put(id, BigDecimal.valueOf(random.nextLong(100, 50_000), 2));
+        }
+        table = IngredientPriceTable.of(prices);
+        quoted = new ArrayList<>(QUOTED);
+        for (int i = 0; i < QUOTED; i++) {
+            quoted.add(ids.get(random.nextInt(INGREDIENTS)));
+        }
+    }
+
+    @Benchmark
+    public BigDecimal boxedMap() {
+        BigDecimal subtotal = BigDecimal.ZERO;
+        for (UUID id : quoted) {
+            subtotal = subtotal.add(prices.get(id));
+        }
+        return PricingEngine.total(subtotal, DISCOUNT, VAT);
+    }
+
+    @Benchmark
+    public BigDecimal priceTable() {
+        long subtotal = 0;
+        for (int i = 0; i < quoted.size(); i++) {
+            subtotal += table.priceOf(quoted.get(i));
+        }
+        return PricingEngine.total(IngredientPriceTable.fromMinor(subtotal), DISCOUNT, VAT);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DishQuoteBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,124 @@
+package com.conal.dishbuilder.benchmark;
+
+import com.conal.dishbuilder.pricing.DishPriceStore;
+import com.conal.dishbuilder.pricing.DishRepricer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Recompute throughput of {@link DishRepricer} for one ingredient price change that touches
+ * 100k dishes, sequentially ({@code parallelism = 1}) and fanned out over the ForkJoin pool.
+ * The store is in memory, so this measures batching, pricing and fan-out; the database round
+ * trips of a real run come on top. One operation reprices all 100k dishes.
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.conal.dishbuilder.benchmark.DishRepricingBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DishRepricingBenchmark {
+    private static final int DISHES = 100_000;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    @Param({"1000"})
+    public int batchSize;
+
+    private final UUID ingredientId = UUID.randomUUID();
+    private final UUID tenantId = UUID.randomUUID();
+    private DishRepricer repricer;
+
+    @Setup
+    public void setUp() {
+        repricer = new DishRepricer(new InMemoryStore(DISHES), null, new SimpleMeterRegistry(), parallelism, batchSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        repricer.shutdown();
+    }
+
+    @Benchmark
+    public int repriceAffectedDishes() {
+        return repricer.reprice(ingredientId, tenantId);
+    }
+
+    /**
+     * 100k dishes with 3-8 ingredients each; totals are written to a plain array.
+     */
+    private static final class InMemoryStore implements DishPriceStore {
+        private final List<UUID> dishIds;
+        private final Map<UUID, Integer> indexes;
+        private final BigDecimal[] subtotals;
+        private final BigDecimal[] discounts;
+        private final BigDecimal[] vats;
+        private final BigDecimal[] totals;
+
+        private InMemoryStore(int dishes) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            dishIds = new ArrayList<>(dishes);
+            indexes = new HashMap<>(dishes * 2);
+            subtotals = new BigDecimal[dishes];
+            discounts = new BigDecimal[dishes];
+            vats = new BigDecimal[dishes];
+            totals = new BigDecimal[dishes];
+            for (int i = 0; i < dishes; i++) {
+                UUID id = UUID.randomUUID();
+                dishIds.add(id);
+                indexes.put(id, i);
+                BigDecimal subtotal = BigDecimal.ZERO;
+                for (int j = random.nextInt(3, 9); j > 0; j--) {
+                    subtotal = subtotal.add(BigDecimal.valueOf(random.nextLong(100, 50_000), 2));
+                }
+                subtotals[i] = subtotal;
+                discounts[i] = random.nextBoolean() ? BigDecimal.valueOf(random.nextInt(0, 30)) : null;
+                vats[i] = BigDecimal.valueOf(8);
+            }
+        }
+
+        @Override
+        public List<UUID> findDishIdsByIngredient(UUID ingredientId, UUID tenantId) {
+            return dishIds;
+        }
+
+        @Override
+        public List<Inputs> loadInputs(List<UUID> ids) {
+            List<Inputs> inputs = new ArrayList<>(ids.size());
+            for (UUID id : ids) {
+                int index = indexes.get(id);
+                inputs.add(new Inputs(id, subtotals[index], discounts[index], vats[index]));
+            }
+            return inputs;
+        }
+
+        @Override
+        public int updateTotals(List<Repriced> dishes) {
+            for (Repriced dish : dishes) {
+                totals[indexes.get(dish.inputs().dishId())] = dish.totalPrice();
+            }
+            return dishes.size();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DishRepricingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,89 @@
+package com.conal.dishbuilder.benchmark;
+
+import com.conal.dishbuilder.context.TokenContextHolder;
+import com.conal.dishbuilder.domain.UserEntity;
+import com.conal.dishbuilder.util.JwtUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tokens/sec for the per-request JWT work of JwtRequestFilter.
+ * <ul>
+ *     <li>{@code perCallParser}: the previous behaviour, deriving the key and building a parser
+ *     for each of the three parses a request used to do (username, validate, expiry).</li>
+ *     <li>{@code cachedParser}: the shared parser, parsing once and serving later lookups
+ *     from {@link TokenContextHolder}.</li>
+ * </ul>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.conal.dishbuilder.benchmark.JwtParsingBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtParsingBenchmark {
+    private static final String SECRET = "your-super-secret-key-1111111111111111111";
+
+    private JwtUtils jwtUtils;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils(null, null);
+        UserEntity user = UserEntity.builder()
+                .id(UUID.randomUUID())
+                .tenantId(UUID.randomUUID())
+                .username("bench")
+                .roles(new HashSet<>())
+                .build();
+        token = jwtUtils.generateAccessToken(User.withUsername("bench").password("").build(), user);
+    }
+
+    @Benchmark
+    public Object perCallParser() {
+        Object subject = parseWithFreshParser(token).getSubject();
+        Object valid = parseWithFreshParser(token);
+        Object expiry = parseWithFreshParser(token).getExpiration();
+        return subject.hashCode() + valid.hashCode() + expiry.hashCode();
+    }
+
+    @Benchmark
+    public Object cachedParser() {
+        try {
+            TokenContextHolder.setTokenContext(token, jwtUtils.parse(token));
+            Object subject = jwtUtils.getUsername(token);
+            boolean valid = jwtUtils.validateToken(token);
+            long expiry = jwtUtils.getExpiry(token);
+            return subject.hashCode() + (valid ? 1 : 0) + expiry;
+        } finally {
+            TokenContextHolder.clearTokenContext();
+        }
+    }
+
+    private static Claims parseWithFreshParser(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtParsingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
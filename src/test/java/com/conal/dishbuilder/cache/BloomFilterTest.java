@@ -0,0 +1,53 @@
+package com.conal.dishbuilder.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_ShouldNeverReturnFalseNegatives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        String[] values = new String[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = "ACCESS:" + UUID.randomUUID();
+            filter.put(values[i]);
+        }
+
+        for (String value : values) {
+            assertTrue(filter.mightContain(value));
+        }
+        assertEquals(10_000, filter.insertions());
+    }
+
+    @Test
+    void mightContain_ShouldStayNearConfiguredFalsePositiveRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("ACCESS:" + UUID.randomUUID());
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("REFRESH:" + UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+
+        double observed = (double) falsePositives / probes;
+        assertTrue(observed < 0.02, "observed false-positive rate " + observed);
+        assertTrue(filter.expectedFpp() < 0.02);
+    }
+
+    @Test
+    void mightContain_OnEmptyFilter_ShouldReturnFalse() {
+        BloomFilter filter = new BloomFilter(1_000, 0.001);
+
+        assertFalse(filter.mightContain("ACCESS:anything"));
+        assertEquals(0.0, filter.expectedFpp());
+    }
+}
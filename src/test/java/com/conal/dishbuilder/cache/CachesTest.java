@@ -0,0 +1,65 @@
+package com.conal.dishbuilder.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachesTest {
+
+    private final Cache<String, String> cache = Caffeine.newBuilder().build();
+    private final AtomicLong generation = new AtomicLong();
+
+    @Test
+    void getOrLoad_ShouldCacheLoadedValue() {
+        assertEquals("v1", Caches.getOrLoad(cache, generation, "k", k -> "v1"));
+        assertEquals("v1", Caches.getOrLoad(cache, generation, "k", k -> "v2"));
+    }
+
+    @Test
+    void getOrLoad_NullValue_ShouldNotBeCached() {
+        assertNull(Caches.getOrLoad(cache, generation, "k", k -> null));
+        assertNull(cache.getIfPresent("k"));
+    }
+
+    @Test
+    void getOrLoad_InvalidatedDuringLoad_ShouldNotStoreStaleValue() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> load = executor.submit(() -> Caches.getOrLoad(cache, generation, "k", k -> {
+                loading.countDown();
+                await(invalidated);
+                return "stale";
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            generation.incrementAndGet();
+            cache.invalidate("k");
+            invalidated.countDown();
+
+            assertEquals("stale", load.get(5, TimeUnit.SECONDS));
+            assertNull(cache.getIfPresent("k"));
+            assertEquals("fresh", Caches.getOrLoad(cache, generation, "k", k -> "fresh"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
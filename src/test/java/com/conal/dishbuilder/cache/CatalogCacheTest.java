@@ -0,0 +1,129 @@
+package com.conal.dishbuilder.cache;
+
+import com.conal.dishbuilder.dto.request.filter.DishFilterRequest;
+import com.conal.dishbuilder.dto.response.DishResponse;
+import com.conal.dishbuilder.dto.response.PageResponse;
+import com.conal.dishbuilder.util.RedisUtils;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogCacheTest {
+    private static final TypeReference<PageResponse<DishResponse>> DISH_PAGE = new TypeReference<>() {
+    };
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private RedisUtils redisUtils;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private SimpleMeterRegistry meterRegistry;
+    private CatalogCache catalogCache;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        catalogCache = new CatalogCache(catalogVersion, redisUtils, objectMapper, meterRegistry,
+                100, Duration.ofMinutes(5), Duration.ofMinutes(10));
+        tenantId = UUID.randomUUID();
+    }
+
+    @Test
+    void get_ShouldLoadOnceThenServeLocally() {
+        when(catalogVersion.current(tenantId)).thenReturn(3L);
+        AtomicInteger loads = new AtomicInteger();
+
+        catalogCache.get(CatalogCache.DISH, filter("Pho"), DISH_PAGE, () -> page(loads));
+        PageResponse<DishResponse> second = catalogCache.get(CatalogCache.DISH, filter("Pho"), DISH_PAGE, () -> page(loads));
+
+        assertEquals(1, loads.get());
+        assertEquals("Pho Bo", second.getData().get(0).getName());
+        verify(redisUtils).set(contains(":v3:"), anyString(), eq(600L), eq(TimeUnit.SECONDS));
+        assertEquals(0.5, meterRegistry.get("catalog.cache.hit.ratio").tag("endpoint", CatalogCache.DISH).gauge().value());
+    }
+
+    @Test
+    void get_ShouldServeFromRedisWhenLocalTierMisses() throws Exception {
+        when(catalogVersion.current(tenantId)).thenReturn(1L);
+        when(redisUtils.get(anyString())).thenReturn(objectMapper.writeValueAsString(page(new AtomicInteger())));
+        AtomicInteger loads = new AtomicInteger();
+
+        PageResponse<DishResponse> result = catalogCache.get(CatalogCache.DISH, filter("Pho"), DISH_PAGE, () -> page(loads));
+
+        assertEquals(0, loads.get());
+        assertEquals("Pho Bo", result.getData().get(0).getName());
+        assertEquals(1.0, meterRegistry.get("catalog.cache.requests")
+                .tag("endpoint", CatalogCache.DISH).tag("result", "redis").counter().count());
+    }
+
+    @Test
+    void get_AfterVersionBump_ShouldReload() {
+        when(catalogVersion.current(tenantId)).thenReturn(1L, 2L);
+        AtomicInteger loads = new AtomicInteger();
+
+        catalogCache.get(CatalogCache.DISH, filter("Pho"), DISH_PAGE, () -> page(loads));
+        catalogCache.get(CatalogCache.DISH, filter("Pho"), DISH_PAGE, () -> page(loads));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_WithUnknownVersion_ShouldBypassCache() {
+        when(catalogVersion.current(tenantId)).thenReturn(CatalogVersion.UNKNOWN);
+        AtomicInteger loads = new AtomicInteger();
+
+        catalogCache.get(CatalogCache.DISH, filter("Pho"), DISH_PAGE, () -> page(loads));
+        catalogCache.get(CatalogCache.DISH, filter("Pho"), DISH_PAGE, () -> page(loads));
+
+        assertEquals(2, loads.get());
+        verifyNoInteractions(redisUtils);
+    }
+
+    @Test
+    void fingerprint_ShouldIgnoreBlanksWhitespaceAndSortDirectionCase() {
+        DishFilterRequest plain = filter("Pho");
+        DishFilterRequest noisy = filter("  Pho ");
+        noisy.setDescription(" ");
+        noisy.setSortDirection("asc");
+
+        assertEquals(catalogCache.fingerprint(plain), catalogCache.fingerprint(noisy));
+        assertNotEquals(catalogCache.fingerprint(plain), catalogCache.fingerprint(filter("Bun")));
+    }
+
+    private DishFilterRequest filter(String name) {
+        DishFilterRequest filter = new DishFilterRequest();
+        filter.setTenantId(tenantId);
+        filter.setName(name);
+        return filter;
+    }
+
+    private static PageResponse<DishResponse> page(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return PageResponse.<DishResponse>builder()
+                .data(List.of(DishResponse.builder().id(UUID.randomUUID()).name("Pho Bo").build()))
+                .size(10)
+                .totalElements(1)
+                .totalPages(1)
+                .build();
+    }
+}
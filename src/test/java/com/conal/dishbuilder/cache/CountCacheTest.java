@@ -0,0 +1,63 @@
+package com.conal.dishbuilder.cache;
+
+import com.conal.dishbuilder.constant.CountMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CountCacheTest {
+
+    private final AtomicLong rows = new AtomicLong(5);
+    private CountCache countCache;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        countCache = new CountCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+        tenantId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evictAfterCommit_ShouldKeepCachedCountUntilCommit() {
+        assertEquals(5, estimate());
+        TransactionSynchronizationManager.initSynchronization();
+
+        countCache.evictAfterCommit(CountCache.DISH, tenantId);
+        rows.set(6);
+        // Still cached: until the commit, other transactions cannot see the write either
+        assertEquals(5, estimate());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(6, estimate());
+    }
+
+    @Test
+    void evictAfterCommit_WithoutTransaction_ShouldEvictImmediately() {
+        assertEquals(5, estimate());
+        rows.set(6);
+
+        countCache.evictAfterCommit(CountCache.DISH, tenantId);
+
+        assertEquals(6, estimate());
+    }
+
+    private long estimate() {
+        return countCache.count(CountCache.DISH, tenantId, null, CountMode.ESTIMATED, rows::get);
+    }
+}
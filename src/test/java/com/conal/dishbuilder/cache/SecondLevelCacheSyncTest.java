@@ -0,0 +1,116 @@
+package com.conal.dishbuilder.cache;
+
+import com.conal.dishbuilder.constant.Constants;
+import com.conal.dishbuilder.domain.CategoryEntity;
+import com.conal.dishbuilder.domain.RoleEntity;
+import com.conal.dishbuilder.util.RedisUtils;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnitUtil;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SecondLevelCacheSyncTest {
+
+    @Mock
+    private RedisUtils redisUtils;
+
+    @Mock
+    private ObjectProvider<EntityManagerFactory> entityManagerFactoryProvider;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    private SecondLevelCacheSync sync;
+
+    @BeforeEach
+    void setUp() {
+        sync = new SecondLevelCacheSync(redisUtils, entityManagerFactoryProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void entityChanged_ShouldBroadcastOnlyAfterCommit() {
+        CategoryEntity category = CategoryEntity.builder().id(UUID.randomUUID()).build();
+        PersistenceUnitUtil persistenceUnitUtil = mock(PersistenceUnitUtil.class);
+        when(entityManagerFactoryProvider.getObject()).thenReturn(entityManagerFactory);
+        when(entityManagerFactory.getPersistenceUnitUtil()).thenReturn(persistenceUnitUtil);
+        when(persistenceUnitUtil.getIdentifier(category)).thenReturn(category.getId());
+        TransactionSynchronizationManager.initSynchronization();
+
+        sync.entityChanged(category);
+        verifyNoInteractions(redisUtils);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(redisUtils).publish(SecondLevelCacheSync.CHANNEL, "CategoryEntity:" + category.getId());
+    }
+
+    @Test
+    void onMessage_ShouldEvictEntityAndItsQueryRegion() {
+        UUID roleId = UUID.randomUUID();
+        Cache cache = mock(Cache.class);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        org.hibernate.Cache hibernateCache = mock(org.hibernate.Cache.class);
+        when(entityManagerFactoryProvider.getObject()).thenReturn(entityManagerFactory);
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(hibernateCache);
+
+        sync.onMessage(message("RoleEntity:" + roleId), null);
+
+        verify(cache).evict(RoleEntity.class, roleId);
+        verify(hibernateCache).evictQueryRegion(Constants.CacheRegion.ROLE_QUERY);
+    }
+
+    @Test
+    void onMessage_EntityWithoutQueryRegion_ShouldOnlyEvictEntity() {
+        UUID categoryId = UUID.randomUUID();
+        Cache cache = mock(Cache.class);
+        when(entityManagerFactoryProvider.getObject()).thenReturn(entityManagerFactory);
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+
+        sync.onMessage(message("CategoryEntity:" + categoryId), null);
+
+        verify(cache).evict(CategoryEntity.class, categoryId);
+        verify(entityManagerFactory, never()).unwrap(any());
+    }
+
+    @Test
+    void onMessage_UnknownEntityOrBadId_ShouldBeIgnored() {
+        lenient().when(entityManagerFactoryProvider.getObject()).thenReturn(entityManagerFactory);
+        lenient().when(entityManagerFactory.getCache()).thenReturn(mock(Cache.class));
+
+        sync.onMessage(message("DishEntity:" + UUID.randomUUID()), null);
+        sync.onMessage(message("CategoryEntity:not-a-uuid"), null);
+
+        verify(entityManagerFactory.getCache(), never()).evict(any(), any());
+        verify(redisUtils, never()).publish(anyString(), anyString());
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(SecondLevelCacheSync.CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
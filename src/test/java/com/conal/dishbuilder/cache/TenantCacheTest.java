@@ -0,0 +1,114 @@
+package com.conal.dishbuilder.cache;
+
+import com.conal.dishbuilder.constant.CommonStatus;
+import com.conal.dishbuilder.domain.TenantEntity;
+import com.conal.dishbuilder.util.RedisUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TenantCacheTest {
+
+    @Mock
+    private RedisUtils redisUtils;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TenantCache tenantCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tenantCache = new TenantCache(redisUtils, meterRegistry, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void get_ShouldLoadOnceAndServeFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+        TenantEntity tenant = TenantEntity.builder().id(UUID.randomUUID()).build();
+
+        TenantEntity first = tenantCache.get("default", CommonStatus.DEFAULT, () -> {
+            loads.incrementAndGet();
+            return tenant;
+        });
+        TenantEntity second = tenantCache.get("default", CommonStatus.DEFAULT, () -> {
+            loads.incrementAndGet();
+            return tenant;
+        });
+
+        assertSame(tenant, first);
+        assertSame(tenant, second);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "tenantCache").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "tenantCache").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void get_ShouldKeySeparatelyByStatus() {
+        AtomicInteger loads = new AtomicInteger();
+
+        tenantCache.get("shop", CommonStatus.ACTIVE, () -> {
+            loads.incrementAndGet();
+            return TenantEntity.builder().id(UUID.randomUUID()).build();
+        });
+        tenantCache.get("shop", CommonStatus.INACTIVE, () -> {
+            loads.incrementAndGet();
+            return TenantEntity.builder().id(UUID.randomUUID()).build();
+        });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidateAfterCommit_WithoutTransaction_ShouldEvictAndBroadcast() {
+        AtomicInteger loads = new AtomicInteger();
+        tenantCache.get("default", CommonStatus.DEFAULT, () -> {
+            loads.incrementAndGet();
+            return TenantEntity.builder().id(UUID.randomUUID()).build();
+        });
+
+        tenantCache.invalidateAfterCommit();
+        tenantCache.get("default", CommonStatus.DEFAULT, () -> {
+            loads.incrementAndGet();
+            return TenantEntity.builder().id(UUID.randomUUID()).build();
+        });
+
+        assertEquals(2, loads.get());
+        verify(redisUtils).publish(TenantCache.CHANNEL, "*");
+    }
+
+    @Test
+    void get_InvalidatedWhileLoading_ShouldNotCacheTheStaleTenant() {
+        AtomicInteger loads = new AtomicInteger();
+        TenantEntity stale = TenantEntity.builder().id(UUID.randomUUID()).build();
+        TenantEntity fresh = TenantEntity.builder().id(UUID.randomUUID()).build();
+
+        // A peer's invalidation lands after the stale row was read but before it is cached
+        TenantEntity first = tenantCache.get("shop", CommonStatus.ACTIVE, () -> {
+            loads.incrementAndGet();
+            tenantCache.onMessage(new DefaultMessage(TenantCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    "*".getBytes(StandardCharsets.UTF_8)), null);
+            return stale;
+        });
+        TenantEntity second = tenantCache.get("shop", CommonStatus.ACTIVE, () -> {
+            loads.incrementAndGet();
+            return fresh;
+        });
+
+        assertSame(stale, first);
+        assertSame(fresh, second);
+        assertEquals(2, loads.get());
+    }
+}
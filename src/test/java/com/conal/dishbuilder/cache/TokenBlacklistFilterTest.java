@@ -0,0 +1,117 @@
+package com.conal.dishbuilder.cache;
+
+import com.conal.dishbuilder.util.RedisUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBlacklistFilterTest {
+
+    @Mock
+    private RedisUtils redisUtils;
+
+    // Stands in for the blacklist keys in Redis
+    private final Set<String> redisKeys = ConcurrentHashMap.newKeySet();
+
+    private TokenBlacklistFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new TokenBlacklistFilter(redisUtils, new SimpleMeterRegistry(), 100_000, 0.001, Duration.ofSeconds(30));
+        // SCAN sees the keys present when it started; keys written later may already be behind the cursor
+        lenient().doAnswer(invocation -> {
+            Consumer<String> consumer = invocation.getArgument(1);
+            List.copyOf(redisKeys).forEach(consumer);
+            return null;
+        }).when(redisUtils).scan(anyString(), any());
+    }
+
+    @Test
+    void mightContain_BeforeFirstResync_ShouldFallThroughToRedis() {
+        assertTrue(filter.mightContain("ACCESS:unknown"));
+    }
+
+    @Test
+    void resync_ShouldLoadEntriesFromRedis() {
+        redisKeys.add("dish-builder::" + TokenBlacklistFilter.KEY_MARKER + "ACCESS:revoked");
+
+        filter.resync();
+
+        assertTrue(filter.mightContain("ACCESS:revoked"));
+        assertFalse(filter.mightContain("ACCESS:valid"));
+    }
+
+    @Test
+    void resync_WhenScanFails_ShouldKeepCurrentFilter() {
+        filter.resync();
+        filter.addAndBroadcast("ACCESS:revoked");
+        doThrow(new IllegalStateException("connection lost")).when(redisUtils).scan(anyString(), any());
+
+        filter.resync();
+
+        assertTrue(filter.mightContain("ACCESS:revoked"));
+    }
+
+    @Test
+    void resync_PastTimeout_ShouldBeAbandonedAndKeepCurrentFilter() {
+        filter = new TokenBlacklistFilter(redisUtils, new SimpleMeterRegistry(), 100_000, 0.001, Duration.ZERO);
+        filter.resync();
+        filter.addAndBroadcast("ACCESS:revoked");
+        redisKeys.add("dish-builder::" + TokenBlacklistFilter.KEY_MARKER + "ACCESS:late");
+
+        filter.resync();
+
+        assertTrue(filter.mightContain("ACCESS:revoked"));
+        assertFalse(filter.mightContain("ACCESS:late"));
+    }
+
+    @Test
+    void addAndBroadcast_ConcurrentWithResync_ShouldNeverLoseAnEntry() throws Exception {
+        filter.resync();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<String> added = new ArrayList<>();
+
+        Thread resyncer = new Thread(() -> {
+            while (writing.get()) {
+                filter.resync();
+            }
+        });
+        resyncer.start();
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                String fingerprint = "ACCESS:" + i;
+                redisKeys.add("dish-builder::" + TokenBlacklistFilter.KEY_MARKER + fingerprint);
+                filter.addAndBroadcast(fingerprint);
+                added.add(fingerprint);
+                // Every entry must be visible as soon as it was added, whichever filter is current
+                assertTrue(filter.mightContain(fingerprint), fingerprint);
+            }
+        } finally {
+            writing.set(false);
+            resyncer.join();
+        }
+
+        for (String fingerprint : added) {
+            assertTrue(filter.mightContain(fingerprint), fingerprint);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.conal.dishbuilder.config;
+
+import com.conal.dishbuilder.cache.UserStatusCache;
+import com.conal.dishbuilder.config.security.RoleAuthorities;
+import com.conal.dishbuilder.constant.TokenType;
+import com.conal.dishbuilder.domain.TenantEntity;
+import com.conal.dishbuilder.service.TenantService;
+import com.conal.dishbuilder.util.JwtUtils;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtRequestFilterTest {
+    private static final String TOKEN = "access-token";
+
+    @Mock
+    private JwtUtils jwtUtils;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private TenantService tenantService;
+
+    @Mock
+    private UserStatusCache userStatusCache;
+
+    @Mock
+    private Claims claims;
+
+    private JwtRequestFilter filter;
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        filter = new JwtRequestFilter(jwtUtils, userDetailsService, tenantService, userStatusCache);
+        ReflectionTestUtils.setField(filter, "statelessAuth", true);
+        when(tenantService.findDefaultTenant()).thenReturn(TenantEntity.builder().id(UUID.randomUUID()).build());
+        when(jwtUtils.parse(TOKEN)).thenReturn(claims);
+        when(claims.getSubject()).thenReturn("alice");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_Stateless_ShouldGrantRoleAuthoritiesFromClaims() throws Exception {
+        // Given
+        when(jwtUtils.getUserId(TOKEN)).thenReturn(userId);
+        when(userStatusCache.isActive(userId)).thenReturn(true);
+        when(jwtUtils.getRoles(TOKEN)).thenReturn(List.of("SUPER_ADMIN", "ADMIN"));
+        when(jwtUtils.validateToken(TOKEN)).thenReturn(true);
+        when(jwtUtils.existsTokenInBlacklist(TOKEN, TokenType.ACCESS)).thenReturn(false);
+
+        // When
+        Authentication authentication = authenticate();
+
+        // Then
+        assertNotNull(authentication);
+        assertEquals("alice", authentication.getName());
+        assertEquals(Set.of("ROLE_SUPER_ADMIN", "ROLE_ADMIN"), authorities(authentication));
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void doFilter_StatelessAndDatabase_ShouldGrantSameAuthorities() throws Exception {
+        // Given
+        when(jwtUtils.getUserId(TOKEN)).thenReturn(userId);
+        when(userStatusCache.isActive(userId)).thenReturn(true);
+        when(jwtUtils.getRoles(TOKEN)).thenReturn(List.of("ADMIN"));
+        when(jwtUtils.validateToken(TOKEN)).thenReturn(true);
+        Set<String> stateless = authorities(authenticate());
+        SecurityContextHolder.clearContext();
+
+        ReflectionTestUtils.setField(filter, "statelessAuth", false);
+        when(userDetailsService.loadUserByUsername("alice")).thenReturn(User.withUsername("alice")
+                .password("")
+                .authorities(RoleAuthorities.of(List.of("ADMIN")))
+                .build());
+
+        // When
+        Set<String> database = authorities(authenticate());
+
+        // Then
+        assertEquals(Set.of("ROLE_ADMIN"), stateless);
+        assertEquals(stateless, database);
+    }
+
+    @Test
+    void doFilter_Stateless_WithoutRoles_ShouldAuthenticateWithoutAuthorities() throws Exception {
+        // Given
+        when(jwtUtils.getUserId(TOKEN)).thenReturn(userId);
+        when(userStatusCache.isActive(userId)).thenReturn(true);
+        when(jwtUtils.getRoles(TOKEN)).thenReturn(List.of());
+        when(jwtUtils.validateToken(TOKEN)).thenReturn(true);
+
+        // When
+        Authentication authentication = authenticate();
+
+        // Then
+        assertNotNull(authentication);
+        assertTrue(authentication.getAuthorities().isEmpty());
+    }
+
+    @Test
+    void doFilter_Stateless_InactiveUser_ShouldNotAuthenticate() throws Exception {
+        // Given
+        when(jwtUtils.getUserId(TOKEN)).thenReturn(userId);
+        when(userStatusCache.isActive(userId)).thenReturn(false);
+
+        // When & Then
+        assertNull(authenticate());
+        verify(jwtUtils, never()).getRoles(anyString());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void doFilter_Stateless_BlacklistedToken_ShouldNotAuthenticate() throws Exception {
+        // Given
+        when(jwtUtils.getUserId(TOKEN)).thenReturn(userId);
+        when(userStatusCache.isActive(userId)).thenReturn(true);
+        when(jwtUtils.getRoles(TOKEN)).thenReturn(List.of("ADMIN"));
+        when(jwtUtils.validateToken(TOKEN)).thenReturn(true);
+        when(jwtUtils.existsTokenInBlacklist(TOKEN, TokenType.ACCESS)).thenReturn(true);
+
+        // When & Then
+        assertNull(authenticate());
+    }
+
+    @Test
+    void doFilter_Stateless_TokenWithoutUserId_ShouldFallBackToDatabase() throws Exception {
+        // Given
+        when(jwtUtils.getUserId(TOKEN)).thenReturn(null);
+        when(jwtUtils.validateToken(TOKEN)).thenReturn(true);
+        when(userDetailsService.loadUserByUsername("alice")).thenReturn(User.withUsername("alice")
+                .password("")
+                .authorities("ROLE_ADMIN")
+                .build());
+
+        // When
+        Authentication authentication = authenticate();
+
+        // Then
+        assertEquals(Set.of("ROLE_ADMIN"), authorities(authentication));
+        verifyNoInteractions(userStatusCache);
+    }
+
+    private Authentication authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1.0/dish");
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        AtomicReference<Authentication> authentication = new AtomicReference<>();
+        FilterChain chain = (req, res) -> authentication.set(SecurityContextHolder.getContext().getAuthentication());
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return authentication.get();
+    }
+
+    private static Set<String> authorities(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+    }
+}
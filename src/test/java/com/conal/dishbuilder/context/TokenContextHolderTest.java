@@ -0,0 +1,70 @@
+package com.conal.dishbuilder.context;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenContextHolderTest {
+
+    @AfterEach
+    void tearDown() {
+        TokenContextHolder.clearTokenContext();
+    }
+
+    @Test
+    void getClaims_SameToken_ShouldReturnStoredClaims() {
+        Claims claims = Jwts.claims();
+        TokenContextHolder.setTokenContext("token-a", claims);
+
+        assertSame(claims, TokenContextHolder.getClaims("token-a"));
+    }
+
+    @Test
+    void getClaims_OtherToken_ShouldReturnNull() {
+        TokenContextHolder.setTokenContext("token-a", Jwts.claims());
+
+        assertNull(TokenContextHolder.getClaims("token-b"));
+    }
+
+    @Test
+    void getClaims_WithoutContext_ShouldReturnNull() {
+        assertNull(TokenContextHolder.getClaims("token-a"));
+    }
+
+    @Test
+    void clearTokenContext_ShouldDropClaims() {
+        TokenContextHolder.setTokenContext("token-a", Jwts.claims());
+
+        TokenContextHolder.clearTokenContext();
+
+        assertNull(TokenContextHolder.getClaims("token-a"));
+    }
+
+    @Test
+    void setTokenContext_ShouldReplacePreviousToken() {
+        Claims second = Jwts.claims();
+        TokenContextHolder.setTokenContext("token-a", Jwts.claims());
+
+        TokenContextHolder.setTokenContext("token-b", second);
+
+        assertNull(TokenContextHolder.getClaims("token-a"));
+        assertSame(second, TokenContextHolder.getClaims("token-b"));
+    }
+
+    @Test
+    void getClaims_ShouldBeIsolatedPerThread() throws Exception {
+        TokenContextHolder.setTokenContext("token-a", Jwts.claims());
+        AtomicReference<Claims> seen = new AtomicReference<>(Jwts.claims());
+
+        Thread other = new Thread(() -> seen.set(TokenContextHolder.getClaims("token-a")));
+        other.start();
+        other.join();
+
+        assertNull(seen.get());
+    }
+}
@@ -1,11 +1,14 @@
 package com.conal.dishbuilder.controller;
 
+import com.conal.dishbuilder.cache.CatalogETag;
 import com.conal.dishbuilder.dto.CreateCategoryRequest;
 import com.conal.dishbuilder.dto.UpdateCategoryRequest;
 import com.conal.dishbuilder.dto.request.filter.CategoryFilterRequest;
 import com.conal.dishbuilder.dto.response.BaseResponse;
 import com.conal.dishbuilder.dto.response.CategoryResponse;
 import com.conal.dishbuilder.dto.response.PageResponse;
+import com.conal.dishbuilder.ratelimit.RateLimiter;
+import com.conal.dishbuilder.service.CatalogImportService;
 import com.conal.dishbuilder.service.CategoryService;
 import com.conal.dishbuilder.util.TestDataBuilder;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -39,6 +42,15 @@ class CategoryControllerTest {
     @MockitoBean
     private CategoryService categoryService;
 
+    @MockitoBean
+    private CatalogETag catalogETag;
+
+    @MockitoBean
+    private RateLimiter rateLimiter;
+
+    @MockitoBean
+    private CatalogImportService catalogImportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -1,11 +1,15 @@
 package com.conal.dishbuilder.controller;
 
+import com.conal.dishbuilder.cache.CatalogETag;
 import com.conal.dishbuilder.dto.CreateDishRequest;
+import com.conal.dishbuilder.dto.DishQuoteRequest;
 import com.conal.dishbuilder.dto.UpdateDishRequest;
 import com.conal.dishbuilder.dto.request.filter.DishFilterRequest;
 import com.conal.dishbuilder.dto.response.BaseResponse;
+import com.conal.dishbuilder.dto.response.DishQuoteResponse;
 import com.conal.dishbuilder.dto.response.DishResponse;
 import com.conal.dishbuilder.dto.response.PageResponse;
+import com.conal.dishbuilder.ratelimit.RateLimiter;
 import com.conal.dishbuilder.service.DishService;
 import com.conal.dishbuilder.util.TestDataBuilder;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,13 +20,17 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -40,6 +48,12 @@ class DishControllerTest {
     @MockitoBean
     private DishService dishService;
 
+    @MockitoBean
+    private CatalogETag catalogETag;
+
+    @MockitoBean
+    private RateLimiter rateLimiter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -211,6 +225,39 @@ class DishControllerTest {
                 .andExpect(jsonPath("$.data.totalPages").value(1));
     }
 
+    @Test
+    void getDishes_WithMatchingETag_ShouldReturnNotModifiedWithoutCallingService() throws Exception {
+        // Given
+        when(catalogETag.checkNotModified(any(WebRequest.class)))
+                .thenAnswer(invocation -> invocation.<WebRequest>getArgument(0).checkNotModified("\"tenant-7\""));
+
+        // When & Then
+        mockMvc.perform(get("/v1.0/dish/")
+                        .header("If-None-Match", "\"tenant-7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"tenant-7\""))
+                .andExpect(content().string(""));
+
+        verify(dishService, never()).getDishes(any(DishFilterRequest.class));
+    }
+
+    @Test
+    void getDishes_WithStaleETag_ShouldReturnBodyAndCurrentETag() throws Exception {
+        // Given
+        when(catalogETag.checkNotModified(any(WebRequest.class)))
+                .thenAnswer(invocation -> invocation.<WebRequest>getArgument(0).checkNotModified("\"tenant-8\""));
+        when(dishService.getDishes(any(DishFilterRequest.class)))
+                .thenReturn(PageResponse.<DishResponse>builder().data(Arrays.asList(dishResponse)).build());
+
+        // When & Then
+        mockMvc.perform(get("/v1.0/dish/")
+                        .header("If-None-Match", "\"tenant-7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"tenant-8\""))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(jsonPath("$.data.data[0].id").value(dishId.toString()));
+    }
+
     @Test
     void getDishes_WithFilters() throws Exception {
         // Given
@@ -394,4 +441,40 @@ class DishControllerTest {
                 .andExpect(jsonPath("$.data.data").isEmpty())
                 .andExpect(jsonPath("$.data.totalElements").value(0));
     }
+
+    @Test
+    void quote_Success() throws Exception {
+        // Given
+        DishQuoteRequest request = new DishQuoteRequest();
+        request.setIngredientIds(Arrays.asList(ingredientId1, ingredientId2));
+        request.setVat(new BigDecimal("8"));
+        when(dishService.quote(any(DishQuoteRequest.class))).thenReturn(DishQuoteResponse.builder()
+                .setSubtotal(new BigDecimal("12.50"))
+                .setVat(new BigDecimal("8"))
+                .setTotalPrice(new BigDecimal("13.50"))
+                .build());
+
+        // When & Then
+        mockMvc.perform(post("/v1.0/dish/quote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.subtotal").value(12.50))
+                .andExpect(jsonPath("$.data.totalPrice").value(13.50));
+    }
+
+    @Test
+    void quote_NoIngredients_ShouldBeBadRequest() throws Exception {
+        // Given
+        DishQuoteRequest request = new DishQuoteRequest();
+        request.setIngredientIds(Collections.emptyList());
+
+        // When & Then
+        mockMvc.perform(post("/v1.0/dish/quote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+        verify(dishService, never()).quote(any());
+    }
 }
@@ -1,11 +1,14 @@
 package com.conal.dishbuilder.controller;
 
+import com.conal.dishbuilder.cache.CatalogETag;
 import com.conal.dishbuilder.dto.CreateIngredientsRequest;
 import com.conal.dishbuilder.dto.UpdateIngredientsRequest;
 import com.conal.dishbuilder.dto.request.filter.IngredientsFilterRequest;
 import com.conal.dishbuilder.dto.response.BaseResponse;
 import com.conal.dishbuilder.dto.response.IngredientsResponse;
 import com.conal.dishbuilder.dto.response.PageResponse;
+import com.conal.dishbuilder.ratelimit.RateLimiter;
+import com.conal.dishbuilder.service.CatalogImportService;
 import com.conal.dishbuilder.service.IngredientsService;
 import com.conal.dishbuilder.util.TestDataBuilder;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -40,6 +43,15 @@ class IngredientsControllerTest {
     @MockitoBean
     private IngredientsService ingredientsService;
 
+    @MockitoBean
+    private CatalogETag catalogETag;
+
+    @MockitoBean
+    private RateLimiter rateLimiter;
+
+    @MockitoBean
+    private CatalogImportService catalogImportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -244,6 +256,18 @@ class IngredientsControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void updateIngredients_FractionOfACent_ShouldBeBadRequest() throws Exception {
+        // Given
+        updateRequest.setPrice(new BigDecimal("12.345"));
+
+        // When & Then
+        mockMvc.perform(put("/v1.0/ingredients/{id}", ingredientId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void deleteIngredients_Success() throws Exception {
         // Given
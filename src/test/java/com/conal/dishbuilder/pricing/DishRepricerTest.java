@@ -0,0 +1,107 @@
+package com.conal.dishbuilder.pricing;
+
+import com.conal.dishbuilder.cache.CatalogVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DishRepricerTest {
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    private final UUID ingredientId = UUID.randomUUID();
+    private final UUID tenantId = UUID.randomUUID();
+    private InMemoryStore store;
+    private SimpleMeterRegistry meterRegistry;
+    private DishRepricer repricer;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryStore();
+        meterRegistry = new SimpleMeterRegistry();
+        repricer = new DishRepricer(store, catalogVersion, meterRegistry, 4, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repricer.shutdown();
+    }
+
+    @Test
+    void reprice_ShouldRecomputeEveryAffectedDishInBatches() {
+        List<UUID> dishIds = IntStream.range(0, 1_050).mapToObj(i -> UUID.randomUUID()).toList();
+        dishIds.forEach(id -> store.inputs.put(id, new DishPriceStore.Inputs(id, new BigDecimal("20"), new BigDecimal("10"), null)));
+        store.affected = dishIds;
+
+        int changed = repricer.reprice(ingredientId, tenantId);
+
+        assertEquals(1_050, changed);
+        assertEquals(1_050, store.totals.size());
+        assertTrue(store.totals.values().stream().allMatch(total -> total.equals(new BigDecimal("18.00"))));
+        assertTrue(store.batchSizes.stream().allMatch(size -> size <= 100));
+        assertEquals(1_050.0, meterRegistry.counter("dish.pricing.repriced").count());
+    }
+
+    @Test
+    void reprice_NoAffectedDishes_ShouldNotLoadAnything() {
+        store.affected = List.of();
+
+        assertEquals(0, repricer.reprice(ingredientId, tenantId));
+        assertTrue(store.batchSizes.isEmpty());
+    }
+
+    @Test
+    void repriceAfterCommit_ShouldBumpCatalogVersionWhenTotalsChanged() {
+        UUID dishId = UUID.randomUUID();
+        store.inputs.put(dishId, new DishPriceStore.Inputs(dishId, new BigDecimal("3"), null, null));
+        store.affected = List.of(dishId);
+
+        repricer.repriceAfterCommit(ingredientId, tenantId);
+
+        verify(catalogVersion, timeout(5_000)).bumpAfterCommit(tenantId);
+        assertEquals(new BigDecimal("3.00"), store.totals.get(dishId));
+    }
+
+    private static final class InMemoryStore implements DishPriceStore {
+        private final Map<UUID, Inputs> inputs = new ConcurrentHashMap<>();
+        private final Map<UUID, BigDecimal> totals = new ConcurrentHashMap<>();
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private List<UUID> affected = List.of();
+
+        @Override
+        public List<UUID> findDishIdsByIngredient(UUID ingredientId, UUID tenantId) {
+            return affected;
+        }
+
+        @Override
+        public List<Inputs> loadInputs(List<UUID> dishIds) {
+            synchronized (batchSizes) {
+                batchSizes.add(dishIds.size());
+            }
+            return dishIds.stream().map(inputs::get).toList();
+        }
+
+        @Override
+        public int updateTotals(List<Repriced> dishes) {
+            dishes.forEach(dish -> totals.put(dish.inputs().dishId(), dish.totalPrice()));
+            return dishes.size();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.conal.dishbuilder.pricing;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IngredientPriceTableTest {
+
+    @Test
+    void priceOf_ShouldReturnMinorUnitsOrMissing() {
+        UUID tomato = UUID.randomUUID();
+        UUID basil = UUID.randomUUID();
+        IngredientPriceTable table = IngredientPriceTable.of(Map.of(tomato, new BigDecimal("12.5"), basil, new BigDecimal("0.99")));
+
+        assertEquals(1250L, table.priceOf(tomato));
+        assertEquals(99L, table.priceOf(basil));
+        assertEquals(IngredientPriceTable.MISSING, table.priceOf(UUID.randomUUID()));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    void priceOf_ManyEntries_ShouldResolveEveryIdIncludingCollidingOnes() {
+        Map<UUID, BigDecimal> prices = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            // Sequential, time-based-like ids stress the hash mixing and probing
+            prices.put(new UUID(0x1000L + i, 42L), BigDecimal.valueOf(i, 2));
+        }
+        IngredientPriceTable table = IngredientPriceTable.of(prices);
+
+        prices.forEach((id, price) -> assertEquals(IngredientPriceTable.toMinor(price), table.priceOf(id)));
+        assertEquals(IngredientPriceTable.MISSING, table.priceOf(new UUID(0x1000L + 10_000, 42L)));
+    }
+
+    @Test
+    void of_Empty_ShouldFindNothing() {
+        assertEquals(IngredientPriceTable.MISSING, IngredientPriceTable.of(Map.of()).priceOf(UUID.randomUUID()));
+    }
+
+    @Test
+    void toMinor_ShouldConvertCentsAndTreatMissingAsZero() {
+        assertEquals(1235L, IngredientPriceTable.toMinor(new BigDecimal("12.35")));
+        assertEquals(1230L, IngredientPriceTable.toMinor(new BigDecimal("12.3")));
+        assertEquals(0L, IngredientPriceTable.toMinor(null));
+        assertEquals(new BigDecimal("12.35"), IngredientPriceTable.fromMinor(1235L));
+    }
+
+    @Test
+    void toMinor_FractionOfACent_ShouldBeRejectedRatherThanRounded() {
+        assertThrows(ArithmeticException.class, () -> IngredientPriceTable.toMinor(new BigDecimal("12.345")));
+    }
+}
@@ -0,0 +1,78 @@
+package com.conal.dishbuilder.pricing;
+
+import com.conal.dishbuilder.cache.CatalogVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IngredientPriceTablesTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    private final UUID tenantId = UUID.randomUUID();
+    private final UUID ingredientId = UUID.randomUUID();
+    private IngredientPriceTables tables;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        tables = new IngredientPriceTables(jdbcTemplate, catalogVersion, new SimpleMeterRegistry(), 100, Duration.ofHours(1));
+        ResultSet row = mock(ResultSet.class);
+        when(row.getObject("id", UUID.class)).thenReturn(ingredientId);
+        when(row.getBigDecimal("price")).thenReturn(new BigDecimal("4.20"));
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(row);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(tenantId));
+    }
+
+    @Test
+    void get_SameCatalogVersion_ShouldLoadOnce() {
+        when(catalogVersion.current(tenantId)).thenReturn(3L);
+
+        IngredientPriceTable first = tables.get(tenantId);
+        IngredientPriceTable second = tables.get(tenantId);
+
+        assertSame(first, second);
+        assertEquals(420L, first.priceOf(ingredientId));
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowCallbackHandler.class), eq(tenantId));
+    }
+
+    @Test
+    void get_CatalogVersionBumped_ShouldReload() {
+        when(catalogVersion.current(tenantId)).thenReturn(3L, 4L);
+
+        IngredientPriceTable first = tables.get(tenantId);
+        IngredientPriceTable second = tables.get(tenantId);
+
+        assertNotSame(first, second);
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowCallbackHandler.class), eq(tenantId));
+    }
+
+    @Test
+    void get_VersionUnknown_ShouldReuseRecentTable() {
+        when(catalogVersion.current(tenantId)).thenReturn(CatalogVersion.UNKNOWN);
+
+        assertSame(tables.get(tenantId), tables.get(tenantId));
+    }
+}
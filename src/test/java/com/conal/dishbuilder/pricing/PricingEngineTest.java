@@ -0,0 +1,45 @@
+package com.conal.dishbuilder.pricing;
+
+import com.conal.dishbuilder.domain.IngredientsEntity;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PricingEngineTest {
+
+    @Test
+    void total_ShouldApplyDiscountThenVatAsPercentages() {
+        assertEquals(new BigDecimal("99.00"), PricingEngine.total(new BigDecimal("100"), new BigDecimal("10"), new BigDecimal("10")));
+    }
+
+    @Test
+    void total_MissingDiscountAndVat_ShouldBeSubtotal() {
+        assertEquals(new BigDecimal("12.50"), PricingEngine.total(new BigDecimal("12.5"), null, null));
+        assertEquals(new BigDecimal("0.00"), PricingEngine.total((BigDecimal) null, null, null));
+    }
+
+    @Test
+    void total_DiscountAbove100Percent_ShouldNotGoNegative() {
+        assertEquals(new BigDecimal("0.00"), PricingEngine.total(new BigDecimal("40"), new BigDecimal("150"), new BigDecimal("8")));
+    }
+
+    @Test
+    void total_ShouldRoundHalfUpToCents() {
+        // 0.05 x 1.1 = 0.055
+        assertEquals(new BigDecimal("0.06"), PricingEngine.total(new BigDecimal("0.05"), null, new BigDecimal("10")));
+    }
+
+    @Test
+    void total_FromIngredients_ShouldSumPricesSkippingMissingOnes() {
+        List<IngredientsEntity> ingredients = List.of(
+                IngredientsEntity.builder().price(new BigDecimal("5.00")).build(),
+                IngredientsEntity.builder().build(),
+                IngredientsEntity.builder().price(new BigDecimal("7.50")).build());
+
+        assertEquals(new BigDecimal("12.50"), PricingEngine.subtotal(ingredients));
+        assertEquals(new BigDecimal("13.50"), PricingEngine.total(ingredients, null, new BigDecimal("8")));
+    }
+}
@@ -0,0 +1,157 @@
+package com.conal.dishbuilder.ratelimit;
+
+import com.conal.dishbuilder.constant.ErrorType;
+import com.conal.dishbuilder.util.RedisUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the sliding-window script against a real Redis, including a burst of concurrent callers
+ * racing for the same key.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RateLimiterTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private MockEnvironment environment;
+    private RateLimiter rateLimiter;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment();
+        rateLimiter = new RateLimiter(new RedisUtils(redisTemplate), environment);
+    }
+
+    @Test
+    void tryAcquire_ConcurrentCallers_ShouldNeverAdmitMoreThanLimit() throws Exception {
+        String key = RateLimiter.key(UUID.randomUUID(), "LOGIN", "ip:127.0.0.1");
+        RateLimitPolicy policy = RateLimitPolicy.of(5, Duration.ofMinutes(1));
+        int callers = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    if (rateLimiter.tryAcquire(key, policy).allowed()) {
+                        admitted.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(5, admitted.get());
+        assertEquals(5L, redisTemplate.opsForZSet().zCard(key));
+    }
+
+    @Test
+    void tryAcquire_LimitReached_ShouldRejectWithRetryAfterAndExpireKey() {
+        String key = RateLimiter.key(UUID.randomUUID(), "LOGIN", "ip:127.0.0.1");
+        RateLimitPolicy policy = RateLimitPolicy.of(2, Duration.ofMinutes(1));
+
+        assertTrue(rateLimiter.tryAcquire(key, policy).allowed());
+        assertTrue(rateLimiter.tryAcquire(key, policy).allowed());
+        RateLimitDecision decision = rateLimiter.tryAcquire(key, policy);
+
+        assertFalse(decision.allowed());
+        assertEquals(ErrorType.TOO_MANY_RETRIES, decision.errorType());
+        assertTrue(decision.retryAfterMillis() > 0 && decision.retryAfterMillis() <= 60_000);
+        Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+        assertNotNull(ttl);
+        assertTrue(ttl > 0 && ttl <= 60_000);
+    }
+
+    @Test
+    void tryAcquire_WithinMinInterval_ShouldRejectAsTooFast() {
+        String key = RateLimiter.key(UUID.randomUUID(), "FORGOT_PASSWORD", "admin");
+        RateLimitPolicy policy = new RateLimitPolicy(5, Duration.ofHours(1), Duration.ofSeconds(30));
+
+        assertTrue(rateLimiter.tryAcquire(key, policy).allowed());
+        RateLimitDecision decision = rateLimiter.tryAcquire(key, policy);
+
+        assertFalse(decision.allowed());
+        assertEquals(ErrorType.TOO_FAST, decision.errorType());
+        assertEquals(1L, redisTemplate.opsForZSet().zCard(key));
+    }
+
+    @Test
+    void tryAcquire_WindowElapsed_ShouldAdmitAgain() throws InterruptedException {
+        String key = RateLimiter.key(UUID.randomUUID(), "LOGIN", "ip:127.0.0.1");
+        RateLimitPolicy policy = RateLimitPolicy.of(1, Duration.ofMillis(200));
+
+        assertTrue(rateLimiter.tryAcquire(key, policy).allowed());
+        assertFalse(rateLimiter.tryAcquire(key, policy).allowed());
+        Thread.sleep(250);
+
+        assertTrue(rateLimiter.tryAcquire(key, policy).allowed());
+    }
+
+    @Test
+    void tryAcquire_DifferentTenants_ShouldHaveSeparateBudgets() {
+        RateLimitPolicy policy = RateLimitPolicy.of(1, Duration.ofMinutes(1));
+
+        assertTrue(rateLimiter.tryAcquire(RateLimiter.key(UUID.randomUUID(), "LOGIN", "all"), policy).allowed());
+        assertTrue(rateLimiter.tryAcquire(RateLimiter.key(UUID.randomUUID(), "LOGIN", "all"), policy).allowed());
+    }
+
+    @Test
+    void policy_ShouldPreferConfiguredValuesOverDefaults() {
+        environment.setProperty("dish-builder.rate-limit.forgot-password.limit", "3");
+        environment.setProperty("dish-builder.rate-limit.forgot-password.window", "PT10M");
+
+        RateLimitPolicy policy = rateLimiter.policy("FORGOT_PASSWORD",
+                new RateLimitPolicy(5, Duration.ofHours(1), Duration.ofSeconds(30)));
+
+        assertEquals(3, policy.limit());
+        assertEquals(Duration.ofMinutes(10), policy.window());
+        assertEquals(Duration.ofSeconds(30), policy.minInterval());
+    }
+}
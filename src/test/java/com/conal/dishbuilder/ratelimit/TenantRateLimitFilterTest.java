@@ -0,0 +1,223 @@
+package com.conal.dishbuilder.ratelimit;
+
+import com.conal.dishbuilder.context.TenantContextHolder;
+import com.conal.dishbuilder.context.UserContextHolder;
+import com.conal.dishbuilder.util.RedisUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TenantRateLimitFilterTest {
+
+    @Mock
+    private RedisUtils redisUtils;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MockEnvironment environment;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        environment = new MockEnvironment()
+                .withProperty("dish-builder.rate-limit.tenant.read.rate", "0.001")
+                .withProperty("dish-builder.rate-limit.tenant.read.burst", "3")
+                .withProperty("dish-builder.rate-limit.user.read.rate", "0.001")
+                .withProperty("dish-builder.rate-limit.user.read.burst", "2");
+        tenantId = UUID.randomUUID();
+        TenantContextHolder.setTenantContext(tenantId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContextHolder.clearTenantContext();
+        UserContextHolder.clearUserContext();
+    }
+
+    @Test
+    void doFilter_UserOverBudget_ShouldRespond429WithRetryAfter() throws Exception {
+        TenantRateLimitFilter filter = filter(200);
+        UserContextHolder.setUserContext("admin");
+
+        assertEquals(200, call(filter, "GET", "/v1.0/dish").getStatus());
+        assertEquals(200, call(filter, "GET", "/v1.0/dish").getStatus());
+        MockHttpServletResponse limited = call(filter, "GET", "/v1.0/dish");
+
+        assertEquals(429, limited.getStatus());
+        assertNotNull(limited.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(limited.getContentAsString().contains("TOO_MANY_REQUESTS"));
+        assertEquals(1.0, meterRegistry.counter("http.ratelimit.requests", "class", "read", "result", "limited").count());
+    }
+
+    @Test
+    void doFilter_TenantOverBudget_ShouldLimitOtherUsersOfSameTenant() throws Exception {
+        TenantRateLimitFilter filter = filter(200);
+
+        UserContextHolder.setUserContext("alice");
+        call(filter, "GET", "/v1.0/dish");
+        call(filter, "GET", "/v1.0/dish");
+        UserContextHolder.setUserContext("bob");
+        assertEquals(200, call(filter, "GET", "/v1.0/dish").getStatus());
+
+        assertEquals(429, call(filter, "GET", "/v1.0/dish").getStatus());
+    }
+
+    @Test
+    void doFilter_OtherTenantAndClass_ShouldHaveSeparateBudgets() throws Exception {
+        TenantRateLimitFilter filter = filter(200);
+        UserContextHolder.setUserContext("admin");
+        call(filter, "GET", "/v1.0/dish");
+        call(filter, "GET", "/v1.0/dish");
+
+        assertEquals(200, call(filter, "POST", "/v1.0/dish").getStatus());
+        TenantContextHolder.setTenantContext(UUID.randomUUID());
+        assertEquals(200, call(filter, "GET", "/v1.0/dish").getStatus());
+    }
+
+    @Test
+    void doFilter_Quote_ShouldBeChargedToReadBudget() throws Exception {
+        TenantRateLimitFilter filter = filter(200);
+        UserContextHolder.setUserContext("admin");
+        call(filter, "GET", "/v1.0/dish");
+        call(filter, "GET", "/v1.0/dish");
+
+        assertEquals(429, call(filter, "POST", "/v1.0/dish/quote").getStatus());
+        assertEquals(200, call(filter, "POST", "/v1.0/dish").getStatus());
+    }
+
+    @Test
+    void doFilter_OverloadedNode_ShouldShedWritesBeforeAuth() throws Exception {
+        TenantRateLimitFilter filter = filter(1);
+        FilterChain reentrant = (request, response) -> {
+            MockHttpServletResponse write = call(filter, "POST", "/v1.0/dish");
+            MockHttpServletResponse auth = call(filter, "POST", "/v1.0/auth/login");
+            assertEquals(503, write.getStatus());
+            assertEquals("1", write.getHeader(HttpHeaders.RETRY_AFTER));
+            assertEquals(503, auth.getStatus());
+        };
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("POST", "/v1.0/auth/login"), response, reentrant);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(2.0, meterRegistry.find("http.ratelimit.requests").tag("result", "shed").counters().stream()
+                .mapToDouble(counter -> counter.count()).sum());
+    }
+
+    @Test
+    void reconcile_ShouldChargeConsumptionOfOtherNodes() throws Exception {
+        TenantRateLimitFilter filter = filter(200);
+        String usageKey = "ratelimit:usage:" + tenantId + ":read";
+        UserContextHolder.setUserContext("alice");
+        call(filter, "GET", "/v1.0/dish");
+
+        RedisUtils.Batch increments = mock(RedisUtils.Batch.class);
+        RedisUtils.Batch expiries = mock(RedisUtils.Batch.class);
+        when(redisUtils.batch()).thenReturn(increments, expiries);
+        when(increments.execute()).thenReturn(List.of(1L));
+        filter.reconcile();
+        verify(increments).increment(usageKey, 1L);
+        verify(expiries).expire(eq(usageKey), eq(5L), eq(TimeUnit.MINUTES));
+
+        // Another node took two tokens of this tenant meanwhile
+        when(redisUtils.batch()).thenReturn(increments, expiries);
+        when(increments.execute()).thenReturn(List.of(3L));
+        filter.reconcile();
+
+        UserContextHolder.setUserContext("bob");
+        assertEquals(429, call(filter, "GET", "/v1.0/dish").getStatus());
+    }
+
+    @Test
+    void reconcile_ManyTenants_ShouldUseOnePipelinedRoundTrip() throws Exception {
+        TenantRateLimitFilter filter = filter(200);
+        UserContextHolder.setUserContext("alice");
+        for (int i = 0; i < 3; i++) {
+            TenantContextHolder.setTenantContext(UUID.randomUUID());
+            call(filter, "GET", "/v1.0/dish");
+        }
+
+        RedisUtils.Batch increments = mock(RedisUtils.Batch.class);
+        RedisUtils.Batch expiries = mock(RedisUtils.Batch.class);
+        when(redisUtils.batch()).thenReturn(increments, expiries);
+        when(increments.execute()).thenReturn(List.of(1L, 1L, 1L));
+        filter.reconcile();
+
+        verify(increments, times(3)).increment(anyString(), eq(1L));
+        verify(increments).execute();
+        verify(expiries, times(3)).expire(anyString(), eq(5L), eq(TimeUnit.MINUTES));
+        verify(expiries).execute();
+        verify(redisUtils, never()).increment(anyString(), anyLong());
+    }
+
+    @Test
+    void reconcile_RedisDown_ShouldKeepServingFromLocalBuckets() throws Exception {
+        TenantRateLimitFilter filter = filter(200);
+        UserContextHolder.setUserContext("alice");
+        call(filter, "GET", "/v1.0/dish");
+
+        RedisUtils.Batch increments = mock(RedisUtils.Batch.class);
+        when(redisUtils.batch()).thenReturn(increments);
+        when(increments.execute()).thenThrow(new IllegalStateException("connection refused"));
+
+        assertDoesNotThrow(filter::reconcile);
+        assertEquals(200, call(filter, "GET", "/v1.0/dish").getStatus());
+    }
+
+    @Test
+    void doFilter_Actuator_ShouldNotBeLimited() throws Exception {
+        TenantRateLimitFilter filter = filter(200);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, call(filter, "GET", "/actuator/health").getStatus());
+        }
+    }
+
+    private TenantRateLimitFilter filter(int maxInFlight) {
+        return new TenantRateLimitFilter(redisUtils, new ObjectMapper(), meterRegistry, environment, true, maxInFlight,
+                Duration.ofSeconds(1));
+    }
+
+    private static MockHttpServletResponse call(TenantRateLimitFilter filter, String method, String uri) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request(method, uri), response, new MockFilterChain());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+}
@@ -0,0 +1,66 @@
+package com.conal.dishbuilder.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void tryConsume_ShouldAllowBurstThenReportWait() {
+        TokenBucket bucket = new TokenBucket(2, 3, clock::get);
+
+        assertEquals(0, bucket.tryConsume());
+        assertEquals(0, bucket.tryConsume());
+        assertEquals(0, bucket.tryConsume());
+        long wait = bucket.tryConsume();
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), (double) wait, 1d);
+    }
+
+    @Test
+    void tryConsume_ShouldRefillOverTimeUpToBurst() {
+        TokenBucket bucket = new TokenBucket(10, 2, clock::get);
+        bucket.tryConsume();
+        bucket.tryConsume();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertEquals(0, bucket.tryConsume());
+        assertEquals(0, bucket.tryConsume());
+        assertTrue(bucket.tryConsume() > 0);
+    }
+
+    @Test
+    void debit_ShouldChargeTokensConsumedElsewhere() {
+        TokenBucket bucket = new TokenBucket(1, 5, clock::get);
+
+        bucket.debit(5);
+
+        assertEquals(TimeUnit.SECONDS.toNanos(1), (double) bucket.tryConsume(), 1d);
+    }
+
+    @Test
+    void debit_ShouldNotRunIntoMoreThanOneBurstOfDebt() {
+        TokenBucket bucket = new TokenBucket(1, 2, clock::get);
+
+        bucket.debit(1_000);
+
+        assertEquals(TimeUnit.SECONDS.toNanos(3), (double) bucket.tryConsume(), 1d);
+    }
+
+    @Test
+    void takeConsumed_ShouldReturnLocalConsumptionAndReset() {
+        TokenBucket bucket = new TokenBucket(1, 5, clock::get);
+        bucket.tryConsume();
+        bucket.tryConsume();
+
+        assertEquals(2, bucket.takeConsumed());
+        assertEquals(0, bucket.takeConsumed());
+    }
+}
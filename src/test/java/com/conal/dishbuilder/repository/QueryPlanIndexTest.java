@@ -0,0 +1,148 @@
+package com.conal.dishbuilder.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the Flyway migrations against a real PostgreSQL and checks that the SQL shapes the
+ * repositories emit are planned through an index. Sequential scans are disabled so an empty
+ * table still reports which index the planner would pick instead of falling back to a scan.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanIndexTest {
+
+    private static final String TENANT = "'7cccdad4-c562-402b-8dce-d64559a91500'";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrate() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .schemas("dish_builder_schema")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+            statement.execute("SET enable_seqscan = off");
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    static Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                Arguments.of("category listing",
+                        "select c.id from dish_builder_schema.category c where c.tenant_id = " + TENANT
+                                + " order by c.name, c.id limit 20",
+                        "idx_category_tenant_name_id"),
+                Arguments.of("category name search",
+                        "select c.id from dish_builder_schema.category c where lower(c.name) like '%sal%'",
+                        "trgm_category_name"),
+                Arguments.of("category description search",
+                        "select c.id from dish_builder_schema.category c where lower(c.description) like '%sal%'",
+                        "trgm_category_description"),
+                Arguments.of("category full-text search",
+                        "select c.id from dish_builder_schema.category c where c.search_vector @@ to_tsquery('simple', 'sal:*')",
+                        "fts_category_search_vector"),
+                Arguments.of("ingredients listing",
+                        "select i.id from dish_builder_schema.ingredients i where i.tenant_id = " + TENANT
+                                + " order by i.name, i.id limit 20",
+                        "idx_ingredients_tenant_name_id"),
+                Arguments.of("ingredients by category",
+                        "select i.id from dish_builder_schema.ingredients i where i.category_id = " + TENANT,
+                        "idx_ingredients_category_id"),
+                Arguments.of("ingredients name search",
+                        "select i.id from dish_builder_schema.ingredients i where lower(i.name) like '%tom%'",
+                        "trgm_ingredients_name"),
+                Arguments.of("ingredients full-text search",
+                        "select i.id from dish_builder_schema.ingredients i where i.search_vector @@ to_tsquery('simple', 'tom:*')",
+                        "fts_ingredients_search_vector"),
+                Arguments.of("dish listing",
+                        "select d.id from dish_builder_schema.dishes d where d.tenant_id = " + TENANT
+                                + " order by d.name, d.id limit 20",
+                        "idx_dishes_tenant_name_id"),
+                Arguments.of("dish keyset page",
+                        "select d.id from dish_builder_schema.dishes d where d.tenant_id = " + TENANT
+                                + " and (d.name, d.id) > ('Pho', " + TENANT + ") order by d.name, d.id limit 20",
+                        "idx_dishes_tenant_name_id"),
+                Arguments.of("dish name search",
+                        "select d.id from dish_builder_schema.dishes d where lower(d.name) like '%pho%'",
+                        "trgm_dishes_name"),
+                Arguments.of("dish full-text search",
+                        "select d.id from dish_builder_schema.dishes d where d.search_vector @@ to_tsquery('simple', 'pho:* & bo:*')",
+                        "fts_dishes_search_vector"),
+                Arguments.of("dishes by user",
+                        "select d.id from dish_builder_schema.dishes d where d.user_id = " + TENANT,
+                        "idx_dishes_user_id"),
+                Arguments.of("dishes by ingredient",
+                        "select di.dish_id from dish_builder_schema.dish_ingredients di where di.ingredient_id = " + TENANT,
+                        "idx_dish_ingredients_ingredient_dish"),
+                Arguments.of("ingredients of dish",
+                        "select di.ingredient_id from dish_builder_schema.dish_ingredients di where di.dish_id = " + TENANT,
+                        "idx_dish_ingredients_dish_ingredient"),
+                Arguments.of("tenant by sub domain",
+                        "select t.id from dish_builder_schema.tenant t where t.sub_domain = 'default' and t.status = 1",
+                        "idx_tenant_sub_domain_status"),
+                Arguments.of("tenant name search",
+                        "select t.id from dish_builder_schema.tenant t where lower(t.name) like '%def%'",
+                        "trgm_tenant_name"),
+                Arguments.of("user listing",
+                        "select u.id from dish_builder_schema.\"user\" u where u.tenant_id = " + TENANT
+                                + " order by u.username, u.id limit 20",
+                        "idx_user_tenant_username_id"),
+                Arguments.of("user email search",
+                        "select u.id from dish_builder_schema.\"user\" u where lower(u.email) like '%@dish%'",
+                        "trgm_user_email"),
+                Arguments.of("roles of user",
+                        "select ur.role_id from dish_builder_schema.user_role ur where ur.user_id = " + TENANT,
+                        "idx_user_role_user_id")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void queryPlan_ShouldUseIndex(String description, String sql, String expectedIndex) throws SQLException {
+        String plan = explain(sql);
+
+        assertTrue(plan.contains(expectedIndex),
+                () -> description + " should use " + expectedIndex + " but planned:\n" + plan);
+    }
+
+    private static String explain(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+}
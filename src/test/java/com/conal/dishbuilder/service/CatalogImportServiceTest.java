@@ -0,0 +1,225 @@
+package com.conal.dishbuilder.service;
+
+import com.conal.dishbuilder.cache.CatalogVersion;
+import com.conal.dishbuilder.cache.CountCache;
+import com.conal.dishbuilder.constant.ImportFormat;
+import com.conal.dishbuilder.context.TenantContextHolder;
+import com.conal.dishbuilder.dto.response.ImportResponse;
+import com.conal.dishbuilder.exception.BadRequestException;
+import com.conal.dishbuilder.service.impl.CatalogImportServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogImportServiceTest {
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private CountCache countCache;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    private CatalogImportServiceImpl catalogImportService;
+    private MockedStatic<TenantContextHolder> tenantContextHolderMock;
+    private UUID tenantId;
+    private UUID vegetablesId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        vegetablesId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("admin", null, List.of()));
+        lenient().when(jdbcTemplate.queryForList(contains("FROM dish_builder_schema.\"user\""), eq(UUID.class), eq("admin")))
+                .thenReturn(List.of(userId));
+        tenantContextHolderMock = mockStatic(TenantContextHolder.class);
+        tenantContextHolderMock.when(TenantContextHolder::getTenantContext).thenReturn(tenantId);
+        catalogImportService = new CatalogImportServiceImpl(jdbcTemplate, new ObjectMapper(), VALIDATOR,
+                countCache, catalogVersion, 2, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tenantContextHolderMock.close();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void importIngredients_Csv_ShouldInsertValidRowsInBatchesAndReportInvalidOnes() throws Exception {
+        stubExistingNames("ingredients", "Salt");
+        stubCategories();
+        String csv = """
+                name,description,price,category
+                Tomato,Fresh tomato,1.50,vegetables
+                Salt,Sea salt,0.20,Vegetables
+                Onion,Red onion,abc,Vegetables
+                Garlic,White garlic,0.80,Fruits
+                Carrot,Orange carrot,0.70,%s
+                Tomato,Duplicate in file,1.00,Vegetables
+                Potato,Yellow potato,0.90,Vegetables
+                """.formatted(vegetablesId);
+
+        ImportResponse response = catalogImportService.importIngredients(stream(csv), ImportFormat.CSV);
+
+        assertEquals(7, response.getTotalRows());
+        assertEquals(3, response.getImported());
+        assertEquals(4, response.getFailed());
+        assertEquals(List.of(2L, 3L, 4L, 6L), response.getErrors().stream().map(e -> e.getRow()).toList());
+        assertEquals("price", response.getErrors().get(1).getField());
+        assertEquals("categoryId", response.getErrors().get(2).getField());
+
+        // Batch size 2: one full batch mid-stream, one remainder at the end
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("INSERT INTO dish_builder_schema.ingredients"), anyList());
+        verify(countCache).evictAfterCommit(CountCache.INGREDIENTS, tenantId);
+        verify(catalogVersion).bumpAfterCommit(tenantId);
+    }
+
+    @Test
+    void importIngredients_Ndjson_ShouldResolveCategoryByNameAndReportMalformedLines() throws Exception {
+        stubExistingNames("ingredients");
+        stubCategories();
+        String ndjson = """
+                {"name":"Tomato","description":"Fresh tomato","price":1.5,"category":"Vegetables"}
+
+                {"name":"Onion",
+                {"name":"","description":"No name","price":2,"category":"Vegetables"}
+                """;
+
+        ImportResponse response = catalogImportService.importIngredients(stream(ndjson), ImportFormat.NDJSON);
+
+        assertEquals(3, response.getTotalRows());
+        assertEquals(1, response.getImported());
+        assertEquals(2L, response.getErrors().get(0).getRow());
+        assertTrue(response.getErrors().get(0).getMessage().startsWith("Malformed JSON"));
+        assertEquals(3L, response.getErrors().get(1).getRow());
+        assertEquals("name", response.getErrors().get(1).getField());
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO dish_builder_schema.ingredients"), anyList());
+    }
+
+    @Test
+    void importCategories_ShouldSkipExistingNamesAndWrongColumnCount() throws Exception {
+        stubExistingNames("category", "Vegetables");
+        String csv = """
+                name,description
+                Vegetables,Again
+                Fruits,Sweet things
+                Spices
+                """;
+
+        ImportResponse response = catalogImportService.importCategories(stream(csv), ImportFormat.CSV);
+
+        assertEquals(3, response.getTotalRows());
+        assertEquals(1, response.getImported());
+        assertEquals("Name already exists.", response.getErrors().get(0).getMessage());
+        assertEquals("Expected 2 columns but found 1", response.getErrors().get(1).getMessage());
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO dish_builder_schema.category"), anyList());
+        verify(countCache).evictAfterCommit(CountCache.CATEGORY, tenantId);
+    }
+
+    @Test
+    void importCategoriesAndIngredients_ShouldAttributeRowsToCurrentUser() throws Exception {
+        stubExistingNames("category");
+        stubExistingNames("ingredients");
+        stubCategories();
+        // The pending batch is cleared after each flush, so copy the rows as they are written
+        List<Object[]> categoryRows = new ArrayList<>();
+        List<Object[]> ingredientRows = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO dish_builder_schema.category"), anyList()))
+                .thenAnswer(invocation -> {
+                    categoryRows.addAll(invocation.getArgument(1));
+                    return new int[]{1};
+                });
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO dish_builder_schema.ingredients"), anyList()))
+                .thenAnswer(invocation -> {
+                    ingredientRows.addAll(invocation.getArgument(1));
+                    return new int[]{1};
+                });
+
+        catalogImportService.importCategories(stream("name,description\nFruits,Sweet things\n"), ImportFormat.CSV);
+        catalogImportService.importIngredients(stream("name,description,price,category\nTomato,Fresh,1.50,Vegetables\n"),
+                ImportFormat.CSV);
+
+        // created_by and updated_by sit right before created_at and updated_at
+        Object[] category = categoryRows.get(0);
+        assertEquals(userId, category[4]);
+        assertEquals(userId, category[6]);
+        Object[] ingredient = ingredientRows.get(0);
+        assertEquals(userId, ingredient[6]);
+        assertEquals(userId, ingredient[8]);
+    }
+
+    @Test
+    void importCategories_NothingValid_ShouldNotWriteOrInvalidate() throws Exception {
+        stubExistingNames("category");
+
+        ImportResponse response = catalogImportService.importCategories(stream("name,description\n,\n"), ImportFormat.CSV);
+
+        assertEquals(0, response.getImported());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verifyNoInteractions(countCache, catalogVersion);
+    }
+
+    @Test
+    void importCategories_OverRowLimit_ShouldReject() {
+        stubExistingNames("category");
+        StringBuilder csv = new StringBuilder("name,description\n");
+        for (int i = 0; i < 101; i++) {
+            csv.append("Category ").append(i).append(",Description\n");
+        }
+
+        assertThrows(BadRequestException.class,
+                () -> catalogImportService.importCategories(stream(csv.toString()), ImportFormat.CSV));
+    }
+
+    private void stubExistingNames(String table, String... names) {
+        when(jdbcTemplate.queryForList(contains("FROM dish_builder_schema." + table + " "), eq(String.class), eq(tenantId)))
+                .thenReturn(List.of(names));
+    }
+
+    private void stubCategories() {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getObject("id", UUID.class)).thenReturn(vegetablesId);
+            when(rs.getString("name")).thenReturn("Vegetables");
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT id, name FROM dish_builder_schema.category"),
+                any(RowCallbackHandler.class), eq(tenantId));
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,5 +1,7 @@
 package com.conal.dishbuilder.service;
 
+import com.conal.dishbuilder.cache.CatalogVersion;
+import com.conal.dishbuilder.cache.CountCache;
 import com.conal.dishbuilder.context.TenantContextHolder;
 import com.conal.dishbuilder.domain.CategoryEntity;
 import com.conal.dishbuilder.dto.CreateCategoryRequest;
@@ -53,6 +55,12 @@ class CategoryServiceTest {
     @Mock
     private CategoryQueryDslRepository categoryQueryDslRepository;
 
+    @Mock
+    private CountCache countCache;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
@@ -1,24 +1,34 @@
 package com.conal.dishbuilder.service;
 
+import com.conal.dishbuilder.cache.CatalogCache;
+import com.conal.dishbuilder.cache.CatalogVersion;
+import com.conal.dishbuilder.cache.CountCache;
 import com.conal.dishbuilder.context.TenantContextHolder;
 import com.conal.dishbuilder.domain.CategoryEntity;
 import com.conal.dishbuilder.domain.DishEntity;
 import com.conal.dishbuilder.domain.IngredientsEntity;
 import com.conal.dishbuilder.domain.UserEntity;
+import com.conal.dishbuilder.dto.BulkUpdateDishRequest;
 import com.conal.dishbuilder.dto.CreateDishRequest;
+import com.conal.dishbuilder.dto.DishQuoteRequest;
 import com.conal.dishbuilder.dto.UpdateDishRequest;
 import com.conal.dishbuilder.dto.request.filter.DishFilterRequest;
+import com.conal.dishbuilder.dto.response.BulkItemResponse;
+import com.conal.dishbuilder.dto.response.DishQuoteResponse;
 import com.conal.dishbuilder.dto.response.DishResponse;
 import com.conal.dishbuilder.dto.response.FieldErrorResponse;
 import com.conal.dishbuilder.dto.response.PageResponse;
+import com.conal.dishbuilder.exception.BadRequestException;
 import com.conal.dishbuilder.exception.MultipleFieldValidationException;
 import com.conal.dishbuilder.exception.NotFoundException;
 import com.conal.dishbuilder.mapper.DishMapper;
+import com.conal.dishbuilder.pricing.IngredientPriceTable;
+import com.conal.dishbuilder.pricing.IngredientPriceTables;
+import com.conal.dishbuilder.pricing.PricingEngine;
 import com.conal.dishbuilder.repository.DishRepository;
-import com.conal.dishbuilder.repository.IngredientsRepository;
-import com.conal.dishbuilder.repository.UserRepository;
 import com.conal.dishbuilder.repository.querydsl.DishQueryDslRepository;
 import com.conal.dishbuilder.service.impl.DishServiceImpl;
+import com.conal.dishbuilder.validator.DishValidationResult;
 import com.conal.dishbuilder.validator.DishValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,11 +41,15 @@ import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Collections;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -48,19 +62,25 @@ class DishServiceTest {
     private DishRepository dishRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private DishValidator dishValidator;
 
     @Mock
-    private IngredientsRepository ingredientsRepository;
+    private DishMapper dishMapper;
 
     @Mock
-    private DishValidator dishValidator;
+    private DishQueryDslRepository dishQueryDslRepository;
 
     @Mock
-    private DishMapper dishMapper;
+    private CountCache countCache;
 
     @Mock
-    private DishQueryDslRepository dishQueryDslRepository;
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private CatalogCache catalogCache;
+
+    @Mock
+    private IngredientPriceTables ingredientPriceTables;
 
     @InjectMocks
     private DishServiceImpl dishService;
@@ -174,10 +194,8 @@ class DishServiceTest {
         try (MockedStatic<TenantContextHolder> mockedStatic = mockStatic(TenantContextHolder.class)) {
             mockedStatic.when(TenantContextHolder::getTenantContext).thenReturn(tenantId);
             
-            when(dishValidator.validateCreateDish(createRequest)).thenReturn(Collections.emptyList());
-            when(userRepository.findById(userId)).thenReturn(Optional.of(userEntity));
-            when(ingredientsRepository.findAllById(createRequest.getIngredientIds()))
-                    .thenReturn(Arrays.asList(ingredientEntity1, ingredientEntity2));
+            when(dishValidator.validateCreateDish(createRequest)).thenReturn(
+                    new DishValidationResult(new ArrayList<>(), userEntity, Arrays.asList(ingredientEntity1, ingredientEntity2)));
             when(dishMapper.toEntity(createRequest)).thenReturn(dishEntity);
             when(dishRepository.save(any(DishEntity.class))).thenReturn(dishEntity);
             when(dishMapper.toResponse(dishEntity)).thenReturn(dishResponse);
@@ -194,11 +212,10 @@ class DishServiceTest {
             assertEquals(tenantId, result.getTenantId());
 
             verify(dishValidator).validateCreateDish(createRequest);
-            verify(userRepository).findById(userId);
-            verify(ingredientsRepository).findAllById(createRequest.getIngredientIds());
             verify(dishMapper).toEntity(createRequest);
             verify(dishRepository).save(any(DishEntity.class));
             verify(dishMapper).toResponse(dishEntity);
+            verify(catalogVersion).bumpAfterCommit(dishEntity.getTenantId());
         }
     }
 
@@ -215,7 +232,8 @@ class DishServiceTest {
                             .setMessage("Name already exists")
                             .build()
             );
-            when(dishValidator.validateCreateDish(createRequest)).thenReturn(validationErrors);
+            when(dishValidator.validateCreateDish(createRequest))
+                    .thenReturn(new DishValidationResult(validationErrors, null, null));
 
             // When & Then
             MultipleFieldValidationException exception = assertThrows(
@@ -226,55 +244,30 @@ class DishServiceTest {
             assertEquals(validationErrors, exception.getFieldErrors());
             verify(dishValidator).validateCreateDish(createRequest);
             verify(dishRepository, never()).save(any(DishEntity.class));
+            verify(catalogVersion, never()).bumpAfterCommit(any());
         }
     }
 
     @Test
-    void addDish_UserNotFound() {
+    void addDish_ShouldUseReferencesResolvedByValidator() {
         // Given
         try (MockedStatic<TenantContextHolder> mockedStatic = mockStatic(TenantContextHolder.class)) {
             mockedStatic.when(TenantContextHolder::getTenantContext).thenReturn(tenantId);
-            
-            when(dishValidator.validateCreateDish(createRequest)).thenReturn(Collections.emptyList());
-            when(dishMapper.toEntity(createRequest)).thenReturn(dishEntity);
-            when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
-            // When & Then
-            NotFoundException exception = assertThrows(
-                    NotFoundException.class,
-                    () -> dishService.addDish(createRequest)
-            );
-
-            assertEquals("User not found with id: " + userId, exception.getMessage());
-            verify(dishValidator).validateCreateDish(createRequest);
-            verify(userRepository).findById(userId);
-            verify(dishRepository, never()).save(any(DishEntity.class));
-        }
-    }
-
-    @Test
-    void addDish_IngredientsNotFound() {
-        // Given
-        try (MockedStatic<TenantContextHolder> mockedStatic = mockStatic(TenantContextHolder.class)) {
-            mockedStatic.when(TenantContextHolder::getTenantContext).thenReturn(tenantId);
-            
-            when(dishValidator.validateCreateDish(createRequest)).thenReturn(Collections.emptyList());
-            when(dishMapper.toEntity(createRequest)).thenReturn(dishEntity);
-            when(userRepository.findById(userId)).thenReturn(Optional.of(userEntity));
-            when(ingredientsRepository.findAllById(createRequest.getIngredientIds()))
-                    .thenReturn(Arrays.asList(ingredientEntity1)); // Only one ingredient found
+            DishEntity newEntity = DishEntity.builder().name("Test Dish").build();
+            when(dishValidator.validateCreateDish(createRequest)).thenReturn(
+                    new DishValidationResult(new ArrayList<>(), userEntity, List.of(ingredientEntity1, ingredientEntity2)));
+            when(dishMapper.toEntity(createRequest)).thenReturn(newEntity);
+            when(dishRepository.save(newEntity)).thenReturn(newEntity);
+            when(dishMapper.toResponse(newEntity)).thenReturn(dishResponse);
 
-            // When & Then
-            NotFoundException exception = assertThrows(
-                    NotFoundException.class,
-                    () -> dishService.addDish(createRequest)
-            );
+            // When
+            dishService.addDish(createRequest);
 
-            assertEquals("One or more ingredients not found", exception.getMessage());
-            verify(dishValidator).validateCreateDish(createRequest);
-            verify(userRepository).findById(userId);
-            verify(ingredientsRepository).findAllById(createRequest.getIngredientIds());
-            verify(dishRepository, never()).save(any(DishEntity.class));
+            // Then
+            assertSame(userEntity, newEntity.getUser());
+            assertEquals(List.of(ingredientEntity1, ingredientEntity2), newEntity.getIngredients());
+            assertEquals(tenantId, newEntity.getTenantId());
         }
     }
 
@@ -285,10 +278,8 @@ class DishServiceTest {
             mockedStatic.when(TenantContextHolder::getTenantContext).thenReturn(tenantId);
             
             when(dishRepository.findById(dishId)).thenReturn(Optional.of(dishEntity));
-            when(dishValidator.validateUpdateDish(updateRequest, dishEntity)).thenReturn(Collections.emptyList());
-            when(userRepository.findById(userId)).thenReturn(Optional.of(userEntity));
-            when(ingredientsRepository.findAllById(updateRequest.getIngredientIds()))
-                    .thenReturn(Arrays.asList(ingredientEntity1));
+            when(dishValidator.validateUpdateDish(updateRequest, dishEntity)).thenReturn(
+                    new DishValidationResult(new ArrayList<>(), userEntity, Arrays.asList(ingredientEntity1)));
             when(dishRepository.save(dishEntity)).thenReturn(dishEntity);
             when(dishMapper.toResponse(dishEntity)).thenReturn(dishResponse);
 
@@ -301,8 +292,6 @@ class DishServiceTest {
 
             verify(dishRepository).findById(dishId);
             verify(dishValidator).validateUpdateDish(updateRequest, dishEntity);
-            verify(userRepository).findById(userId);
-            verify(ingredientsRepository).findAllById(updateRequest.getIngredientIds());
             verify(dishRepository).save(dishEntity);
             verify(dishMapper).toResponse(dishEntity);
         }
@@ -408,6 +397,8 @@ class DishServiceTest {
                     .page(0)
                     .build();
 
+            when(catalogCache.get(eq(CatalogCache.DISH), same(filterRequest), any(), any()))
+                    .thenAnswer(invocation -> invocation.<Supplier<PageResponse<DishResponse>>>getArgument(3).get());
             when(dishQueryDslRepository.findAll(any(DishFilterRequest.class), any(Pageable.class)))
                     .thenReturn(pageResponse);
 
@@ -439,6 +430,7 @@ class DishServiceTest {
             assertTrue(result);
             verify(dishRepository).findById(dishId);
             verify(dishRepository).delete(dishEntity);
+            verify(catalogVersion).bumpAfterCommit(dishEntity.getTenantId());
         }
     }
 
@@ -461,4 +453,194 @@ class DishServiceTest {
             verify(dishRepository, never()).delete(any());
         }
     }
+
+    @Test
+    void addDish_ShouldDeriveTotalPriceFromIngredients() {
+        // Given
+        try (MockedStatic<TenantContextHolder> mockedStatic = mockStatic(TenantContextHolder.class)) {
+            mockedStatic.when(TenantContextHolder::getTenantContext).thenReturn(tenantId);
+
+            // The client-sent total (15.00) is ignored
+            when(dishValidator.validateCreateDish(createRequest)).thenReturn(
+                    new DishValidationResult(new ArrayList<>(), userEntity, Arrays.asList(ingredientEntity1, ingredientEntity2)));
+            when(dishMapper.toEntity(createRequest)).thenReturn(dishEntity);
+            when(dishRepository.save(dishEntity)).thenReturn(dishEntity);
+            when(dishMapper.toResponse(dishEntity)).thenReturn(dishResponse);
+
+            // When
+            dishService.addDish(createRequest);
+
+            // Then: (5.00 + 7.50) x 98% x 101.3%
+            assertEquals(new BigDecimal("12.41"), dishEntity.getTotalPrice());
+        }
+    }
+
+    @Test
+    void addDishes_ShouldSaveValidItemsInOneBatchAndReportInvalidOnes() {
+        // Given
+        try (MockedStatic<TenantContextHolder> mockedStatic = mockStatic(TenantContextHolder.class)) {
+            mockedStatic.when(TenantContextHolder::getTenantContext).thenReturn(tenantId);
+
+            CreateDishRequest invalidRequest = new CreateDishRequest();
+            invalidRequest.setName("Test Dish");
+            List<FieldErrorResponse> errors = List.of(FieldErrorResponse.builder().setField("name").setMessage("Name already exists.").build());
+            when(dishValidator.validateCreateDishes(List.of(createRequest, invalidRequest))).thenReturn(List.of(
+                    new DishValidationResult(new ArrayList<>(), userEntity, List.of(ingredientEntity1, ingredientEntity2)),
+                    new DishValidationResult(errors, null, null)));
+            when(dishMapper.toEntity(createRequest)).thenReturn(dishEntity);
+            when(dishRepository.saveAll(List.of(dishEntity))).thenReturn(List.of(dishEntity));
+            when(dishMapper.toResponse(dishEntity)).thenReturn(dishResponse);
+
+            // When
+            List<BulkItemResponse<DishResponse>> results = dishService.addDishes(List.of(createRequest, invalidRequest));
+
+            // Then
+            assertEquals(2, results.size());
+            assertTrue(results.get(0).isSuccess());
+            assertSame(dishResponse, results.get(0).getData());
+            assertFalse(results.get(1).isSuccess());
+            assertEquals(1, results.get(1).getIndex());
+            assertEquals(errors, results.get(1).getErrors());
+            assertEquals(tenantId, dishEntity.getTenantId());
+            verify(dishRepository, never()).save(any());
+            verify(dishMapper, never()).toEntity(invalidRequest);
+            verify(countCache).evictAfterCommit(CountCache.DISH, tenantId);
+            verify(catalogVersion).bumpAfterCommit(tenantId);
+        }
+    }
+
+    @Test
+    void addDishes_NothingValid_ShouldNotEvictCaches() {
+        // Given
+        try (MockedStatic<TenantContextHolder> mockedStatic = mockStatic(TenantContextHolder.class)) {
+            mockedStatic.when(TenantContextHolder::getTenantContext).thenReturn(tenantId);
+
+            List<FieldErrorResponse> errors = List.of(FieldErrorResponse.builder().setField("userId").setMessage("User not found.").build());
+            when(dishValidator.validateCreateDishes(List.of(createRequest)))
+                    .thenReturn(List.of(new DishValidationResult(errors, null, null)));
+            when(dishRepository.saveAll(List.of())).thenReturn(List.of());
+
+            // When
+            List<BulkItemResponse<DishResponse>> results = dishService.addDishes(List.of(createRequest));
+
+            // Then
+            assertFalse(results.get(0).isSuccess());
+            verifyNoInteractions(countCache, catalogVersion);
+        }
+    }
+
+    @Test
+    void addDishes_TooManyItems_ShouldThrowBadRequest() {
+        List<CreateDishRequest> requests = Collections.nCopies(501, createRequest);
+
+        assertThrows(BadRequestException.class, () -> dishService.addDishes(requests));
+        assertThrows(BadRequestException.class, () -> dishService.addDishes(List.of()));
+        verifyNoInteractions(dishValidator, dishRepository);
+    }
+
+    @Test
+    void updateDishes_ShouldLoadDishesOnceAndReportUnknownAndRepeatedIds() {
+        // Given
+        try (MockedStatic<TenantContextHolder> mockedStatic = mockStatic(TenantContextHolder.class)) {
+            mockedStatic.when(TenantContextHolder::getTenantContext).thenReturn(tenantId);
+
+            UUID unknownId = UUID.randomUUID();
+            BulkUpdateDishRequest update = bulkUpdate(dishId, "Updated Dish");
+            BulkUpdateDishRequest unknown = bulkUpdate(unknownId, "Other Dish");
+            BulkUpdateDishRequest repeated = bulkUpdate(dishId, "Again");
+            when(dishRepository.findAllByIdInAndTenantId(Set.of(dishId, unknownId), tenantId)).thenReturn(List.of(dishEntity));
+            when(dishValidator.validateUpdateDishes(List.of(update), List.of(dishEntity)))
+                    .thenReturn(List.of(new DishValidationResult(new ArrayList<>(), userEntity, List.of(ingredientEntity1))));
+            when(dishRepository.saveAll(List.of(dishEntity))).thenReturn(List.of(dishEntity));
+            when(dishMapper.toResponse(dishEntity)).thenReturn(dishResponse);
+
+            // When
+            List<BulkItemResponse<DishResponse>> results = dishService.updateDishes(List.of(update, unknown, repeated));
+
+            // Then
+            assertTrue(results.get(0).isSuccess());
+            assertFalse(results.get(1).isSuccess());
+            assertEquals("Dish not found with id: " + unknownId, results.get(1).getErrors().get(0).getMessage());
+            assertFalse(results.get(2).isSuccess());
+            assertEquals(2, results.get(2).getIndex());
+            assertEquals(List.of(ingredientEntity1), dishEntity.getIngredients());
+            verify(dishMapper).updateEntity(update, dishEntity);
+            verify(dishRepository, never()).findById(any());
+            verify(countCache).evictAfterCommit(CountCache.DISH, tenantId);
+            verify(catalogVersion).bumpAfterCommit(tenantId);
+        }
+    }
+
+    @Test
+    void quote_ShouldPriceDistinctIngredientsFromPriceTable() {
+        // Given
+        try (MockedStatic<TenantContextHolder> mockedStatic = mockStatic(TenantContextHolder.class)) {
+            mockedStatic.when(TenantContextHolder::getTenantContext).thenReturn(tenantId);
+
+            when(ingredientPriceTables.get(tenantId)).thenReturn(IngredientPriceTable.of(Map.of(
+                    ingredientId1, new BigDecimal("5.00"), ingredientId2, new BigDecimal("7.50"))));
+            DishQuoteRequest request = new DishQuoteRequest();
+            request.setIngredientIds(List.of(ingredientId1, ingredientId2, ingredientId1));
+            request.setDiscount(new BigDecimal("10"));
+            request.setVat(new BigDecimal("8"));
+
+            // When
+            DishQuoteResponse quote = dishService.quote(request);
+
+            // Then: 12.50 x 90% x 108%
+            assertEquals(new BigDecimal("12.50"), quote.getSubtotal());
+            assertEquals(new BigDecimal("12.15"), quote.getTotalPrice());
+            verifyNoInteractions(dishRepository, dishValidator);
+        }
+    }
+
+    @Test
+    void quote_ShouldMatchPersistedTotalOfSameIngredients() {
+        // Given
+        try (MockedStatic<TenantContextHolder> mockedStatic = mockStatic(TenantContextHolder.class)) {
+            mockedStatic.when(TenantContextHolder::getTenantContext).thenReturn(tenantId);
+
+            IngredientsEntity first = IngredientsEntity.builder().id(ingredientId1).price(new BigDecimal("12.35")).build();
+            IngredientsEntity second = IngredientsEntity.builder().id(ingredientId2).price(new BigDecimal("12.35")).build();
+            when(ingredientPriceTables.get(tenantId)).thenReturn(IngredientPriceTable.of(Map.of(
+                    ingredientId1, first.getPrice(), ingredientId2, second.getPrice())));
+            DishQuoteRequest request = new DishQuoteRequest();
+            request.setIngredientIds(List.of(ingredientId1, ingredientId2));
+            request.setDiscount(new BigDecimal("7.5"));
+            request.setVat(new BigDecimal("8"));
+
+            // When
+            DishQuoteResponse quote = dishService.quote(request);
+
+            // Then
+            assertEquals(PricingEngine.total(List.of(first, second), request.getDiscount(), request.getVat()),
+                    quote.getTotalPrice());
+        }
+    }
+
+    @Test
+    void quote_UnknownIngredient_ShouldThrowValidationException() {
+        // Given
+        try (MockedStatic<TenantContextHolder> mockedStatic = mockStatic(TenantContextHolder.class)) {
+            mockedStatic.when(TenantContextHolder::getTenantContext).thenReturn(tenantId);
+
+            when(ingredientPriceTables.get(tenantId))
+                    .thenReturn(IngredientPriceTable.of(Map.of(ingredientId1, new BigDecimal("5.00"))));
+            DishQuoteRequest request = new DishQuoteRequest();
+            request.setIngredientIds(List.of(ingredientId1, ingredientId2));
+
+            // When & Then
+            MultipleFieldValidationException exception = assertThrows(MultipleFieldValidationException.class,
+                    () -> dishService.quote(request));
+            assertEquals(1, exception.getFieldErrors().size());
+            assertEquals(ingredientId2.toString(), exception.getFieldErrors().get(0).getRejectedValue());
+        }
+    }
+
+    private static BulkUpdateDishRequest bulkUpdate(UUID id, String name) {
+        BulkUpdateDishRequest request = new BulkUpdateDishRequest();
+        request.setId(id);
+        request.setName(name);
+        return request;
+    }
 }
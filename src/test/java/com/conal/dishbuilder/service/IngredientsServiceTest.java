@@ -1,5 +1,8 @@
 package com.conal.dishbuilder.service;
 
+import com.conal.dishbuilder.cache.CatalogCache;
+import com.conal.dishbuilder.cache.CatalogVersion;
+import com.conal.dishbuilder.cache.CountCache;
 import com.conal.dishbuilder.context.TenantContextHolder;
 import com.conal.dishbuilder.domain.CategoryEntity;
 import com.conal.dishbuilder.domain.IngredientsEntity;
@@ -12,6 +15,7 @@ import com.conal.dishbuilder.dto.response.PageResponse;
 import com.conal.dishbuilder.exception.MultipleFieldValidationException;
 import com.conal.dishbuilder.exception.NotFoundException;
 import com.conal.dishbuilder.mapper.IngredientsMapper;
+import com.conal.dishbuilder.pricing.DishRepricer;
 import com.conal.dishbuilder.repository.CategoryRepository;
 import com.conal.dishbuilder.repository.IngredientsRepository;
 import com.conal.dishbuilder.repository.querydsl.IngredientsQueryDslRepository;
@@ -33,6 +37,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -56,6 +61,18 @@ class IngredientsServiceTest {
     @Mock
     private IngredientsQueryDslRepository ingredientsQueryDslRepository;
 
+    @Mock
+    private CountCache countCache;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private CatalogCache catalogCache;
+
+    @Mock
+    private DishRepricer dishRepricer;
+
     @InjectMocks
     private IngredientsServiceImpl ingredientsService;
 
@@ -220,6 +237,28 @@ class IngredientsServiceTest {
             verify(categoryRepository).findById(categoryId);
             verify(ingredientsRepository).save(ingredientsEntity);
             verify(ingredientsMapper).toResponse(ingredientsEntity);
+            verify(dishRepricer).repriceAfterCommit(ingredientId, tenantId);
+        }
+    }
+
+    @Test
+    void updateIngredients_SamePrice_ShouldNotRepriceDishes() {
+        // Given
+        try (MockedStatic<TenantContextHolder> mockedStatic = mockStatic(TenantContextHolder.class)) {
+            mockedStatic.when(TenantContextHolder::getTenantContext).thenReturn(tenantId);
+
+            updateRequest.setPrice(new BigDecimal("10.5"));
+            when(ingredientsRepository.findById(ingredientId)).thenReturn(Optional.of(ingredientsEntity));
+            when(ingredientsValidator.validateUpdateIngredients(updateRequest, ingredientsEntity)).thenReturn(Collections.emptyList());
+            when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(categoryEntity));
+            when(ingredientsRepository.save(ingredientsEntity)).thenReturn(ingredientsEntity);
+            when(ingredientsMapper.toResponse(ingredientsEntity)).thenReturn(ingredientsResponse);
+
+            // When
+            ingredientsService.updateIngredients(ingredientId, updateRequest);
+
+            // Then
+            verifyNoInteractions(dishRepricer);
         }
     }
 
@@ -323,6 +362,8 @@ class IngredientsServiceTest {
                     .page(0)
                     .build();
 
+            when(catalogCache.get(eq(CatalogCache.INGREDIENTS), same(filterRequest), any(), any()))
+                    .thenAnswer(invocation -> invocation.<Supplier<PageResponse<IngredientsResponse>>>getArgument(3).get());
             when(ingredientsQueryDslRepository.findAll(any(IngredientsFilterRequest.class), any(Pageable.class)))
                     .thenReturn(pageResponse);
 
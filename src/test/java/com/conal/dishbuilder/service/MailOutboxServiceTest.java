@@ -0,0 +1,152 @@
+package com.conal.dishbuilder.service;
+
+import com.conal.dishbuilder.constant.MailStatus;
+import com.conal.dishbuilder.domain.MailOutboxEntity;
+import com.conal.dishbuilder.repository.MailOutboxRepository;
+import com.conal.dishbuilder.service.impl.MailOutboxServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxServiceTest {
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
+    private MailOutboxServiceImpl mailOutboxService;
+    private UUID mailId;
+    private MailOutboxEntity mail;
+
+    @BeforeEach
+    void setUp() {
+        mailOutboxService = new MailOutboxServiceImpl(mailOutboxRepository, new SimpleMeterRegistry(),
+                3, Duration.ofSeconds(10), Duration.ofMinutes(30), Duration.ofMinutes(2), Duration.ofDays(7));
+        mailId = UUID.randomUUID();
+        mail = MailOutboxEntity.builder()
+                .id(mailId)
+                .recipient("user@example.com")
+                .subject("OTP")
+                .body("123456")
+                .status(MailStatus.SENDING)
+                .attempts(1)
+                .build();
+    }
+
+    @Test
+    void enqueue_ShouldStorePendingMailDueNow() {
+        when(mailOutboxRepository.save(any(MailOutboxEntity.class))).thenAnswer(invocation -> {
+            MailOutboxEntity saved = invocation.getArgument(0);
+            saved.setId(mailId);
+            return saved;
+        });
+
+        UUID id = mailOutboxService.enqueue(UUID.randomUUID(), "user@example.com", "OTP", "123456", false);
+
+        assertEquals(mailId, id);
+        verify(mailOutboxRepository).save(argThat(saved -> saved.getStatus() == MailStatus.PENDING
+                && saved.getAttempts() == 0
+                && !saved.getNextAttemptAt().isAfter(LocalDateTime.now())));
+    }
+
+    @Test
+    void claimDue_ShouldLeaseMailsAndCountAttempt() {
+        MailOutboxEntity pending = MailOutboxEntity.builder().id(mailId).status(MailStatus.PENDING).attempts(0).build();
+        when(mailOutboxRepository.findDueForUpdate(any(LocalDateTime.class), eq(MailStatus.PENDING), eq(MailStatus.SENDING), any(Pageable.class)))
+                .thenReturn(List.of(pending));
+
+        List<MailOutboxEntity> claimed = mailOutboxService.claimDue(4);
+
+        assertEquals(1, claimed.size());
+        assertEquals(MailStatus.SENDING, pending.getStatus());
+        assertEquals(1, pending.getAttempts());
+        assertTrue(pending.getLockedUntil().isAfter(LocalDateTime.now().plusMinutes(1)));
+    }
+
+    @Test
+    void claimDue_WithoutCapacity_ShouldNotQuery() {
+        assertTrue(mailOutboxService.claimDue(0).isEmpty());
+        verifyNoInteractions(mailOutboxRepository);
+    }
+
+    @Test
+    void markFailed_BeforeMaxAttempts_ShouldScheduleRetry() {
+        when(mailOutboxRepository.findById(mailId)).thenReturn(Optional.of(mail));
+
+        mailOutboxService.markFailed(mailId, "Connection refused");
+
+        assertEquals(MailStatus.PENDING, mail.getStatus());
+        assertEquals("Connection refused", mail.getLastError());
+        assertEquals("123456", mail.getBody());
+        assertNull(mail.getLockedUntil());
+        assertTrue(mail.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(7)));
+    }
+
+    @Test
+    void markFailed_AtMaxAttempts_ShouldDeadLetter() {
+        mail.setAttempts(3);
+        when(mailOutboxRepository.findById(mailId)).thenReturn(Optional.of(mail));
+
+        mailOutboxService.markFailed(mailId, "Mailbox unavailable");
+
+        assertEquals(MailStatus.DEAD, mail.getStatus());
+        assertEquals("Mailbox unavailable", mail.getLastError());
+        assertNull(mail.getBody());
+    }
+
+    @Test
+    void defer_ShouldReleaseLeaseWithoutCountingAttempt() {
+        when(mailOutboxRepository.findById(mailId)).thenReturn(Optional.of(mail));
+
+        mailOutboxService.defer(mailId, Duration.ofSeconds(30));
+
+        assertEquals(MailStatus.PENDING, mail.getStatus());
+        assertEquals(0, mail.getAttempts());
+        assertTrue(mail.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(25)));
+    }
+
+    @Test
+    void markSent_ShouldCompleteMail() {
+        when(mailOutboxRepository.findById(mailId)).thenReturn(Optional.of(mail));
+
+        mailOutboxService.markSent(mailId);
+
+        assertEquals(MailStatus.SENT, mail.getStatus());
+        assertNotNull(mail.getSentAt());
+    }
+
+    @Test
+    void markSent_ShouldClearBodyHoldingTheOtp() {
+        when(mailOutboxRepository.findById(mailId)).thenReturn(Optional.of(mail));
+
+        mailOutboxService.markSent(mailId);
+
+        assertNull(mail.getBody());
+    }
+
+    @Test
+    void purgeFinished_ShouldDeleteSentAndDeadMailsOlderThanRetention() {
+        when(mailOutboxRepository.deleteFinishedBefore(anyCollection(), any(LocalDateTime.class))).thenReturn(2);
+
+        assertEquals(2, mailOutboxService.purgeFinished());
+
+        verify(mailOutboxRepository).deleteFinishedBefore(
+                argThat(statuses -> statuses.size() == 2 && statuses.containsAll(List.of(MailStatus.SENT, MailStatus.DEAD))),
+                argThat(before -> before.isBefore(LocalDateTime.now().minusDays(6))
+                        && before.isAfter(LocalDateTime.now().minusDays(8))));
+    }
+}
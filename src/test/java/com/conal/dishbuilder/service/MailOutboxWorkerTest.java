@@ -0,0 +1,103 @@
+package com.conal.dishbuilder.service;
+
+import com.conal.dishbuilder.domain.MailOutboxEntity;
+import com.conal.dishbuilder.service.impl.MailOutboxWorker;
+import com.conal.dishbuilder.service.impl.MailServiceImpl;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxWorkerTest {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    private MailOutboxService mailOutboxService;
+
+    private MailOutboxWorker worker;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (worker != null) {
+            worker.shutdown();
+        }
+    }
+
+    @Test
+    void poll_ShouldDeliverClaimedMailThroughSmtpAndMarkSent() throws Exception {
+        worker = new MailOutboxWorker(mailOutboxService, mailService(greenMail.getSmtp().getPort()), 2, 60);
+        MailOutboxEntity mail = mail(UUID.randomUUID());
+        when(mailOutboxService.claimDue(2)).thenReturn(List.of(mail));
+
+        worker.poll();
+
+        assertTrue(greenMail.waitForIncomingEmail(5000, 1));
+        MimeMessage received = greenMail.getReceivedMessages()[0];
+        assertEquals("Your OTP", received.getSubject());
+        assertEquals("user@example.com", received.getAllRecipients()[0].toString());
+        verify(mailOutboxService, timeout(5000)).markSent(mail.getId());
+        verify(mailOutboxService, never()).markFailed(any(), any());
+    }
+
+    @Test
+    void poll_WhenSmtpUnavailable_ShouldMarkFailed() {
+        // Nothing listens on GreenMail's port + 1
+        worker = new MailOutboxWorker(mailOutboxService, mailService(greenMail.getSmtp().getPort() + 1), 1, 60);
+        MailOutboxEntity mail = mail(UUID.randomUUID());
+        when(mailOutboxService.claimDue(1)).thenReturn(List.of(mail));
+
+        worker.poll();
+
+        verify(mailOutboxService, timeout(5000)).markFailed(eq(mail.getId()), anyString());
+        verify(mailOutboxService, never()).markSent(any());
+    }
+
+    @Test
+    void poll_OverTenantLimit_ShouldDeferInsteadOfSending() {
+        worker = new MailOutboxWorker(mailOutboxService, mailService(greenMail.getSmtp().getPort()), 2, 1);
+        UUID tenantId = UUID.randomUUID();
+        MailOutboxEntity first = mail(tenantId);
+        MailOutboxEntity second = mail(tenantId);
+        when(mailOutboxService.claimDue(2)).thenReturn(List.of(first, second));
+
+        worker.poll();
+
+        verify(mailOutboxService, timeout(5000)).markSent(first.getId());
+        verify(mailOutboxService).defer(eq(second.getId()), argThat(delay -> !delay.isNegative() && delay.compareTo(Duration.ofMinutes(1)) <= 0));
+        verify(mailOutboxService, never()).markSent(second.getId());
+    }
+
+    private static MailService mailService(int port) {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("127.0.0.1");
+        sender.setPort(port);
+        return new MailServiceImpl(sender);
+    }
+
+    private static MailOutboxEntity mail(UUID tenantId) {
+        return MailOutboxEntity.builder()
+                .id(UUID.randomUUID())
+                .tenantId(tenantId)
+                .recipient("user@example.com")
+                .subject("Your OTP")
+                .body("123456")
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.conal.dishbuilder.service;
+
+import com.conal.dishbuilder.constant.CommonStatus;
+import com.conal.dishbuilder.context.TenantContextHolder;
+import com.conal.dishbuilder.domain.RoleEntity;
+import com.conal.dishbuilder.domain.UserEntity;
+import com.conal.dishbuilder.repository.UserRepository;
+import com.conal.dishbuilder.service.impl.UserDetailsServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserDetailsServiceImpl userDetailsService;
+
+    private final UUID tenantId = UUID.randomUUID();
+
+    @Test
+    void loadUserByUsername_ShouldGrantRoleAuthorities() {
+        // Given
+        try (MockedStatic<TenantContextHolder> mockedStatic = mockStatic(TenantContextHolder.class)) {
+            mockedStatic.when(TenantContextHolder::getTenantContext).thenReturn(tenantId);
+            UserEntity user = user(Set.of(RoleEntity.builder().name("SUPER_ADMIN").build(),
+                    RoleEntity.builder().name("ADMIN").build()));
+            when(userRepository.findByUsernameAndTenantIdAndStatus("alice", tenantId, CommonStatus.ACTIVE))
+                    .thenReturn(Optional.of(user));
+
+            // When
+            UserDetails userDetails = userDetailsService.loadUserByUsername("alice");
+
+            // Then: the same ROLE_ authorities the stateless path builds from the roles claim
+            assertEquals(Set.of("ROLE_SUPER_ADMIN", "ROLE_ADMIN"), userDetails.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    void loadUserByUsername_WithoutRoles_ShouldGrantNoAuthorities() {
+        // Given
+        try (MockedStatic<TenantContextHolder> mockedStatic = mockStatic(TenantContextHolder.class)) {
+            mockedStatic.when(TenantContextHolder::getTenantContext).thenReturn(tenantId);
+            when(userRepository.findByUsernameAndTenantIdAndStatus("alice", tenantId, CommonStatus.ACTIVE))
+                    .thenReturn(Optional.of(user(null)));
+
+            // When
+            UserDetails userDetails = userDetailsService.loadUserByUsername("alice");
+
+            // Then
+            assertTrue(userDetails.getAuthorities().isEmpty());
+        }
+    }
+
+    private UserEntity user(Set<RoleEntity> roles) {
+        return UserEntity.builder()
+                .username("alice")
+                .password("encoded")
+                .tenantId(tenantId)
+                .roles(roles)
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.conal.dishbuilder.template;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledTemplateTest {
+
+    @Test
+    void render_ShouldSubstituteEveryPlaceholder() {
+        CompiledTemplate template = CompiledTemplate.compile("<p>{{ NAME }}, your code is {{OTP_CODE}}.</p>{{OTP_CODE}}");
+
+        String html = template.render(Map.of("NAME", "An", "OTP_CODE", "123456"));
+
+        assertEquals("<p>An, your code is 123456.</p>123456", html);
+        assertEquals(List.of("NAME", "OTP_CODE", "OTP_CODE"), template.placeholders());
+    }
+
+    @Test
+    void render_WithMissingValue_ShouldKeepPlaceholder() {
+        CompiledTemplate template = CompiledTemplate.compile("Code: {{OTP_CODE}}");
+
+        assertEquals("Code: {{OTP_CODE}}", template.render(Map.of()));
+    }
+
+    @Test
+    void compile_WithoutPlaceholdersOrUnclosedBraces_ShouldKeepTextVerbatim() {
+        assertEquals("plain", CompiledTemplate.compile("plain").render(Map.of()));
+        assertEquals("a {{b", CompiledTemplate.compile("a {{b").render(Map.of("b", "x")));
+    }
+}
@@ -0,0 +1,74 @@
+package com.conal.dishbuilder.template;
+
+import com.conal.dishbuilder.exception.InternalServerException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MailTemplateRegistryTest {
+
+    @TempDir
+    Path overrideDir;
+
+    @Test
+    void render_ShouldUseClasspathDefault() throws Exception {
+        MailTemplateRegistry registry = new MailTemplateRegistry("", 100);
+        registry.loadDefaults();
+
+        String html = registry.render(UUID.randomUUID(), MailTemplateRegistry.OTP_MAIL, Map.of("OTP_CODE", "654321"));
+
+        assertTrue(html.contains("654321"));
+        assertFalse(html.contains("{{OTP_CODE}}"));
+    }
+
+    @Test
+    void render_ShouldPreferTenantOverride() throws Exception {
+        UUID tenantId = UUID.randomUUID();
+        writeOverride(tenantId, "Custom {{OTP_CODE}}");
+        MailTemplateRegistry registry = new MailTemplateRegistry(overrideDir.toString(), 100);
+        registry.loadDefaults();
+
+        assertEquals("Custom 111111", registry.render(tenantId, MailTemplateRegistry.OTP_MAIL, Map.of("OTP_CODE", "111111")));
+        // Other tenants keep the default
+        assertNotEquals("Custom 111111", registry.render(UUID.randomUUID(), MailTemplateRegistry.OTP_MAIL, Map.of("OTP_CODE", "111111")));
+    }
+
+    @Test
+    void reloadChanged_ShouldPickUpEditedOverride() throws Exception {
+        UUID tenantId = UUID.randomUUID();
+        Path file = writeOverride(tenantId, "v1 {{OTP_CODE}}");
+        MailTemplateRegistry registry = new MailTemplateRegistry(overrideDir.toString(), 100);
+        registry.loadDefaults();
+        assertEquals("v1 1", registry.render(tenantId, MailTemplateRegistry.OTP_MAIL, Map.of("OTP_CODE", "1")));
+
+        Files.writeString(file, "v2 {{OTP_CODE}}");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        // Cached until the reload check runs
+        assertEquals("v1 1", registry.render(tenantId, MailTemplateRegistry.OTP_MAIL, Map.of("OTP_CODE", "1")));
+
+        registry.reloadChanged();
+
+        assertEquals("v2 1", registry.render(tenantId, MailTemplateRegistry.OTP_MAIL, Map.of("OTP_CODE", "1")));
+    }
+
+    @Test
+    void get_UnknownTemplate_ShouldThrow() throws Exception {
+        MailTemplateRegistry registry = new MailTemplateRegistry("", 100);
+        registry.loadDefaults();
+
+        assertThrows(InternalServerException.class, () -> registry.get(UUID.randomUUID(), "missing"));
+    }
+
+    private Path writeOverride(UUID tenantId, String content) throws Exception {
+        Path dir = Files.createDirectories(overrideDir.resolve(tenantId.toString()));
+        return Files.writeString(dir.resolve(MailTemplateRegistry.OTP_MAIL + ".html"), content);
+    }
+}
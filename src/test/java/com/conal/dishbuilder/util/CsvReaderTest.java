@@ -0,0 +1,46 @@
+package com.conal.dishbuilder.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+
+    @Test
+    void next_ShouldSplitPlainRecords() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("name,price\nTomato,1.5\r\nSalt,0.2"));
+
+        assertEquals(List.of("name", "price"), reader.next());
+        assertEquals(List.of("Tomato", "1.5"), reader.next());
+        assertEquals(List.of("Salt", "0.2"), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_ShouldHandleQuotedFields() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"Sauce, hot\",\"say \"\"hi\"\"\",\"two\nlines\"\n"));
+
+        assertEquals(List.of("Sauce, hot", "say \"hi\"", "two\nlines"), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_ShouldKeepEmptyFieldsAndSkipByteOrderMark() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFa,,c\n,\n"));
+
+        assertEquals(List.of("a", "", "c"), reader.next());
+        assertEquals(List.of("", ""), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_UnterminatedQuote_ShouldThrow() {
+        CsvReader reader = new CsvReader(new StringReader("\"open,1\n"));
+
+        assertThrows(IOException.class, reader::next);
+    }
+}
@@ -0,0 +1,32 @@
+package com.conal.dishbuilder.util;
+
+import com.conal.dishbuilder.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorUtilsTest {
+
+    @Test
+    void encodeThenDecode_ShouldRoundTripSortKeyAndId() {
+        UUID id = UUID.randomUUID();
+
+        CursorUtils.Cursor cursor = CursorUtils.decode(CursorUtils.encode("Beef | Noodle", id));
+
+        assertEquals("Beef | Noodle", cursor.sortKey());
+        assertEquals(id, cursor.id());
+    }
+
+    @Test
+    void decode_WithoutCursor_ShouldReturnNull() {
+        assertNull(CursorUtils.decode(null));
+        assertNull(CursorUtils.decode(" "));
+    }
+
+    @Test
+    void decode_WithTamperedCursor_ShouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> CursorUtils.decode("not-a-cursor"));
+    }
+}
@@ -0,0 +1,211 @@
+package com.conal.dishbuilder.util;
+
+import com.conal.dishbuilder.cache.TokenBlacklistFilter;
+import com.conal.dishbuilder.constant.TokenType;
+import com.conal.dishbuilder.context.TokenContextHolder;
+import com.conal.dishbuilder.domain.RoleEntity;
+import com.conal.dishbuilder.domain.UserEntity;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtUtilsTest {
+    private static final String KEY_PREFIX = "tenant:";
+
+    @Mock
+    private RedisUtils redisUtils;
+
+    @Mock
+    private TokenBlacklistFilter tokenBlacklistFilter;
+
+    private JwtUtils jwtUtils;
+    private UserDetails user;
+    private UserEntity entity;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = new JwtUtils(redisUtils, tokenBlacklistFilter);
+        user = User.withUsername("alice").password("").authorities("ROLE_ADMIN").build();
+        entity = UserEntity.builder()
+                .id(UUID.randomUUID())
+                .tenantId(UUID.randomUUID())
+                .username("alice")
+                .roles(Set.of(RoleEntity.builder().name("ADMIN").build()))
+                .build();
+        lenient().when(redisUtils.genKey(anyString())).thenAnswer(invocation -> KEY_PREFIX + invocation.getArgument(0));
+    }
+
+    @Test
+    void generateAccessToken_ShouldCarryUniqueJti() {
+        Claims first = jwtUtils.parse(jwtUtils.generateAccessToken(user, entity));
+        Claims second = jwtUtils.parse(jwtUtils.generateAccessToken(user, entity));
+
+        assertNotNull(first.getId());
+        assertNotEquals(first.getId(), second.getId());
+    }
+
+    @Test
+    void generateAccessToken_ShouldCarryUserTenantAndRoleClaims() {
+        String token = jwtUtils.generateAccessToken(user, entity);
+
+        assertEquals("alice", jwtUtils.getUsername(token));
+        assertEquals(entity.getId(), jwtUtils.getUserId(token));
+        assertEquals(entity.getTenantId(), jwtUtils.getTenantId(token));
+        assertEquals(List.of("ADMIN"), jwtUtils.getRoles(token));
+        assertTrue(jwtUtils.validateToken(token));
+    }
+
+    @Test
+    void generateRefreshToken_ShouldCarryNoUserClaims() {
+        String token = jwtUtils.generateRefreshToken(user);
+
+        assertEquals("alice", jwtUtils.getUsername(token));
+        assertNull(jwtUtils.getUserId(token));
+        assertNull(jwtUtils.getTenantId(token));
+        assertEquals(List.of(), jwtUtils.getRoles(token));
+    }
+
+    @Test
+    void validateToken_TamperedOrMalformed_ShouldBeRejected() {
+        String token = jwtUtils.generateAccessToken(user, entity);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertFalse(jwtUtils.validateToken(tampered));
+        assertFalse(jwtUtils.validateToken("not-a-jwt"));
+        assertThrows(JwtException.class, () -> jwtUtils.parse("not-a-jwt"));
+    }
+
+    @Test
+    void claimLookups_ShouldReuseClaimsParsedForTheRequest() {
+        String token = jwtUtils.generateAccessToken(user, entity);
+        Claims claims = jwtUtils.parse(token);
+        claims.setSubject("from-context");
+        TokenContextHolder.setTokenContext(token, claims);
+        try {
+            // The subject was only changed on the context's copy, so it proves no re-parse happened
+            assertEquals("from-context", jwtUtils.getUsername(token));
+            assertEquals("alice", jwtUtils.getUsername(jwtUtils.generateAccessToken(user, entity)));
+        } finally {
+            TokenContextHolder.clearTokenContext();
+        }
+    }
+
+    @Test
+    void addTokenIntoBlacklist_ShouldKeyEntryByJti() {
+        String token = jwtUtils.generateAccessToken(user, entity);
+        String fingerprint = "ACCESS:" + jwtUtils.parse(token).getId();
+
+        jwtUtils.addTokenIntoBlacklist(token, TokenType.ACCESS);
+
+        verify(redisUtils).set(eq(KEY_PREFIX + TokenBlacklistFilter.KEY_MARKER + fingerprint), eq("1"), longThat(ttl -> ttl > 0),
+                eq(TimeUnit.MILLISECONDS));
+        verify(tokenBlacklistFilter).addAndBroadcast(fingerprint);
+    }
+
+    @Test
+    void existsTokenInBlacklist_BloomNegative_ShouldSkipRedis() {
+        String token = jwtUtils.generateAccessToken(user, entity);
+        when(tokenBlacklistFilter.mightContain(anyString())).thenReturn(false);
+
+        assertFalse(jwtUtils.existsTokenInBlacklist(token, TokenType.ACCESS));
+        verify(redisUtils, never()).exists(anyString());
+        verify(redisUtils, never()).get(anyString());
+    }
+
+    @Test
+    void existsTokenInBlacklist_BlacklistedJti_ShouldBeConfirmedByRedis() {
+        String token = jwtUtils.generateAccessToken(user, entity);
+        String fingerprint = "ACCESS:" + jwtUtils.parse(token).getId();
+        when(tokenBlacklistFilter.mightContain(fingerprint)).thenReturn(true);
+        when(redisUtils.exists(KEY_PREFIX + TokenBlacklistFilter.KEY_MARKER + fingerprint)).thenReturn(true);
+
+        assertTrue(jwtUtils.existsTokenInBlacklist(token, TokenType.ACCESS));
+        verify(tokenBlacklistFilter).recordConfirmation(true);
+    }
+
+    @Test
+    void existsTokenInBlacklist_BloomFalsePositive_ShouldNotBlacklist() {
+        String token = jwtUtils.generateAccessToken(user, entity);
+        String fingerprint = "ACCESS:" + jwtUtils.parse(token).getId();
+        when(tokenBlacklistFilter.mightContain(fingerprint)).thenReturn(true);
+        when(redisUtils.exists(anyString())).thenReturn(false);
+
+        assertFalse(jwtUtils.existsTokenInBlacklist(token, TokenType.ACCESS));
+        verify(tokenBlacklistFilter).recordConfirmation(false);
+    }
+
+    @Test
+    void revokeAllIssuedBefore_ShouldStoreWatermarkInMillis() {
+        Instant instant = Instant.ofEpochMilli(1_700_000_000_123L);
+
+        jwtUtils.revokeAllIssuedBefore("alice", instant);
+
+        verify(redisUtils).set(eq(KEY_PREFIX + TokenBlacklistFilter.KEY_MARKER + "wm:alice"), eq("1700000000123"), anyLong(),
+                eq(TimeUnit.MILLISECONDS));
+        verify(tokenBlacklistFilter).addAndBroadcast("wm:alice");
+    }
+
+    @Test
+    void existsTokenInBlacklist_TokenIssuedBeforeWatermark_ShouldBeRevoked() {
+        String token = jwtUtils.generateAccessToken(user, entity);
+        long issuedAt = jwtUtils.parse(token).get("iatms", Long.class);
+
+        assertTrue(isRevokedByWatermark(token, issuedAt));
+        assertTrue(isRevokedByWatermark(token, issuedAt + 1));
+    }
+
+    @Test
+    void existsTokenInBlacklist_TokenIssuedAfterWatermarkInSameSecond_ShouldStayValid() {
+        // A re-login right after logout-all lands in the same second as the watermark
+        String token = jwtUtils.generateAccessToken(user, entity);
+        long issuedAt = jwtUtils.parse(token).get("iatms", Long.class);
+
+        assertFalse(isRevokedByWatermark(token, issuedAt - 1));
+    }
+
+    @Test
+    void existsTokenInBlacklist_TokenWithoutMillisClaim_ShouldFallBackToIssuedAt() {
+        Key key = (Key) ReflectionTestUtils.getField(jwtUtils, "secretKey");
+        Date issuedAt = new Date(1_700_000_000_000L);
+        String token = Jwts.builder()
+                .setSubject("alice")
+                .setId("legacy")
+                .setIssuedAt(issuedAt)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        assertTrue(isRevokedByWatermark(token, issuedAt.getTime()));
+        assertFalse(isRevokedByWatermark(token, issuedAt.getTime() - 1));
+    }
+
+    private boolean isRevokedByWatermark(String token, long watermark) {
+        reset(tokenBlacklistFilter, redisUtils);
+        when(redisUtils.genKey(anyString())).thenAnswer(invocation -> KEY_PREFIX + invocation.getArgument(0));
+        when(tokenBlacklistFilter.mightContain(anyString())).thenAnswer(invocation -> "wm:alice".equals(invocation.getArgument(0)));
+        when(redisUtils.get(KEY_PREFIX + TokenBlacklistFilter.KEY_MARKER + "wm:alice")).thenReturn(String.valueOf(watermark));
+        return jwtUtils.existsTokenInBlacklist(token, TokenType.ACCESS);
+    }
+}
@@ -0,0 +1,100 @@
+package com.conal.dishbuilder.util;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RedisUtilsTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisUtils redisUtils;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        }, true);
+        redisUtils = new RedisUtils(redisTemplate);
+    }
+
+    @Test
+    void batch_ShouldApplyCommandsAndReturnResultsInOrder() {
+        redisUtils.set("otp:old", "111111", 5, TimeUnit.MINUTES);
+
+        List<Object> results = redisUtils.batch()
+                .get("otp:old")
+                .rightPush("sent", "1")
+                .rightPush("sent", "2")
+                .expire("sent", 1, TimeUnit.HOURS)
+                .set("otp:new", "222222", 5, TimeUnit.MINUTES)
+                .remove("otp:old")
+                .execute();
+
+        assertEquals("111111", results.get(0));
+        assertEquals(2L, results.get(2));
+        assertEquals("222222", redisUtils.get("otp:new"));
+        assertFalse(redisUtils.exists("otp:old"));
+        assertEquals(List.of("1", "2"), redisUtils.getRange("sent"));
+        Long ttl = redisTemplate.getExpire("sent", TimeUnit.SECONDS);
+        assertNotNull(ttl);
+        assertTrue(ttl > 0 && ttl <= 3600);
+    }
+
+    @Test
+    void batch_Empty_ShouldNotTouchRedis() {
+        assertTrue(redisUtils.batch().execute().isEmpty());
+    }
+
+    @Test
+    void multiSet_ShouldSetAllKeysWithTtl() {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("a", "1");
+        values.put("b", "2");
+
+        redisUtils.multiSet(values, 30, TimeUnit.SECONDS);
+
+        assertEquals(Arrays.asList("1", "2", null), redisUtils.multiGet(List.of("a", "b", "missing")));
+        Long ttl = redisTemplate.getExpire("b", TimeUnit.SECONDS);
+        assertNotNull(ttl);
+        assertTrue(ttl > 0 && ttl <= 30);
+    }
+
+    @Test
+    void multiGet_NoKeys_ShouldReturnEmpty() {
+        assertTrue(redisUtils.multiGet(List.of()).isEmpty());
+    }
+}
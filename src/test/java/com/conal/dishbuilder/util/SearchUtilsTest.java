@@ -0,0 +1,37 @@
+package com.conal.dishbuilder.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchUtilsTest {
+
+    @Test
+    void toPrefixQuery_ShouldMatchEveryWordAsPrefix() {
+        assertEquals("chick:* & sou:*", SearchUtils.toPrefixQuery("  Chick  Sou "));
+    }
+
+    @Test
+    void toPrefixQuery_ShouldStripTsquerySyntax() {
+        assertEquals("beef:* & pho:*", SearchUtils.toPrefixQuery("beef & !pho:* | ("));
+    }
+
+    @Test
+    void toPrefixQuery_ShouldKeepUnicodeLetters() {
+        assertEquals("phở:* & bò:*", SearchUtils.toPrefixQuery("Phở bò"));
+    }
+
+    @Test
+    void toPrefixQuery_WithoutSearchableWords_ShouldReturnNull() {
+        assertNull(SearchUtils.toPrefixQuery(null));
+        assertNull(SearchUtils.toPrefixQuery("   "));
+        assertNull(SearchUtils.toPrefixQuery("&|!:*()"));
+    }
+
+    @Test
+    void toPrefixQuery_ShouldCapNumberOfTerms() {
+        String query = SearchUtils.toPrefixQuery("a b c d e f g h i j k");
+
+        assertEquals(8, query.split(" & ").length);
+    }
+}
@@ -0,0 +1,202 @@
+package com.conal.dishbuilder.validator;
+
+import com.conal.dishbuilder.context.TenantContextHolder;
+import com.conal.dishbuilder.domain.DishEntity;
+import com.conal.dishbuilder.domain.IngredientsEntity;
+import com.conal.dishbuilder.domain.UserEntity;
+import com.conal.dishbuilder.dto.CreateDishRequest;
+import com.conal.dishbuilder.dto.UpdateDishRequest;
+import com.conal.dishbuilder.repository.DishRepository;
+import com.conal.dishbuilder.repository.IngredientsRepository;
+import com.conal.dishbuilder.repository.UserRepository;
+import com.conal.dishbuilder.util.TestConstants;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DishValidatorTest {
+
+    @Mock
+    private DishRepository dishRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private IngredientsRepository ingredientsRepository;
+
+    @Mock
+    private Validator validator;
+
+    @InjectMocks
+    private DishValidatorImpl dishValidator;
+
+    private UUID tenantId;
+    private UserEntity userEntity;
+    private IngredientsEntity ingredient1;
+    private IngredientsEntity ingredient2;
+    private CreateDishRequest createRequest;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = TestConstants.TEST_TENANT_ID;
+
+        userEntity = UserEntity.builder()
+                .id(TestConstants.TEST_USER_ID)
+                .username(TestConstants.TEST_USERNAME)
+                .tenantId(tenantId)
+                .build();
+
+        ingredient1 = IngredientsEntity.builder()
+                .id(TestConstants.TEST_INGREDIENT_ID_1)
+                .name("Ingredient 1")
+                .price(new BigDecimal("5.00"))
+                .tenantId(tenantId)
+                .build();
+
+        ingredient2 = IngredientsEntity.builder()
+                .id(TestConstants.TEST_INGREDIENT_ID_2)
+                .name("Ingredient 2")
+                .price(new BigDecimal("7.50"))
+                .tenantId(tenantId)
+                .build();
+
+        createRequest = new CreateDishRequest();
+        createRequest.setName(TestConstants.TEST_DISH_NAME);
+        createRequest.setDescription(TestConstants.TEST_DISH_DESCRIPTION);
+        createRequest.setUserId(TestConstants.TEST_USER_ID);
+    }
+
+    @Test
+    void validateCreateDish_ShouldResolveReferencesWithOneQueryEach() {
+        // Given
+        try (MockedStatic<TenantContextHolder> mockedStatic = mockStatic(TenantContextHolder.class)) {
+            mockedStatic.when(TenantContextHolder::getTenantContext).thenReturn(tenantId);
+
+            // Duplicate ids are collapsed and the request order is kept
+            createRequest.setIngredientIds(List.of(ingredient2.getId(), ingredient1.getId(), ingredient2.getId()));
+            when(validator.validate(createRequest)).thenReturn(Collections.emptySet());
+            when(dishRepository.existsByNameAndTenantId(TestConstants.TEST_DISH_NAME, tenantId)).thenReturn(false);
+            when(userRepository.findByIdAndTenantId(TestConstants.TEST_USER_ID, tenantId)).thenReturn(Optional.of(userEntity));
+            when(ingredientsRepository.findAllByIdInAndTenantId(Set.of(ingredient1.getId(), ingredient2.getId()), tenantId))
+                    .thenReturn(List.of(ingredient1, ingredient2));
+
+            // When
+            DishValidationResult result = dishValidator.validateCreateDish(createRequest);
+
+            // Then
+            assertFalse(result.hasErrors());
+            assertSame(userEntity, result.user());
+            assertEquals(List.of(ingredient2, ingredient1), result.ingredients());
+            verify(ingredientsRepository, times(1)).findAllByIdInAndTenantId(any(), any());
+            verify(ingredientsRepository, never()).findById(any());
+            verify(userRepository, never()).findById(any());
+        }
+    }
+
+    @Test
+    void validateCreateDish_ShouldReportMissingAndForeignIds() {
+        // Given
+        try (MockedStatic<TenantContextHolder> mockedStatic = mockStatic(TenantContextHolder.class)) {
+            mockedStatic.when(TenantContextHolder::getTenantContext).thenReturn(tenantId);
+
+            UUID foreignIngredientId = UUID.randomUUID();
+            createRequest.setIngredientIds(List.of(ingredient1.getId(), foreignIngredientId));
+            when(validator.validate(createRequest)).thenReturn(Collections.emptySet());
+            when(dishRepository.existsByNameAndTenantId(TestConstants.TEST_DISH_NAME, tenantId)).thenReturn(false);
+            when(userRepository.findByIdAndTenantId(TestConstants.TEST_USER_ID, tenantId)).thenReturn(Optional.empty());
+            when(ingredientsRepository.findAllByIdInAndTenantId(any(), any())).thenReturn(List.of(ingredient1));
+
+            // When
+            DishValidationResult result = dishValidator.validateCreateDish(createRequest);
+
+            // Then
+            assertTrue(result.hasErrors());
+            assertEquals(2, result.errors().size());
+            assertEquals("userId", result.errors().get(0).getField());
+            assertEquals("ingredientIds", result.errors().get(1).getField());
+            assertEquals(foreignIngredientId.toString(), result.errors().get(1).getRejectedValue());
+            assertNull(result.user());
+        }
+    }
+
+    @Test
+    void validateCreateDishes_ShouldQueryOncePerReferenceTypeAndRejectDuplicateNames() {
+        // Given
+        try (MockedStatic<TenantContextHolder> mockedStatic = mockStatic(TenantContextHolder.class)) {
+            mockedStatic.when(TenantContextHolder::getTenantContext).thenReturn(tenantId);
+
+            createRequest.setIngredientIds(List.of(ingredient1.getId()));
+            CreateDishRequest sameName = new CreateDishRequest();
+            sameName.setName(" " + TestConstants.TEST_DISH_NAME + " ");
+            sameName.setIngredientIds(List.of(ingredient2.getId()));
+            CreateDishRequest existingName = new CreateDishRequest();
+            existingName.setName("Pho");
+            existingName.setUserId(TestConstants.TEST_USER_ID);
+            when(validator.validate(any())).thenReturn(Collections.emptySet());
+            when(dishRepository.findExistingNames(Set.of(TestConstants.TEST_DISH_NAME, "Pho"), tenantId)).thenReturn(Set.of("Pho"));
+            when(userRepository.findAllByIdInAndTenantId(Set.of(TestConstants.TEST_USER_ID), tenantId)).thenReturn(List.of(userEntity));
+            when(ingredientsRepository.findAllByIdInAndTenantId(Set.of(ingredient1.getId(), ingredient2.getId()), tenantId))
+                    .thenReturn(List.of(ingredient1, ingredient2));
+
+            // When
+            List<DishValidationResult> results = dishValidator.validateCreateDishes(List.of(createRequest, sameName, existingName));
+
+            // Then
+            assertFalse(results.get(0).hasErrors());
+            assertSame(userEntity, results.get(0).user());
+            assertEquals(List.of(ingredient1), results.get(0).ingredients());
+            assertEquals("name", results.get(1).errors().get(0).getField());
+            assertEquals(List.of(ingredient2), results.get(1).ingredients());
+            assertEquals("name", results.get(2).errors().get(0).getField());
+            assertSame(userEntity, results.get(2).user());
+            verify(dishRepository, never()).existsByNameAndTenantId(any(), any());
+            verify(userRepository, never()).findByIdAndTenantId(any(), any());
+            verify(ingredientsRepository, times(1)).findAllByIdInAndTenantId(any(), any());
+        }
+    }
+
+    @Test
+    void validateUpdateDishes_ShouldOnlyCheckChangedNames() {
+        // Given
+        try (MockedStatic<TenantContextHolder> mockedStatic = mockStatic(TenantContextHolder.class)) {
+            mockedStatic.when(TenantContextHolder::getTenantContext).thenReturn(tenantId);
+
+            DishEntity unchanged = DishEntity.builder().id(UUID.randomUUID()).name(TestConstants.TEST_DISH_NAME).tenantId(tenantId).build();
+            DishEntity renamed = DishEntity.builder().id(UUID.randomUUID()).name("Old").tenantId(tenantId).build();
+            UpdateDishRequest keepName = new UpdateDishRequest();
+            keepName.setName(TestConstants.TEST_DISH_NAME);
+            UpdateDishRequest rename = new UpdateDishRequest();
+            rename.setName("Pho");
+            rename.setVat(new BigDecimal("-1"));
+            when(validator.validate(any())).thenReturn(Collections.emptySet());
+            when(dishRepository.findExistingNames(Set.of("Pho"), tenantId)).thenReturn(Set.of());
+
+            // When
+            List<DishValidationResult> results = dishValidator.validateUpdateDishes(List.of(keepName, rename), List.of(unchanged, renamed));
+
+            // Then
+            assertFalse(results.get(0).hasErrors());
+            assertEquals(1, results.get(1).errors().size());
+            assertEquals("vat", results.get(1).errors().get(0).getField());
+            verifyNoInteractions(userRepository, ingredientsRepository);
+        }
+    }
+}